@@ -58,6 +58,7 @@ public class ProxyRequestInterface {
 	@SneakyThrows
 	public void requestToProviderForPCFValue(String productId, StringBuilder reponseMap, String requestId, String message,
 			QueryDataOfferModel dataset, boolean isRequestToNonexistingTwin) {
+		EDRCachedByIdResponse edrToken = null;
 		try {
 			String connectorOfferUrl = dataset.getConnectorOfferUrl();
 			String pcfProductPath = "";
@@ -69,7 +70,7 @@ public class ProxyRequestInterface {
 				}
 			}
 			
-			EDRCachedByIdResponse edrToken = edcAssetUrlCacheService.verifyAndGetToken(dataset.getConnectorId(),
+			edrToken = edcAssetUrlCacheService.verifyAndGetToken(dataset.getConnectorId(),
 					dataset);
 
 			if (!reponseMap.isEmpty())
@@ -100,6 +101,7 @@ public class ProxyRequestInterface {
 				reponseMap.append(errorMsg);
 			}
 		} catch (FeignException e) {
+			edcAssetUrlCacheService.invalidateTokenIfRejected(e, edrToken);
 			log.error(LogUtil.encode("FeignRequest requestToProviderForPCFValue:" + e.request()));
 			String error= StringUtils.isBlank(e.contentUTF8()) ? e.getMessage() : e.contentUTF8();
 			String errorMsg= "Unable to request to provider '"+ dataset.getConnectorOfferUrl()+"' for '"+productId+"' product PCF value beacuse error in remote service execution";
@@ -138,8 +140,9 @@ public class ProxyRequestInterface {
 			QueryDataOfferModel dtOffer, PCFRequestStatusEnum status, String message,
 			boolean isNeedToSendRequestIdtoConsumer) {
 		String sendNotificationStatus = "";
+		EDRCachedByIdResponse edrToken = null;
 		try {
-			EDRCachedByIdResponse edrToken = edcAssetUrlCacheService.verifyAndGetToken(bpnNumber, dtOffer);
+			edrToken = edcAssetUrlCacheService.verifyAndGetToken(bpnNumber, dtOffer);
 
 			if (edrToken != null) {
 
@@ -165,6 +168,7 @@ public class ProxyRequestInterface {
 				sendNotificationStatus = warn;
 			}
 		} catch (FeignException e) {
+			edcAssetUrlCacheService.invalidateTokenIfRejected(e, edrToken);
 			log.error("FeignRequest:" + e.request());
 			String errorMsg = "Unable to send notification to consumer because: "
 					+ (StringUtils.isBlank(e.contentUTF8()) ? e.getMessage() : e.contentUTF8());
@@ -0,0 +1,158 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.edc.api.ContractOfferCatalogApi;
+import org.eclipse.tractusx.sde.edc.facilitator.AbstractEDCStepsHelper;
+import org.eclipse.tractusx.sde.edc.model.contractoffers.ContractOfferRequestFactory;
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.eclipse.tractusx.sde.edc.services.CatalogResponseBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+
+/**
+ * Turns a connector catalog into data offers. The catalog is generated from
+ * the submodel schema, with one dataset per asset in the shape the provider
+ * side of sde publishes it, and is answered by an in-memory catalog api, so
+ * that no connector is needed. {@code decodeAndBuildDataOffers} adds the
+ * parsing of the response body, as the feign decoder does it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogResponseBuilderBenchmark {
+
+	private static final String PROVIDER_URL = "https://provider.example.com/api/v1/dsp";
+
+	private static final String PROVIDER_BPN = "BPNL00000000000B";
+
+	@Param({ "10", "200" })
+	private int datasets;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private CatalogResponseBuilder catalogResponseBuilder;
+
+	private CatalogResponseBuilder decodingCatalogResponseBuilder;
+
+	@Setup
+	public void setUp(SubmodelSchemaState submodel) throws Exception {
+		JsonNode catalog = buildCatalog(submodel.getSchema());
+		String catalogBody = objectMapper.writeValueAsString(catalog);
+
+		catalogResponseBuilder = newCatalogResponseBuilder(request -> catalog);
+		decodingCatalogResponseBuilder = newCatalogResponseBuilder(request -> readTree(catalogBody));
+	}
+
+	@Benchmark
+	public List<QueryDataOfferModel> buildDataOffers() {
+		return catalogResponseBuilder.queryOnDataOffers(PROVIDER_URL, PROVIDER_BPN, 0, datasets, null);
+	}
+
+	@Benchmark
+	public List<QueryDataOfferModel> decodeAndBuildDataOffers() {
+		return decodingCatalogResponseBuilder.queryOnDataOffers(PROVIDER_URL, PROVIDER_BPN, 0, datasets, null);
+	}
+
+	private CatalogResponseBuilder newCatalogResponseBuilder(ContractOfferCatalogApi contractOfferCatalogApi) {
+		CatalogResponseBuilder builder = new CatalogResponseBuilder(contractOfferCatalogApi,
+				new ContractOfferRequestFactory());
+		Field protocolPath = ReflectionUtils.findField(AbstractEDCStepsHelper.class, "protocolPath");
+		ReflectionUtils.makeAccessible(protocolPath);
+		ReflectionUtils.setField(protocolPath, builder, "/api/v1/dsp");
+		return builder;
+	}
+
+	private JsonNode buildCatalog(JsonObject schema) {
+		ObjectNode catalog = objectMapper.createObjectNode();
+		catalog.put("@id", "catalog-benchmark");
+		catalog.put("@type", "dcat:Catalog");
+		catalog.put("participantId", PROVIDER_BPN);
+
+		ArrayNode dataset = catalog.putArray("dcat:dataset");
+		for (int i = 0; i < datasets; i++) {
+			String assetId = "urn:uuid:00000000-0000-0000-0000-" + String.format("%012d", i);
+			ObjectNode offer = dataset.addObject();
+			offer.put("@id", assetId);
+			offer.put("@type", "dcat:Dataset");
+			offer.put("id", assetId);
+			offer.put("name", schema.get("title").getAsString());
+			offer.put("description", schema.get("shortDescription").getAsString());
+			offer.put("type", schema.get("semantic_id").getAsString());
+			offer.put("version", schema.get("version").getAsString());
+			offer.put("contenttype", "application/json");
+			offer.put("creationDate", "2024-01-31T10:15:30Z");
+			offer.put("modified", "2024-01-31T10:15:30Z");
+
+			ObjectNode policy = offer.putObject("odrl:hasPolicy");
+			policy.put("@id", assetId + ":policy:" + i);
+			policy.put("@type", "odrl:Offer");
+			ObjectNode permission = policy.putObject("odrl:permission");
+			permission.put("odrl:action", "USE");
+			ArrayNode constraints = permission.putObject("odrl:constraint").putArray("odrl:and");
+			addConstraint(constraints, "cx-policy:FrameworkAgreement", "traceability:1.0");
+			addConstraint(constraints, "cx-policy:UsagePurpose", "cx.core.industrycore:1");
+			addConstraint(constraints, "cx-policy:Membership", "active");
+			policy.putArray("odrl:prohibition");
+			policy.putArray("odrl:obligation");
+		}
+		return catalog;
+	}
+
+	private static void addConstraint(ArrayNode constraints, String leftOperand, String rightOperand) {
+		ObjectNode constraint = constraints.addObject();
+		constraint.put("odrl:leftOperand", leftOperand);
+		constraint.put("odrl:operator", "odrl:eq");
+		constraint.put("odrl:rightOperand", rightOperand);
+	}
+
+	private JsonNode readTree(String body) {
+		try {
+			return objectMapper.readTree(body);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
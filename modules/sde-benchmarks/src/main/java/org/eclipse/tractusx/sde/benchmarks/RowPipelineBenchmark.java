@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RecordProcessUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The steps every uploaded row passes before it is written, on the sample row
+ * of each submodel. {@code csvRow} and {@code jsonRow} are the chains of a CSV
+ * and a JSON upload as GenericSubmodelExecutor runs them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowPipelineBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final RecordProcessUtils recordProcessUtils = new RecordProcessUtils();
+
+	private final CsvParse csvParse = new CsvParse(recordProcessUtils);
+
+	private final JsonRecordFormating jsonRecordFormating = new JsonRecordFormating(recordProcessUtils);
+
+	private final GenerateUrnUUID generateUrnUUID = new GenerateUrnUUID();
+
+	private final JsonRecordValidate jsonRecordValidate = new JsonRecordValidate();
+
+	private SubmodelExecutionContext executionContext;
+
+	private ObjectNode jsonRecord;
+
+	private ObjectNode parsedRecord;
+
+	@Setup
+	public void setUp(SubmodelSchemaState submodel) throws Exception {
+		executionContext = submodel.getExecutionContext();
+		jsonRecord = (ObjectNode) objectMapper.readTree(submodel.getExample().toString());
+		parsedRecord = executionContext.call(() -> generateUrnUUID.run(
+				csvParse.run(submodel.getCsvRow(), objectMapper.createObjectNode(), "benchmark"), "benchmark"));
+		// a sample row which does not validate would only measure the exception
+		executionContext.call(() -> jsonRecordValidate.run(2, parsedRecord));
+	}
+
+	@Benchmark
+	public ObjectNode csvParse(SubmodelSchemaState submodel) {
+		return executionContext
+				.call(() -> csvParse.run(submodel.getCsvRow(), objectMapper.createObjectNode(), "benchmark"));
+	}
+
+	@Benchmark
+	public ObjectNode jsonRecordFormating() {
+		return executionContext.call(() -> jsonRecordFormating.run(2, jsonRecord.deepCopy(), "benchmark"));
+	}
+
+	@Benchmark
+	public ObjectNode generateUrnUUID() {
+		return executionContext.call(() -> generateUrnUUID.run(jsonRecord.deepCopy(), "benchmark"));
+	}
+
+	@Benchmark
+	public boolean jsonRecordValidate() {
+		return executionContext.call(() -> jsonRecordValidate.run(2, parsedRecord));
+	}
+
+	@Benchmark
+	public boolean csvRow(SubmodelSchemaState submodel) {
+		return executionContext.call(() -> {
+			ObjectNode rowjObject = csvParse.run(submodel.getCsvRow(), objectMapper.createObjectNode(), "benchmark");
+			return jsonRecordValidate.run(2, generateUrnUUID.run(rowjObject, "benchmark"));
+		});
+	}
+
+	@Benchmark
+	public boolean jsonRow() {
+		return executionContext.call(() -> {
+			ObjectNode rowjObject = jsonRecordFormating.run(2, jsonRecord.deepCopy(), "benchmark");
+			return jsonRecordValidate.run(2, generateUrnUUID.run(rowjObject, "benchmark"));
+		});
+	}
+}
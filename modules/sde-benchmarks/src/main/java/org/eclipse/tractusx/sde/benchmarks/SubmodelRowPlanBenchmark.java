@@ -0,0 +1,147 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.tractusx.sde.common.constants.CommonConstants;
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RecordProcessUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Compares the CSV row parsing which walked the Gson schema for every row with
+ * the pre-computed SubmodelRowPlan that CsvParse uses, on the sample row of
+ * each submodel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmodelRowPlanBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final CsvParse csvParse = new CsvParse(new RecordProcessUtils());
+
+	@Benchmark
+	public ObjectNode schemaWalkPerRow(SubmodelSchemaState submodel) {
+		return legacyCsvParse(submodel.getSchema(), submodel.getCsvRow(), objectMapper.createObjectNode());
+	}
+
+	@Benchmark
+	public ObjectNode rowPlan(SubmodelSchemaState submodel) {
+		return submodel.getExecutionContext()
+				.call(() -> csvParse.run(submodel.getCsvRow(), objectMapper.createObjectNode(), "benchmark"));
+	}
+
+	// CsvParse.run before the row plan was introduced
+	private static ObjectNode legacyCsvParse(JsonObject submodelSchema, RowData rowData, ObjectNode rowjObject) {
+		JsonObject items = submodelSchema.get("items").getAsJsonObject();
+		JsonObject submodelProperties = items.get("properties").getAsJsonObject();
+		JsonArray submodelRequiredFields = items.get("required").getAsJsonArray();
+		JsonObject submodelDependentRequiredFields = items.get("dependentRequired").getAsJsonObject();
+		Set<String> fields = submodelProperties.keySet();
+
+		String[] rowDataFields = rowData.content().split(CommonConstants.SEPARATOR, -1);
+
+		int colomnIndex = 0;
+		for (String ele : fields) {
+			JsonObject jObject = submodelProperties.get(ele).getAsJsonObject();
+			String fieldValue = rowDataFields[colomnIndex];
+
+			boolean isNotNeedToRemoveFromFields = isFieldEnumDataExpect(jObject)
+					&& (submodelRequiredFields.contains(JsonParser.parseString(ele))
+							|| isDependentField(ele, submodelDependentRequiredFields));
+
+			setFieldValue(rowjObject, ele, jObject, fieldValue, isNotNeedToRemoveFromFields);
+			colomnIndex++;
+		}
+		return rowjObject;
+	}
+
+	// RecordProcessUtils.setFieldValue before the row plan was introduced
+	private static void setFieldValue(ObjectNode rowjObject, String ele, JsonObject jObject, String fieldValue,
+			boolean isNotNeedToRemoveFromFields) {
+
+		if (fieldValue != null)
+			fieldValue = fieldValue.trim();
+
+		if (isNotNeedToRemoveFromFields && StringUtils.isBlank(fieldValue)) {
+			rowjObject.remove(ele);
+		} else if (isNumberTypeField(jObject)) {
+			if (StringUtils.isBlank(fieldValue))
+				rowjObject.putNull(ele);
+			else
+				rowjObject.put(ele, Double.parseDouble(fieldValue));
+		} else if (isDateFormatField(jObject)) {
+			if (StringUtils.isBlank(fieldValue))
+				rowjObject.putNull(ele);
+			else
+				rowjObject.put(ele, fieldValue.toUpperCase().endsWith("Z") ? fieldValue : fieldValue + "Z");
+		} else {
+			rowjObject.put(ele, fieldValue);
+		}
+	}
+
+	private static boolean isDateFormatField(JsonObject jObject) {
+		return jObject.get("format") != null && "date-time".equals(jObject.get("format").getAsString());
+	}
+
+	private static boolean isNumberTypeField(JsonObject jObject) {
+		JsonElement jsonElement = JsonParser.parseString("number");
+		if (jObject.get("type") != null && jObject.get("type").isJsonArray()) {
+			JsonArray types = jObject.get("type").getAsJsonArray();
+			return types.contains(jsonElement);
+		}
+		return false;
+	}
+
+	private static boolean isFieldEnumDataExpect(JsonObject jObject) {
+		return jObject.get("enum") != null && jObject.get("enum").isJsonArray();
+	}
+
+	private static boolean isDependentField(String fieldName, JsonObject submodelDependentRequiredFields) {
+		Set<String> fields = submodelDependentRequiredFields.keySet();
+		return fields.stream().map(ele -> submodelDependentRequiredFields.get(ele).getAsJsonArray())
+				.filter(ele -> ele.contains(JsonParser.parseString(fieldName))).findFirst().isEmpty();
+	}
+}
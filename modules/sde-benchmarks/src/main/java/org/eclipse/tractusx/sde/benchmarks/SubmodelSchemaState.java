@@ -0,0 +1,114 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.common.constants.CommonConstants;
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
+import org.eclipse.tractusx.sde.common.validators.SubmodelSchemaRegistry;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import lombok.Getter;
+
+/**
+ * The submodel a benchmark runs against. Every schema which is registered by
+ * one of the sde-submodules is a parameter value, the schemas are read from
+ * the class path of the submodule jars, so that no network or database is
+ * needed. The sample row is the {@code examples} entry of the schema.
+ */
+@Getter
+@State(Scope.Benchmark)
+public class SubmodelSchemaState {
+
+	@Param({ "batch-v2.0.0.json", "batch-v3.0.0.json", "part-as-planned.json",
+			"part-site-information-as-planned.json", "part-type-information-v1.0.0.json", "pcf-v6.0.0.json",
+			"serial-part-v1.0.0.json", "serial-part-v3.0.0.json", "single-level-bom-as-built-v1.0.0.json",
+			"single-level-bom-as-built-v3.0.0.json", "single-level-bom-as-planned-v1.0.1.json",
+			"single-level-bom-as-planned-v3.0.0.json", "single-level-usage-as-built-v1.0.1.json",
+			"single-level-usage-as-built-v3.0.0.json" })
+	private String schemaFile;
+
+	private JsonObject schema;
+
+	private Submodel submodel;
+
+	private SubmodelExecutionContext executionContext;
+
+	private JsonObject example;
+
+	private RowData csvRow;
+
+	@Setup
+	public void setUp() throws Exception {
+		try (InputStream input = getClass().getClassLoader().getResourceAsStream(schemaFile)) {
+			if (input == null)
+				throw new IllegalStateException("The schema " + schemaFile + " is not on the class path");
+			try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+				schema = JsonParser.parseReader(reader).getAsJsonObject();
+			}
+		}
+
+		submodel = Submodel.builder().id(schema.get("id").getAsString()).name(schema.get("title").getAsString())
+				.version(schema.get("version").getAsString()).semanticId(schema.get("semantic_id").getAsString())
+				.schema(schema).build();
+		submodel.addProperties("tableName", getTableName());
+
+		SubmodelSchemaRegistry submodelSchemaRegistry = new SubmodelSchemaRegistry();
+		submodelSchemaRegistry.register(schema);
+		executionContext = SubmodelExecutionContext.builder().submodel(submodel)
+				.compiledSchema(submodelSchemaRegistry.getCompiledSchema(schema)).processId("benchmark").build();
+
+		example = schema.get("examples").getAsJsonArray().get(0).getAsJsonObject();
+		csvRow = new RowData(2, toCsvRow(schema.get("items").getAsJsonObject().get("properties").getAsJsonObject(),
+				example));
+	}
+
+	public String getTableName() {
+		return schema.get("id").getAsString().replaceAll("[^A-Za-z0-9]", "_");
+	}
+
+	// the example as CSV row, with the columns in the order of the schema properties
+	private static String toCsvRow(JsonObject properties, JsonObject example) {
+		List<String> values = new ArrayList<>();
+		for (Map.Entry<String, JsonElement> property : properties.entrySet()) {
+			JsonElement value = example.get(property.getKey());
+			values.add(value == null || value.isJsonNull() ? "" : value.getAsString());
+		}
+		return String.join(CommonConstants.SEPARATOR, values);
+	}
+}
@@ -0,0 +1,97 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
+import org.eclipse.tractusx.sde.core.utils.SubmoduleUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The SQL which SubmodelCustomHistoryGenerator builds for the table of each
+ * submodel, with the columns and keys SubmodelRegistration passes it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmodelSqlBenchmark {
+
+	private JsonObject schema;
+
+	private String tableName;
+
+	private List<String> columns;
+
+	private String pkColumn;
+
+	// null unless the submodel defines databaseIdentifierSpecs
+	private List<String> uniqueColumns;
+
+	private List<String> databaseIdentifierColumns;
+
+	@Setup
+	public void setUp(SubmodelSchemaState submodel) {
+		schema = submodel.getSchema();
+		tableName = submodel.getTableName();
+		columns = new SubmoduleUtility().getTableColomnHeader(submodel.getSubmodel());
+
+		JsonObject addOn = schema.get("addOn").getAsJsonObject();
+		pkColumn = extractExactFieldName(addOn.get("identifier").getAsString());
+		JsonElement databaseIdentifierSpecs = addOn.get("databaseIdentifierSpecs");
+		if (databaseIdentifierSpecs != null && !databaseIdentifierSpecs.isJsonNull())
+			uniqueColumns = databaseIdentifierSpecs.getAsJsonArray().asList().stream()
+					.map(ele -> extractExactFieldName(ele.getAsString())).toList();
+		databaseIdentifierColumns = uniqueColumns == null ? List.of(pkColumn) : uniqueColumns;
+	}
+
+	@Benchmark
+	public String upsertQuery() {
+		return SubmodelCustomHistoryGenerator.buildUpsertQuery(columns, tableName, databaseIdentifierColumns);
+	}
+
+	@Benchmark
+	public String createTableQuery() {
+		return SubmodelCustomHistoryGenerator.buildCreateTableQuery(schema, columns, tableName, pkColumn,
+				uniqueColumns);
+	}
+
+	private static String extractExactFieldName(String str) {
+		return str.startsWith("${") ? str.replace("${", "").replace("}", "").trim() : str;
+	}
+}
@@ -0,0 +1,84 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.common.configuration.properties.SDEConfigurationProperties;
+import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
+import org.eclipse.tractusx.sde.core.submodel.executor.step.SubmoduleResponseHandler;
+import org.eclipse.tractusx.sde.core.utils.SubmoduleUtility;
+import org.eclipse.tractusx.sde.core.utils.ValueReplacerUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Maps a stored row of each submodel to the csv and json response, the work
+ * done for every row of a process report or a twin lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmoduleResponseHandlerBenchmark {
+
+	private SubmoduleResponseHandler submoduleResponseHandler;
+
+	private SubmodelExecutionContext executionContext;
+
+	private JsonObject storedRow;
+
+	@Setup
+	public void setUp(SubmodelSchemaState submodel) {
+		SDEConfigurationProperties sdeConfigurationProperties = new SDEConfigurationProperties();
+		sdeConfigurationProperties.setManufacturerId("BPNL00000000000A");
+		submoduleResponseHandler = new SubmoduleResponseHandler(new ValueReplacerUtility(),
+				new AspectResponseFactory(), sdeConfigurationProperties);
+		executionContext = submodel.getExecutionContext();
+
+		// same shape as SubmodelCustomHistoryGenerator reads it, every column as string
+		storedRow = new JsonObject();
+		for (String column : new SubmoduleUtility().getTableColomnHeader(submodel.getSubmodel())) {
+			JsonElement value = submodel.getExample().get(column);
+			storedRow.addProperty(column, value == null || value.isJsonNull() ? "" : value.getAsString());
+		}
+	}
+
+	@Benchmark
+	public JsonObject mapJsonbjectToFormatedResponse() {
+		return executionContext.call(() -> submoduleResponseHandler.mapJsonbjectToFormatedResponse(storedRow));
+	}
+}
@@ -23,6 +23,7 @@
 package org.eclipse.tractusx.sde.common.enums;
 
 public enum ProgressStatusEnum {
+    QUEUED,
     IN_PROGRESS,
     COMPLETED,
     FAILED,
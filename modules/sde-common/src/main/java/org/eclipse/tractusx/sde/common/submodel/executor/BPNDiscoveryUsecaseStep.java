@@ -19,6 +19,8 @@
  ********************************************************************************/
 package org.eclipse.tractusx.sde.common.submodel.executor;
 
+import java.util.Map;
+
 import org.eclipse.tractusx.sde.common.entities.PolicyModel;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,10 +29,18 @@ import com.google.gson.JsonObject;
 
 public interface BPNDiscoveryUsecaseStep {
 
-	public void init(JsonObject submodelSchema);
-	
 	public JsonNode run(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy);
 
 	public void delete(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId);
 
+	/**
+	 * Completes what the step still has pending for the rows of the process and
+	 * releases what it kept for them, called once all rows of the process were
+	 * processed. Returns the error of every row which failed while doing so, by
+	 * row position, those rows were reported as success by the step chain.
+	 */
+	default Map<Integer, String> finish(String processId) {
+		return Map.of();
+	}
+
 }
@@ -30,8 +30,6 @@ import com.google.gson.JsonObject;
 
 public interface DatabaseUsecaseStep {
 
-	public void init(JsonObject submodelSchema);
-
 	public JsonNode run(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy);
 
 	public void saveSubmoduleWithDeleted(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId);
@@ -43,6 +41,14 @@ public interface DatabaseUsecaseStep {
 	public JsonObject readCreatedTwinsDetails(String uuid);
 
 	public int getUpdatedData(String processId);
+
+	/**
+	 * Writes the buffered records of the process, returns the number of records
+	 * of the process which could not be written.
+	 */
+	default int flush(String processId) {
+		return 0;
+	}
 	
 	default String extractExactFieldName(String str) {
 
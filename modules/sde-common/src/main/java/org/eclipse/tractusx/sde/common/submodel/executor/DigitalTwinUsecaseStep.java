@@ -37,12 +37,17 @@ import com.google.gson.JsonObject;
 
 public interface DigitalTwinUsecaseStep {
 
-	public void init(JsonObject submodelSchema);
-
 	public JsonNode run(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy);
 
 	public void delete(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId);
 
+	/**
+	 * Releases what the step kept for the rows of the process, called once all
+	 * rows of the process were processed.
+	 */
+	default void finish(String processId) {
+	}
+
 	default void addManufactureIdInSpecificAssetIds(Map<String, String> specificAssetIds, String manufacturerId) {
 		specificAssetIds.put(CommonConstants.MANUFACTURER_ID, manufacturerId);
 	}
@@ -28,8 +28,6 @@ import com.google.gson.JsonObject;
 
 public interface EDCUsecaseStep {
 
-	public void init(JsonObject submodelSchema);
-	
 	public JsonNode run(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy);
 
 	public void delete(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId);
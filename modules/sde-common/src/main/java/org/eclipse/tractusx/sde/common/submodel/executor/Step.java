@@ -30,25 +30,25 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class Step {
 
-	@Getter
-	JsonObject submodelSchema;
+	protected SubmodelExecutionContext getExecutionContext() {
+		return SubmodelExecutionContext.current();
+	}
 
-	public void init(JsonObject submodelSchema) {
-		this.submodelSchema = submodelSchema;
+	public JsonObject getSubmodelSchema() {
+		return getExecutionContext().getSubmodelSchema();
 	}
 
 	public String getNameOfModel() {
-		return submodelSchema.get("id").getAsString();
+		return getSubmodelSchema().get("id").getAsString();
 	}
 
 	public JsonObject getSubmodelItems() {
-		return submodelSchema.get("items").getAsJsonObject();
+		return getSubmodelSchema().get("items").getAsJsonObject();
 	}
 
 	public JsonObject getSubmodelProperties() {
@@ -60,39 +60,39 @@ public abstract class Step {
 	}
 
 	public String getIdShortOfModel() {
-		return this.submodelSchema.get("idShort").getAsString();
+		return getSubmodelSchema().get("idShort").getAsString();
 	}
 
 	public String getVersionOfModel() {
-		return this.submodelSchema.get("version").getAsString();
+		return getSubmodelSchema().get("version").getAsString();
 	}
 
 	public String getsemanticIdOfModel() {
-		return this.submodelSchema.get("semantic_id").getAsString();
+		return getSubmodelSchema().get("semantic_id").getAsString();
 	}
 
 	public String getUriPathOfSubmodule() {
-		JsonElement jsonElement = this.submodelSchema.get("submodelUriPath");
+		JsonElement jsonElement = getSubmodelSchema().get("submodelUriPath");
 		return jsonElement == null || jsonElement.isJsonNull() ? "public" : jsonElement.getAsString();
 	}
 	
 	public String getDataPlaneUrlOfSubmodule() {
-		JsonElement jsonElement = this.submodelSchema.get("submodelDataPlaneUrl");
+		JsonElement jsonElement = getSubmodelSchema().get("submodelDataPlaneUrl");
 		return jsonElement == null || jsonElement.isJsonNull() ? "" : jsonElement.getAsString();
 	}
 	
 	public String getSematicIdReferenceOfSubmodule() {
-		JsonElement jsonElement = this.submodelSchema.get("sematicIdReference");
+		JsonElement jsonElement = getSubmodelSchema().get("sematicIdReference");
 		return jsonElement == null || jsonElement.isJsonNull() ? "" : jsonElement.getAsString();
 	}
 	
 	public String getInterfaceNameOfSubmodule() {
-		JsonElement jsonElement = this.submodelSchema.get("interfaceName");
+		JsonElement jsonElement = getSubmodelSchema().get("interfaceName");
 		return jsonElement == null || jsonElement.isJsonNull() ? "" : jsonElement.getAsString();
 	}
 
 	public JsonObject getAddOnOfModel() {
-		return this.submodelSchema.get("addOn").getAsJsonObject();
+		return getSubmodelSchema().get("addOn").getAsJsonObject();
 	}
 
 	public String getIdentifierOfModel() {
@@ -159,11 +159,11 @@ public abstract class Step {
 	}
 
 	public String getSubmodelShortDescriptionOfModel() {
-		return this.submodelSchema.get("shortDescription").getAsString();
+		return getSubmodelSchema().get("shortDescription").getAsString();
 	}
 
 	public String getSubmodelTitleIdOfModel() {
-		return this.submodelSchema.get("title").getAsString();
+		return getSubmodelSchema().get("title").getAsString();
 	}
 
 	public JsonObject getSubmodelDependentRequiredFields() {
@@ -0,0 +1,91 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import java.util.function.Supplier;
+
+import org.eclipse.tractusx.sde.common.entities.PolicyModel;
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.validators.SubmodelSchemaRegistry.CompiledSubmodelSchema;
+
+import com.google.gson.JsonObject;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Everything a submodel job hands to its executor and steps: the submodel, its
+ * compiled schema, the process and the policy of the process. Executors and
+ * steps are singletons shared by all jobs and keep no state of their own; the
+ * executor binds the context to the thread which executes a record, where the
+ * steps resolve it through {@link #current()}.
+ */
+@Getter
+@Builder
+public class SubmodelExecutionContext {
+
+	private static final ThreadLocal<SubmodelExecutionContext> CURRENT = new ThreadLocal<>();
+
+	private final Submodel submodel;
+
+	// only needed by the steps which process records
+	private final CompiledSubmodelSchema compiledSchema;
+
+	private final String processId;
+
+	private final PolicyModel policy;
+
+	public JsonObject getSubmodelSchema() {
+		return submodel.getSchema();
+	}
+
+	public static SubmodelExecutionContext current() {
+		SubmodelExecutionContext context = CURRENT.get();
+		if (context == null)
+			throw new IllegalStateException("No submodel execution context is bound to the current thread");
+		return context;
+	}
+
+	/**
+	 * Runs the action with this context bound to the current thread, a context
+	 * bound before is restored afterwards.
+	 */
+	public <T> T call(Supplier<T> action) {
+		SubmodelExecutionContext previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null)
+				CURRENT.remove();
+			else
+				CURRENT.set(previous);
+		}
+	}
+
+	public void run(Runnable action) {
+		call(() -> {
+			action.run();
+			return null;
+		});
+	}
+}
@@ -22,49 +22,40 @@ package org.eclipse.tractusx.sde.common.submodel.executor;
 
 import java.util.List;
 
-import org.eclipse.tractusx.sde.common.entities.PolicyModel;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
-import org.eclipse.tractusx.sde.common.model.Submodel;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
-import lombok.Getter;
-
+/**
+ * Executes the records of a submodel job. Implementations are shared by all
+ * jobs and keep no state, everything about the job comes with the
+ * {@link SubmodelExecutionContext}.
+ */
 public abstract class SubmodelExecutor {
 
-	protected Submodel submodel;
-
-	@Getter
-	JsonObject submodelSchema;
-
-	public void init(Submodel submodel) {
-		this.submodel = submodel;
-		this.submodelSchema = submodel.getSchema();
-	}
+	public abstract void executeCsvRecord(SubmodelExecutionContext context, RowData rowData, ObjectNode jsonObject);
 
-	public String getNameOfModel() {
-		return this.submodelSchema.get("id").getAsString();
-	}
+	public abstract void executeJsonRecord(SubmodelExecutionContext context, Integer rowIndex, ObjectNode jsonObject);
 
-	public JsonObject getSubmodelItems() {
-		return submodelSchema.get("items").getAsJsonObject();
-	}
+	public abstract List<JsonObject> readCreatedTwinsforDelete(SubmodelExecutionContext context, String refProcessId);
 
-	public abstract void executeCsvRecord(RowData rowData, ObjectNode jsonObject, String processId, PolicyModel policy);
-
-	public abstract void executeJsonRecord(Integer rowIndex, ObjectNode jsonObject, String processId,
-			PolicyModel policy);
+	public abstract List<JsonObject> readCreatedTwinsByProcessId(SubmodelExecutionContext context,
+			String refProcessId);
 
-	public abstract List<JsonObject> readCreatedTwinsforDelete(String refProcessId);
+	public abstract void executeDeleteRecord(SubmodelExecutionContext context, Integer rowIndex,
+			JsonObject jsonObject, String refProcessId);
 
-	public abstract List<JsonObject> readCreatedTwinsByProcessId(String refProcessId);
+	public abstract JsonObject readCreatedTwinsDetails(SubmodelExecutionContext context, String uuid);
 
-	public abstract void executeDeleteRecord(Integer rowIndex, JsonObject jsonObject, String delProcessId,
-			String refProcessId);
+	public abstract int getUpdatedRecordCount(SubmodelExecutionContext context);
 
-	public abstract JsonObject readCreatedTwinsDetails(String uuid);
-
-	public abstract int getUpdatedRecordCount(String processId);
+	/**
+	 * Completes the records of the process which are still buffered, returns the
+	 * number of records which failed while doing so.
+	 */
+	public int flushRecords(SubmodelExecutionContext context) {
+		return 0;
+	}
 
 }
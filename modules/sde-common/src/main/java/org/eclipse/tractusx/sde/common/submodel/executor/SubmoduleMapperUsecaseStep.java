@@ -24,8 +24,6 @@ import com.google.gson.JsonObject;
 
 public interface SubmoduleMapperUsecaseStep {
 
-	public void init(JsonObject submodelSchema);
-	
 	public JsonObject mapJsonbjectToFormatedResponse(JsonObject jsonObject);
 
 }
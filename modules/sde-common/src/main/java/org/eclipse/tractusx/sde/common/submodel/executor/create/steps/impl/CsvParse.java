@@ -20,18 +20,14 @@
 
 package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
 
-import java.util.Set;
-
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.SubmodelRowPlan.Column;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
@@ -45,40 +41,26 @@ public class CsvParse extends Step {
 	@SneakyThrows
 	public ObjectNode run(RowData rowData, ObjectNode rowjObject, String processId) {
 
-		JsonObject submodelProperties = getSubmodelProperties();
-		JsonArray submodelRequiredFields = getSubmodelRequiredFields();
-		JsonObject submodelDependentRequiredFields = getSubmodelDependentRequiredFields();
-		Set<String> fields = submodelProperties.keySet();
+		SubmodelRowPlan rowPlan = getExecutionContext().getCompiledSchema().rowPlan();
 
 		String[] rowDataFields = rowData.content().split(CommonConstants.SEPARATOR, -1);
-		if (rowDataFields.length != fields.size()) {
+		if (rowDataFields.length != rowPlan.size()) {
 			throw new CsvHandlerUseCaseException(rowData.position(),
 					"This row has the wrong amount of fields " + rowDataFields);
 		}
 
-		int colomnIndex = 0;
-		for (String ele : fields) {
-			String fieldValue = null;
+		for (int colomnIndex = 0; colomnIndex < rowPlan.size(); colomnIndex++) {
+			Column column = rowPlan.getColumn(colomnIndex);
+			String fieldValue = rowDataFields[colomnIndex];
 			try {
-				JsonObject jObject = submodelProperties.get(ele).getAsJsonObject();
-
-				fieldValue = rowDataFields[colomnIndex];
-
-				boolean isNotNeedToRemoveFromFields = recordProcessUtils.isFieldEnumDataExpect(jObject)
-						&& (submodelRequiredFields.contains(JsonParser.parseString(ele))
-								|| recordProcessUtils.isDependentField(ele, submodelDependentRequiredFields));
-				
-				recordProcessUtils.setFieldValue(rowjObject, ele, jObject, fieldValue, isNotNeedToRemoveFromFields);
-
-				colomnIndex++;
-
+				recordProcessUtils.setFieldValue(rowjObject, column, fieldValue);
 			} catch (Exception errorMessages) {
 				throw new CsvHandlerUseCaseException(rowData.position(), colomnIndex,
-						ele + ": " + fieldValue + ": " + errorMessages.toString());
+						column.name() + ": " + fieldValue + ": " + errorMessages.toString());
 			}
 		}
 
 		return rowjObject;
 	}
 
-}
\ No newline at end of file
+}
@@ -20,17 +20,13 @@
 
 package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
 
-import java.util.Set;
-
 import org.eclipse.tractusx.sde.common.exception.JsonRecordHandlerUseCaseException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.SubmodelRowPlan.Column;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
@@ -44,32 +40,21 @@ public class JsonRecordFormating extends Step {
 	@SneakyThrows
 	public ObjectNode run(Integer rowIndex, ObjectNode rowjObject, String processId) {
 
-		JsonObject submodelProperties = getSubmodelProperties();
-		JsonArray submodelRequiredFields = getSubmodelRequiredFields();
-		JsonObject submodelDependentRequiredFields = getSubmodelDependentRequiredFields();
-		Set<String> fields = submodelProperties.keySet();
+		SubmodelRowPlan rowPlan = getExecutionContext().getCompiledSchema().rowPlan();
 
-		int colomnIndex = 0;
-		for (String ele : fields) {
+		for (int colomnIndex = 0; colomnIndex < rowPlan.size(); colomnIndex++) {
+			Column column = rowPlan.getColumn(colomnIndex);
 			String fieldValue = null;
 			try {
-				JsonObject jObject = submodelProperties.get(ele).getAsJsonObject();
-
-				JsonNode jsonValuenode = rowjObject.get(ele);
+				JsonNode jsonValuenode = rowjObject.get(column.name());
 				if (jsonValuenode!=null && !jsonValuenode.isNull())
 					fieldValue = jsonValuenode.asText();
 
-				boolean isNotNeedToRemoveFromFields = recordProcessUtils.isFieldEnumDataExpect(jObject)
-						&& (submodelRequiredFields.contains(JsonParser.parseString(ele))
-								|| recordProcessUtils.isDependentField(ele, submodelDependentRequiredFields));
-
-				recordProcessUtils.setFieldValue(rowjObject, ele, jObject, fieldValue, isNotNeedToRemoveFromFields);
-
-				colomnIndex++;
+				recordProcessUtils.setFieldValue(rowjObject, column, fieldValue);
 
 			} catch (Exception errorMessages) {
 				throw new JsonRecordHandlerUseCaseException(rowIndex, colomnIndex,
-						ele + ": " + fieldValue + ":" + errorMessages.toString());
+						column.name() + ": " + fieldValue + ":" + errorMessages.toString());
 			}
 		}
 
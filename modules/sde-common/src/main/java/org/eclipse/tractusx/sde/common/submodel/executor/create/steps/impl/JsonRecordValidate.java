@@ -20,20 +20,17 @@
 
 package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
+import org.eclipse.tractusx.sde.common.validators.SubmodelSchemaRegistry.CompiledSubmodelSchema;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 
 import lombok.SneakyThrows;
@@ -41,14 +38,12 @@ import lombok.SneakyThrows;
 @Component
 public class JsonRecordValidate extends Step {
 
-	JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909);
-
 	@SneakyThrows
 	public boolean run(Integer rowIndex, JsonNode inputJsonObject) {
 
-		JsonSchema jsonSchema = factory.getSchema(getSubmodelItems().toString());
+		CompiledSubmodelSchema compiledSchema = getExecutionContext().getCompiledSchema();
 
-		Set<ValidationMessage> errors = jsonSchema.validate(inputJsonObject);
+		Set<ValidationMessage> errors = compiledSchema.jsonSchema().validate(inputJsonObject);
 		StringBuilder sb = new StringBuilder();
 		for (ValidationMessage string : errors) {
 			sb.append(string + "\n");
@@ -56,19 +51,18 @@ public class JsonRecordValidate extends Step {
 		if (!sb.isEmpty())
 			throw new ValidationException(String.format("RowPosition: %s | Description: %s", rowIndex, sb.toString()));
 
-		dependentFieldValidation(rowIndex, inputJsonObject);
+		dependentFieldValidation(rowIndex, inputJsonObject, compiledSchema.dependentRequired());
 
 		return true;
 
 	}
 
-	private void dependentFieldValidation(Integer rowIndex, JsonNode inputJsonObject) {
+	private void dependentFieldValidation(Integer rowIndex, JsonNode inputJsonObject,
+			Map<String, List<String>> dependentRequired) {
 
-		JsonObject submodelProperties = getSubmodelDependentRequiredFields();
-		Set<String> fields = submodelProperties.keySet();
-		for (String ele : fields) {
+		for (Map.Entry<String, List<String>> entry : dependentRequired.entrySet()) {
+			String ele = entry.getKey();
 			try {
-				JsonArray jArray = submodelProperties.get(ele).getAsJsonArray();
 				JsonNode jsonNode = inputJsonObject.get(ele);
 
 				String keyFiledValue = null;
@@ -76,7 +70,7 @@ public class JsonRecordValidate extends Step {
 					keyFiledValue = jsonNode.asText();
 
 				if (!StringUtils.isBlank(keyFiledValue)) {
-					validateDependentFieldValue(inputJsonObject, ele, jArray);
+					validateDependentFieldValue(inputJsonObject, ele, entry.getValue());
 				}
 
 			} catch (Exception e) {
@@ -86,16 +80,16 @@ public class JsonRecordValidate extends Step {
 		}
 	}
 
-	private void validateDependentFieldValue(JsonNode inputJsonObject, String ele, JsonArray jArray) {
-		for (JsonElement dependentField : jArray) {
-			JsonNode jsonNodeField = inputJsonObject.get(dependentField.getAsString());
+	private void validateDependentFieldValue(JsonNode inputJsonObject, String ele, List<String> dependentFields) {
+		for (String dependentField : dependentFields) {
+			JsonNode jsonNodeField = inputJsonObject.get(dependentField);
 
 			String dependentFiledValue = null;
 			if (!jsonNodeField.isNull())
 				dependentFiledValue = jsonNodeField.asText();
 
 			if (StringUtils.isBlank(dependentFiledValue))
-				throw new ValidationException(ele + " field is dependent on " + dependentField.getAsString()
+				throw new ValidationException(ele + " field is dependent on " + dependentField
 						+ ", and dependent field is null or empty");
 		}
 	}
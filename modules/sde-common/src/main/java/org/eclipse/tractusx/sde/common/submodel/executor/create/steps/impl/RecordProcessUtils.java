@@ -20,70 +20,42 @@
 
 package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
 
-import java.util.Set;
-
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.SubmodelRowPlan.Column;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 @Component
 public class RecordProcessUtils {
 
-	public void setFieldValue(ObjectNode rowjObject, String ele, JsonObject jObject, String fieldValue,
-			boolean isNotNeedToRemoveFromFields) {
+	public void setFieldValue(ObjectNode rowjObject, Column column, String fieldValue) {
 
+		String ele = column.name();
 		if (fieldValue != null)
 			fieldValue = fieldValue.trim();
 
-		if (isNotNeedToRemoveFromFields && StringUtils.isBlank(fieldValue)) {
+		if (column.removeIfBlank() && StringUtils.isBlank(fieldValue)) {
 			// no need to add null field if enum data expected and field is not require
 			rowjObject.remove(ele);
-		} else if (isNumberTypeField(jObject)) {
+			return;
+		}
+
+		switch (column.type()) {
+		case NUMBER:
 			if (StringUtils.isBlank(fieldValue))
 				rowjObject.putNull(ele);
 			else
 				rowjObject.put(ele, Double.parseDouble(fieldValue));
-		} else if (isDateFormatField(jObject)) {
+			break;
+		case DATE_TIME:
 			if (StringUtils.isBlank(fieldValue))
 				rowjObject.putNull(ele);
 			else
 				rowjObject.put(ele, fieldValue.toUpperCase().endsWith("Z") ? fieldValue : fieldValue + "Z");
-		} else {
+			break;
+		default:
 			rowjObject.put(ele, fieldValue);
 		}
-
 	}
-
-	private boolean isDateFormatField(JsonObject jObject) {
-		return jObject.get("format") != null && "date-time".equals(jObject.get("format").getAsString());
-	}
-
-	private boolean isNumberTypeField(JsonObject jObject) {
-		JsonElement jsonElement = JsonParser.parseString("number");
-		if (jObject.get("type") != null && jObject.get("type").isJsonArray()) {
-			JsonArray types = jObject.get("type").getAsJsonArray();
-			return types.contains(jsonElement);
-		}
-		return false;
-
-	}
-
-	public boolean isFieldEnumDataExpect(JsonObject jObject) {
-		return jObject.get("enum") != null && jObject.get("enum").isJsonArray();
-	}
-
-	public boolean isDependentField(String fieldName, JsonObject submodelDependentRequiredFields) {
-		Set<String> fields = submodelDependentRequiredFields.keySet();
-		return fields.stream().map(ele -> {
-			return submodelDependentRequiredFields.get(ele).getAsJsonArray();
-		}).filter(ele -> {
-			return ele.contains(JsonParser.parseString(fieldName));
-		}).findFirst().isEmpty();
-	}
-
 }
@@ -0,0 +1,126 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Column descriptors of a submodel, derived once from the {@code items}
+ * section of the submodel schema so that parsing a row does not need to look
+ * at the Gson schema any more. Columns are in the order of the schema
+ * properties, which is the order of the CSV columns.
+ */
+public class SubmodelRowPlan {
+
+	public enum ColumnType {
+		NUMBER, DATE_TIME, STRING
+	}
+
+	/**
+	 * @param enumExpected the schema restricts the field to enum values
+	 * @param required     the field is listed in {@code required}
+	 * @param dependent    another field requires this one via
+	 *                     {@code dependentRequired}
+	 */
+	public record Column(int index, String name, ColumnType type, boolean enumExpected, boolean required,
+			boolean dependent) {
+
+		/**
+		 * A blank enum field is left out of the record instead of being set to null,
+		 * unless another field requires it via {@code dependentRequired} and it is
+		 * not required itself.
+		 */
+		public boolean removeIfBlank() {
+			return enumExpected && (required || !dependent);
+		}
+	}
+
+	private final Column[] columns;
+
+	private SubmodelRowPlan(Column[] columns) {
+		this.columns = columns;
+	}
+
+	public static SubmodelRowPlan compile(JsonObject submodelItems) {
+
+		JsonObject properties = submodelItems.get("properties").getAsJsonObject();
+		Set<String> requiredFields = toStringSet(submodelItems.get("required"));
+
+		Set<String> dependentFields = new HashSet<>();
+		JsonElement dependentRequired = submodelItems.get("dependentRequired");
+		if (dependentRequired != null && !dependentRequired.isJsonNull()) {
+			for (Map.Entry<String, JsonElement> entry : dependentRequired.getAsJsonObject().entrySet())
+				dependentFields.addAll(toStringSet(entry.getValue()));
+		}
+
+		Column[] columns = new Column[properties.size()];
+		int index = 0;
+		for (Map.Entry<String, JsonElement> property : properties.entrySet()) {
+			String name = property.getKey();
+			JsonObject fieldSchema = property.getValue().getAsJsonObject();
+			columns[index] = new Column(index, name, getColumnType(fieldSchema), isEnumExpected(fieldSchema),
+					requiredFields.contains(name), dependentFields.contains(name));
+			index++;
+		}
+		return new SubmodelRowPlan(columns);
+	}
+
+	public int size() {
+		return columns.length;
+	}
+
+	public Column getColumn(int index) {
+		return columns[index];
+	}
+
+	private static ColumnType getColumnType(JsonObject fieldSchema) {
+		// a number type takes precedence over the date-time format
+		JsonElement type = fieldSchema.get("type");
+		if (type != null && type.isJsonArray() && toStringSet(type).contains("number"))
+			return ColumnType.NUMBER;
+
+		JsonElement format = fieldSchema.get("format");
+		if (format != null && "date-time".equals(format.getAsString()))
+			return ColumnType.DATE_TIME;
+
+		return ColumnType.STRING;
+	}
+
+	private static boolean isEnumExpected(JsonObject fieldSchema) {
+		return fieldSchema.get("enum") != null && fieldSchema.get("enum").isJsonArray();
+	}
+
+	private static Set<String> toStringSet(JsonElement jsonElement) {
+		Set<String> values = new HashSet<>();
+		if (jsonElement != null && jsonElement.isJsonArray()) {
+			for (JsonElement value : (JsonArray) jsonElement)
+				if (!value.isJsonNull())
+					values.add(value.getAsString());
+		}
+		return values;
+	}
+}
@@ -0,0 +1,138 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access tokens of the client registrations of the outbound Feign clients,
+ * one token per registration. A valid token is read without locking. Once
+ * the token is within {@code sde.access-token.refresh-ahead-ms} of its expiry
+ * one caller fetches the next token while the others keep using the current
+ * one; a token within {@code sde.access-token.min-validity-ms} of its expiry is
+ * not handed out any more and all callers wait for the one fetch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenManager {
+
+	private final TokenUtility tokenUtility;
+
+	@Value("${sde.access-token.refresh-ahead-ms:60000}")
+	private long refreshAheadMillis;
+
+	@Value("${sde.access-token.min-validity-ms:40000}")
+	private long minValidityMillis;
+
+	private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+	private record CachedToken(String accessToken, long expiresAt) {
+	}
+
+	private static class Registration {
+
+		private volatile CachedToken current;
+
+		private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+	}
+
+	/**
+	 * Returns the access token of the registration, the token fetcher is called
+	 * when there is no token yet or the current one is about to expire.
+	 */
+	public String getToken(String registrationId, Supplier<String> tokenFetcher) {
+		Registration registration = registrations.computeIfAbsent(registrationId, id -> new Registration());
+
+		CachedToken current = registration.current;
+		long now = System.currentTimeMillis();
+		if (current != null && now < current.expiresAt() - refreshAheadMillis)
+			return current.accessToken();
+
+		boolean isUsable = current != null && now < current.expiresAt() - minValidityMillis;
+
+		CompletableFuture<CachedToken> fetch = new CompletableFuture<>();
+		CompletableFuture<CachedToken> running = registration.inFlight.compareAndExchange(null, fetch);
+		if (running != null) {
+			// another caller fetches the next token already
+			return isUsable ? current.accessToken() : join(running);
+		}
+
+		try {
+			// the token may have been replaced since it was read above
+			CachedToken latest = registration.current;
+			if (latest != null && latest != current
+					&& System.currentTimeMillis() < latest.expiresAt() - refreshAheadMillis) {
+				fetch.complete(latest);
+				return latest.accessToken();
+			}
+
+			CachedToken fetched = fetchToken(registrationId, tokenFetcher);
+			registration.current = fetched;
+			fetch.complete(fetched);
+			return fetched.accessToken();
+		} catch (RuntimeException e) {
+			fetch.completeExceptionally(e);
+			if (isUsable) {
+				log.warn("Unable to refresh the access token of " + registrationId
+						+ " ahead of its expiry, using the current one: " + e.getMessage());
+				return current.accessToken();
+			}
+			throw e;
+		} finally {
+			registration.inFlight.set(null);
+		}
+	}
+
+	public void invalidate(String registrationId) {
+		Registration registration = registrations.get(registrationId);
+		if (registration != null)
+			registration.current = null;
+	}
+
+	private CachedToken fetchToken(String registrationId, Supplier<String> tokenFetcher) {
+		String accessToken = tokenFetcher.get();
+		long expiresAt = tokenUtility.getTokenExpiry(accessToken);
+		log.debug("Fetched the access token of " + registrationId + ", valid until " + expiresAt);
+		return new CachedToken(accessToken, expiresAt);
+	}
+
+	private static String join(CompletableFuture<CachedToken> running) {
+		try {
+			return running.join().accessToken();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw e;
+		}
+	}
+}
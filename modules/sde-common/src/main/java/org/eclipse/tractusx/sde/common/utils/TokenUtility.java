@@ -48,6 +48,8 @@ public class TokenUtility {
 	private static final String GRANT_TYPE = "grant_type";
 	private static final String SCOPE = "scope";
 
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
 	private final ITokenUtilityProxy tokenUtilityProxy;
 
 	@SneakyThrows
@@ -108,18 +110,19 @@ public class TokenUtility {
 		}
 	}
 
+	/**
+	 * Returns the expiry of the JWT in epoch milliseconds, 0 if the token has no
+	 * exp claim.
+	 */
 	@SneakyThrows
-	public boolean isTokenValid(String accessToken) {
+	public long getTokenExpiry(String accessToken) {
 		String[] str = accessToken.split("\\.");
 		Base64.Decoder decoder = Base64.getUrlDecoder();
 		String body = new String(decoder.decode(str[1]));
 
-		ObjectMapper mapper = new ObjectMapper();
-		JsonNode actualObj = mapper.readTree(body);
-		long tokenExpirationTime = actualObj.get("exp").asLong() * 1000;
-		long currentTime = System.currentTimeMillis();
-
-		return tokenExpirationTime - 40000 > currentTime;
+		JsonNode actualObj = MAPPER.readTree(body);
+		JsonNode exp = actualObj.get("exp");
+		return exp == null ? 0 : exp.asLong() * 1000;
 	}
 
 }
@@ -0,0 +1,96 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.validators;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.SubmodelRowPlan;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the compiled JSON schema and the row plan of the {@code items} section
+ * of every registered submodel, keyed by submodel id and version. A compiled
+ * {@link JsonSchema} is thread safe, so one instance is shared by all rows of
+ * all processes of that submodel.
+ */
+@Slf4j
+@Component
+public class SubmodelSchemaRegistry {
+
+	private final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909);
+
+	private final Map<String, CompiledSubmodelSchema> compiledSchemas = new ConcurrentHashMap<>();
+
+	public record CompiledSubmodelSchema(JsonSchema jsonSchema, Map<String, List<String>> dependentRequired,
+			SubmodelRowPlan rowPlan) {
+	}
+
+	public void register(JsonObject submodelSchema) {
+		String key = getKey(submodelSchema);
+		compiledSchemas.put(key, compile(submodelSchema));
+		log.info(String.format("Compiled json schema of submodel %s", key));
+	}
+
+	/**
+	 * Returns the compiled schema of the submodel, a submodel which was not
+	 * registered up front is compiled on first use.
+	 */
+	public CompiledSubmodelSchema getCompiledSchema(JsonObject submodelSchema) {
+		return compiledSchemas.computeIfAbsent(getKey(submodelSchema), key -> compile(submodelSchema));
+	}
+
+	private CompiledSubmodelSchema compile(JsonObject submodelSchema) {
+		JsonObject items = submodelSchema.get("items").getAsJsonObject();
+
+		JsonSchema jsonSchema = factory.getSchema(items.toString());
+		jsonSchema.initializeValidators();
+
+		return new CompiledSubmodelSchema(jsonSchema, getDependentRequired(items), SubmodelRowPlan.compile(items));
+	}
+
+	private Map<String, List<String>> getDependentRequired(JsonObject items) {
+		JsonElement dependentRequired = items.get("dependentRequired");
+		if (dependentRequired == null || dependentRequired.isJsonNull())
+			return Map.of();
+
+		Map<String, List<String>> dependentFields = new LinkedHashMap<>();
+		dependentRequired.getAsJsonObject().entrySet()
+				.forEach(entry -> dependentFields.put(entry.getKey(), entry.getValue().getAsJsonArray().asList()
+						.stream().map(JsonElement::getAsString).toList()));
+		return Collections.unmodifiableMap(dependentFields);
+	}
+
+	private String getKey(JsonObject submodelSchema) {
+		return submodelSchema.get("id").getAsString() + ":" + submodelSchema.get("version").getAsString();
+	}
+}
@@ -23,7 +23,7 @@ package org.eclipse.tractusx.sde.configuration.role;
 import java.io.Serializable;
 import java.util.List;
 
-import org.eclipse.tractusx.sde.core.service.RoleManagementService;
+import org.eclipse.tractusx.sde.core.service.RolePermissionIndex;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.core.Authentication;
@@ -36,7 +36,7 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class CustomPermissionEvaluator implements PermissionEvaluator {
 
-	private final RoleManagementService roleManagementService;
+	private final RolePermissionIndex rolePermissionIndex;
 
 	@Override
 	public boolean hasPermission(Authentication auth, Object targetDomainObject, Object permission) {
@@ -63,6 +63,6 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
 		if(list.isEmpty())
 			throw new AccessDeniedException("No access for configured resources");
 		
-		return !roleManagementService.findAll(list, List.of(permissionLs)).isEmpty();
+		return rolePermissionIndex.hasAnyPermission(list, List.of(permissionLs));
 	}
 }
\ No newline at end of file
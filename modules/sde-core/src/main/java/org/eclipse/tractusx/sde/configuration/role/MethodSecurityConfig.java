@@ -20,7 +20,7 @@
 
 package org.eclipse.tractusx.sde.configuration.role;
 
-import org.eclipse.tractusx.sde.core.service.RoleManagementService;
+import org.eclipse.tractusx.sde.core.service.RolePermissionIndex;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
@@ -30,9 +30,9 @@ import org.springframework.security.access.expression.method.MethodSecurityExpre
 public class MethodSecurityConfig  {
 
 	@Bean
-	public MethodSecurityExpressionHandler createExpressionHandler(RoleManagementService roleManagementService) {
+	public MethodSecurityExpressionHandler createExpressionHandler(RolePermissionIndex rolePermissionIndex) {
 		DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
-		expressionHandler.setPermissionEvaluator(new CustomPermissionEvaluator(roleManagementService));
+		expressionHandler.setPermissionEvaluator(new CustomPermissionEvaluator(rolePermissionIndex));
 		return expressionHandler;
 	}
 }
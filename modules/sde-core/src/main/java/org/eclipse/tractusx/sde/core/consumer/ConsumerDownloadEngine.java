@@ -0,0 +1,145 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.core.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.sde.edc.model.request.Offer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Negotiates and downloads data offers on a bounded pool of download threads.
+ *
+ * At most {@code sde.consumer.download.max-concurrent-offers-per-connector}
+ * offers of one connector are in flight at the same time. Results are handed
+ * over to the calling thread through a queue of
+ * {@code sde.consumer.download.queue-capacity} entries as soon as they arrive,
+ * downloads wait while the queue is full. The number of payloads held in
+ * memory is therefore bounded by the concurrency, not by the number of offers.
+ */
+@Slf4j
+@Component
+public class ConsumerDownloadEngine {
+
+	public record OfferDownloadResult<T>(String connectorKey, Offer offer, T response, Exception error) {
+	}
+
+	@Value("${sde.consumer.download.threads:16}")
+	private int downloadThreads;
+
+	@Value("${sde.consumer.download.max-concurrent-offers-per-connector:4}")
+	private int maxConcurrentOffersPerConnector;
+
+	@Value("${sde.consumer.download.queue-capacity:16}")
+	private int queueCapacity;
+
+	private ExecutorService downloadPool;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "sde-consumer-download-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		downloadPool = Executors.newFixedThreadPool(downloadThreads, threadFactory);
+	}
+
+	@PreDestroy
+	public void stop() {
+		downloadPool.shutdownNow();
+	}
+
+	/**
+	 * Downloads all offers and passes each result to the result handler, on the
+	 * calling thread and in the order the downloads complete. Returns when every
+	 * offer was handled; if the result handler fails, the downloads still running
+	 * are cancelled.
+	 */
+	public <T> void download(Map<String, List<Offer>> offersByConnector, Function<Offer, T> downloader,
+			Consumer<OfferDownloadResult<T>> resultHandler) {
+
+		BlockingQueue<OfferDownloadResult<T>> results = new ArrayBlockingQueue<>(queueCapacity);
+		List<Future<?>> downloads = new ArrayList<>();
+		int numberOfOffers = 0;
+
+		for (Map.Entry<String, List<Offer>> connector : offersByConnector.entrySet()) {
+			Queue<Offer> pendingOffers = new ConcurrentLinkedQueue<>(connector.getValue());
+			numberOfOffers += pendingOffers.size();
+
+			int concurrentOffers = Math.min(maxConcurrentOffersPerConnector, pendingOffers.size());
+			for (int i = 0; i < concurrentOffers; i++) {
+				downloads.add(downloadPool
+						.submit(() -> downloadOffers(connector.getKey(), pendingOffers, downloader, results)));
+			}
+		}
+
+		try {
+			for (int handled = 0; handled < numberOfOffers; handled++)
+				resultHandler.accept(results.take());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for data offer downloads", e);
+		} finally {
+			downloads.forEach(download -> download.cancel(true));
+		}
+	}
+
+	private <T> void downloadOffers(String connectorKey, Queue<Offer> pendingOffers, Function<Offer, T> downloader,
+			BlockingQueue<OfferDownloadResult<T>> results) {
+		Offer offer;
+		try {
+			while ((offer = pendingOffers.poll()) != null) {
+				OfferDownloadResult<T> result;
+				try {
+					result = new OfferDownloadResult<>(connectorKey, offer, downloader.apply(offer), null);
+				} catch (Exception e) {
+					log.error(String.format("Download of asset %s failed: %s", offer.getAssetId(), e.getMessage()));
+					result = new OfferDownloadResult<>(connectorKey, offer, null, e);
+				}
+				results.put(result);
+			}
+		} catch (InterruptedException e) {
+			// the download was cancelled
+			Thread.currentThread().interrupt();
+		}
+	}
+}
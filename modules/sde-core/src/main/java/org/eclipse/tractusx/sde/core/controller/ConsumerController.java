@@ -62,7 +62,8 @@ public class ConsumerController {
 			@RequestParam(value = "bpnNumber", required = false) String bpnNumber,
 			@RequestParam(value = "submodel", required = false) String submodel,
 			@RequestParam(value = "maxLimit", required = false) Integer limit,
-			@RequestParam(value = "offset", required = false) Integer offset) throws Exception {
+			@RequestParam(value = "offset", required = false) Integer offset,
+			@RequestParam(value = "withPartnerStatus", required = false, defaultValue = "false") boolean withPartnerStatus) throws Exception {
 		log.info("Request received : /api/query-data-Offers");
 
 		if (StringUtils.isBlank(manufacturerPartId) && StringUtils.isBlank(bpnNumber))
@@ -76,6 +77,10 @@ public class ConsumerController {
 			offset = 0;
 		}
 		
+		if (withPartnerStatus)
+			return ok().body(
+					consumerControlPanelService.queryDataOffers(manufacturerPartId, bpnNumber, submodel, offset, limit));
+
 		return ok().body(
 				consumerControlPanelService.queryOnDataOffers(manufacturerPartId, bpnNumber, submodel, offset, limit));
 	}
@@ -22,6 +22,7 @@
 
 package org.eclipse.tractusx.sde.core.controller;
 
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.notFound;
 import static org.springframework.http.ResponseEntity.ok;
@@ -40,6 +41,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("processing-report")
@@ -84,9 +86,9 @@ public class ProcessReportController {
 
 	@GetMapping(value = "{submodel}/success-details/{id}", produces = APPLICATION_JSON_VALUE)
 	@PreAuthorize("hasPermission('','provider_view_history')")
-	public ResponseEntity<List<List<String>>> getProcessSuccessDetailsReportById(@PathVariable("id") String processId,
-			@PathVariable("submodel") String submodel) {
-		List<List<String>> processDetails = submodelCsvService.findAllSubmodelCsvHistory(submodel, processId);
-		return ok().body(processDetails);
+	public ResponseEntity<StreamingResponseBody> getProcessSuccessDetailsReportById(
+			@PathVariable("id") String processId, @PathVariable("submodel") String submodel) {
+		StreamingResponseBody processDetails = submodelCsvService.streamSubmodelJsonHistory(submodel, processId);
+		return ok().contentType(APPLICATION_JSON).body(processDetails);
 	}
 }
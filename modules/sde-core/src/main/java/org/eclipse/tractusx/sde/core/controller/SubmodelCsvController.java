@@ -31,6 +31,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -55,11 +56,11 @@ public class SubmodelCsvController {
 
 	@GetMapping(value = "/{submodel}/download/{processId}/csv")
 	@PreAuthorize("hasPermission('','provider_download_own_data')")
-	public ResponseEntity<Resource> getDownloadFileByProcessId(@PathVariable("processId") String processId,
-			@PathVariable("submodel") String submodel) {
+	public ResponseEntity<StreamingResponseBody> getDownloadFileByProcessId(
+			@PathVariable("processId") String processId, @PathVariable("submodel") String submodel) {
 
 		String filename = submodel + "_" + processId + CSV_FILE_EXTENSION;
-		return csvUtil.generateCSV(filename, submodelCsvService.findAllSubmodelCsvHistory(submodel, processId));
+		return csvUtil.generateCSV(filename, submodelCsvService.streamSubmodelCsvHistory(submodel, processId));
 	}
 
 }
@@ -22,22 +22,19 @@
 
 package org.eclipse.tractusx.sde.core.csv.service;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 import java.util.UUID;
 
-import org.eclipse.tractusx.sde.common.entities.csv.CsvContent;
-import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvException;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
 import org.springframework.stereotype.Service;
@@ -53,6 +50,7 @@ public class CsvHandlerService {
 
     public static final String CSV_FILE_EXTENSION = ".csv";
     public static final String SEPARATOR = ";";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
     private final Path fileStorageLocation;
 
 
@@ -106,44 +104,27 @@ public class CsvHandlerService {
         }
     }
 
+    /**
+     * Opens the stored csv file for forward-only reading. The header is read
+     * immediately, data rows are read on demand through {@link CsvRowReader#next()}.
+     * Closing the reader deletes the file.
+     */
     @SneakyThrows
-    public CsvContent processFile(String fileName) {
+    public CsvRowReader openFile(String fileName) {
         log.debug(String.format("Start processing '%s.csv' file", fileName));
-        String filePath = getFilePath(fileName);
-        File file = new File(filePath);
-        if (!file.exists()) {
+        Path filePath = Paths.get(getFilePath(fileName));
+        if (!Files.exists(filePath)) {
             throw new CsvException("no such file");
         }
 
-        int numberOfRows = 0;
-        List<String> fileColumns;
-        ArrayList<RowData> rows = new ArrayList<>();
-        CsvContent csvContent = new CsvContent();
-
-        Scanner scanner = new Scanner(file);
-
-        while (scanner.hasNextLine()) {
-            String row = scanner.nextLine();
-
-            if (numberOfRows == 0) {
-                fileColumns = Arrays.stream(row.split(SEPARATOR)).toList();
-                csvContent.setColumns(fileColumns);
-
-            } else {
-                rows.add(new RowData(numberOfRows + 1, row));
-            }
-            numberOfRows++;
-        }
-
-        scanner.close();
-        csvContent.setRows(rows);
-
-        if (deleteFile(fileName)) {
-            log.debug(String.format("File %s deleted", fileName));
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(filePath), StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        try {
+            return new CsvRowReader(fileName, reader, this);
+        } catch (IOException ex) {
+            reader.close();
+            throw new CsvException("Could not read csv file " + fileName, ex);
         }
-
-        log.debug(String.format("File '%s.csv' is fully processed. Total of lines: %s", fileName, numberOfRows));
-        return csvContent;
     }
 
     public boolean deleteFile(String fileName) throws IOException {
@@ -0,0 +1,105 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.csv.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.exception.CsvException;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Forward-only reader over an uploaded CSV file. The header is read eagerly so
+ * it can be validated before processing starts, the data rows are handed out
+ * one by one so that the file is never fully materialised on heap.
+ */
+@Slf4j
+public class CsvRowReader implements Closeable {
+
+	private final String fileName;
+
+	private final BufferedReader reader;
+
+	private final CsvHandlerService csvHandlerService;
+
+	@Getter
+	private final List<String> columns;
+
+	private int numberOfRows;
+
+	private boolean closed;
+
+	CsvRowReader(String fileName, BufferedReader reader, CsvHandlerService csvHandlerService) throws IOException {
+		this.fileName = fileName;
+		this.reader = reader;
+		this.csvHandlerService = csvHandlerService;
+
+		String header = reader.readLine();
+		this.columns = header == null ? List.of() : Arrays.stream(header.split(CsvHandlerService.SEPARATOR)).toList();
+		this.numberOfRows = header == null ? 0 : 1;
+	}
+
+	/**
+	 * Returns the next data row of the file or null once the end of the file is
+	 * reached.
+	 */
+	public RowData next() {
+		try {
+			String row = reader.readLine();
+			if (row == null)
+				return null;
+			numberOfRows++;
+			return new RowData(numberOfRows, row);
+		} catch (IOException e) {
+			throw new CsvException("Unable to read csv file " + fileName, e);
+		}
+	}
+
+	public int getNumberOfDataRows() {
+		return Math.max(numberOfRows - 1, 0);
+	}
+
+	/**
+	 * Closes the underlying reader and deletes the uploaded file, same as after a
+	 * completely processed file.
+	 */
+	@Override
+	public void close() {
+		if (closed)
+			return;
+		closed = true;
+		try {
+			reader.close();
+			if (csvHandlerService.deleteFile(fileName)) {
+				log.debug(String.format("File %s deleted", fileName));
+			}
+		} catch (IOException e) {
+			log.error(String.format("Unable to close/delete file %s, %s", fileName, e.getMessage()));
+		}
+		log.debug(String.format("File '%s.csv' is fully processed. Total of lines: %s", fileName, numberOfRows));
+	}
+}
@@ -23,21 +23,55 @@
 package org.eclipse.tractusx.sde.core.failurelog;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.tractusx.sde.core.failurelog.entity.FailureLogEntity;
-import org.eclipse.tractusx.sde.core.failurelog.repository.FailureLogRepository;
+import org.eclipse.tractusx.sde.core.failurelog.repository.FailureLogBatchRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Failure logs are buffered per process and inserted as one JDBC batch once
+ * {@code sde.failure-log.batch-size} logs are buffered or the oldest buffered
+ * log waited {@code sde.failure-log.batch-max-delay-ms}. A full buffer is
+ * written by the thread which filled it, so a file with many failing rows can
+ * not buffer more than one batch per row thread. {@link #flush(String)}
+ * writes the logs of a process which are still buffered.
+ *
+ * If the database is not reachable the logs stay buffered and are written
+ * again after {@code sde.failure-log.batch-max-delay-ms}, a process buffers at
+ * most {@code sde.failure-log.max-buffered} logs, older logs are dropped.
+ */
 @Service
 @Slf4j
 public class FailureLogs {
 
+	private static final long STALE_BUFFER_MILLIS = TimeUnit.HOURS.toMillis(1);
+
 	@Autowired
-	private FailureLogRepository repository;
+	private FailureLogBatchRepository repository;
+
+	@Value("${sde.failure-log.batch-size:500}")
+	private int batchSize;
+
+	@Value("${sde.failure-log.batch-max-delay-ms:2000}")
+	private long batchMaxDelayMillis;
+
+	@Value("${sde.failure-log.max-buffered:10000}")
+	private int maxBuffered;
+
+	private final Map<String, ProcessFailureLogs> buffers = new ConcurrentHashMap<>();
 
 	public void saveLog(String processId, String error) {
 
@@ -49,6 +83,144 @@ public class FailureLogs {
 				.build();
 
 		log.error("Error in process {}, {}", entity.getProcessId(), entity.getLog());
-		repository.save(entity);
+
+		ProcessFailureLogs buffer = buffers.computeIfAbsent(processId, ProcessFailureLogs::new);
+		boolean isFull;
+		synchronized (buffer) {
+			buffer.add(entity, maxBuffered);
+			isFull = buffer.size() >= batchSize && System.currentTimeMillis() >= buffer.retryTime;
+		}
+		if (isFull)
+			flush(buffer);
+	}
+
+	/**
+	 * Writes the buffered failure logs of the process, returns once all logs
+	 * saved for the process before are in the database.
+	 */
+	public void flush(String processId) {
+		ProcessFailureLogs buffer = buffers.get(processId);
+		if (buffer != null)
+			flush(buffer);
+	}
+
+	@Scheduled(fixedDelayString = "${sde.failure-log.batch-max-delay-ms:2000}")
+	public void flushDelayedLogs() {
+		long now = System.currentTimeMillis();
+		buffers.forEach((processId, buffer) -> {
+			boolean isDue;
+			boolean isStale;
+			synchronized (buffer) {
+				isDue = buffer.size() > 0 && now - buffer.firstLogTime >= batchMaxDelayMillis;
+				isStale = buffer.size() == 0 && now - buffer.lastLogTime >= STALE_BUFFER_MILLIS;
+			}
+			if (isDue && buffer.flushLock.tryLock()) {
+				try {
+					flush(buffer);
+				} finally {
+					buffer.flushLock.unlock();
+				}
+			} else if (isStale) {
+				buffers.remove(processId, buffer);
+			}
+		});
+	}
+
+	private void flush(ProcessFailureLogs buffer) {
+		// drained and written under one lock, so that a flush waits for the logs
+		// another thread is writing at the moment
+		buffer.flushLock.lock();
+		try {
+			List<FailureLogEntity> logs;
+			int dropped;
+			synchronized (buffer) {
+				logs = buffer.drain();
+				dropped = buffer.takeDropped();
+			}
+			if (dropped > 0)
+				log.warn("Dropped the {} oldest failure logs of process {}, more than {} could not be saved", dropped,
+						buffer.processId, maxBuffered);
+			if (!logs.isEmpty())
+				save(buffer, logs);
+		} finally {
+			buffer.flushLock.unlock();
+		}
+	}
+
+	private void save(ProcessFailureLogs buffer, List<FailureLogEntity> logs) {
+		try {
+			List<FailureLogEntity> failedLogs = repository.saveAll(logs);
+			synchronized (buffer) {
+				buffer.retryTime = 0;
+			}
+			failedLogs.forEach(failedLog -> log.error("Unable to save the failure log of process {}, {}",
+					failedLog.getProcessId(), failedLog.getLog()));
+		} catch (Exception e) {
+			// no connection to the database, the logs are written with the next due
+			// flush instead of with the next full batch
+			log.error("Unable to save the failure logs, " + e.getMessage());
+			synchronized (buffer) {
+				buffer.restore(logs, maxBuffered);
+				buffer.retryTime = System.currentTimeMillis() + batchMaxDelayMillis;
+			}
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class ProcessFailureLogs {
+
+		private final String processId;
+
+		private final ReentrantLock flushLock = new ReentrantLock();
+
+		private List<FailureLogEntity> logs = new ArrayList<>();
+
+		private long firstLogTime;
+
+		private long lastLogTime = System.currentTimeMillis();
+
+		private long retryTime;
+
+		private int dropped;
+
+		void add(FailureLogEntity entity, int maxBuffered) {
+			lastLogTime = System.currentTimeMillis();
+			if (logs.isEmpty())
+				firstLogTime = lastLogTime;
+			logs.add(entity);
+			dropOldest(maxBuffered);
+		}
+
+		int size() {
+			return logs.size();
+		}
+
+		void restore(List<FailureLogEntity> failedLogs, int maxBuffered) {
+			List<FailureLogEntity> restored = new ArrayList<>(failedLogs);
+			restored.addAll(logs);
+			logs = restored;
+			firstLogTime = System.currentTimeMillis();
+			dropOldest(maxBuffered);
+		}
+
+		int takeDropped() {
+			int taken = dropped;
+			dropped = 0;
+			return taken;
+		}
+
+		private void dropOldest(int maxBuffered) {
+			if (logs.size() > maxBuffered) {
+				int count = logs.size() - maxBuffered;
+				logs.subList(0, count).clear();
+				dropped += count;
+			}
+		}
+
+		List<FailureLogEntity> drain() {
+			List<FailureLogEntity> drained = logs;
+			logs = new ArrayList<>();
+			return drained;
+		}
 	}
 }
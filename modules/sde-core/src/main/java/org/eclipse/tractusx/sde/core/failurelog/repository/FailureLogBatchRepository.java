@@ -0,0 +1,97 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.failurelog.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.tractusx.sde.core.failurelog.entity.FailureLogEntity;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailureLogBatchRepository {
+
+	private static final String INSERT_QUERY = "INSERT INTO failure_log (uuid, process_id, log, date_time) VALUES (?, ?, ?, ?)";
+
+	private final DataSource dataSource;
+
+	/**
+	 * Inserts the failure logs as one JDBC batch in a single transaction. If the
+	 * batch fails, the logs are inserted one by one and the logs which can not
+	 * be inserted either are returned.
+	 */
+	public List<FailureLogEntity> saveAll(List<FailureLogEntity> failureLogs) throws SQLException {
+		List<FailureLogEntity> failedLogs = new ArrayList<>();
+		try (Connection con = dataSource.getConnection()) {
+			boolean autoCommit = con.getAutoCommit();
+			try (PreparedStatement pmt = con.prepareStatement(INSERT_QUERY)) {
+				con.setAutoCommit(false);
+				for (FailureLogEntity failureLog : failureLogs) {
+					setParameters(pmt, failureLog);
+					pmt.addBatch();
+				}
+				pmt.executeBatch();
+				con.commit();
+			} catch (SQLException e) {
+				con.rollback();
+				log.warn("Batch insert of " + failureLogs.size() + " failure logs failed, retrying one by one, "
+						+ e.getMessage());
+				con.setAutoCommit(true);
+				saveOneByOne(con, failureLogs, failedLogs);
+			} finally {
+				con.setAutoCommit(autoCommit);
+			}
+		}
+		return failedLogs;
+	}
+
+	private void saveOneByOne(Connection con, List<FailureLogEntity> failureLogs, List<FailureLogEntity> failedLogs)
+			throws SQLException {
+		try (PreparedStatement pmt = con.prepareStatement(INSERT_QUERY)) {
+			for (FailureLogEntity failureLog : failureLogs) {
+				try {
+					setParameters(pmt, failureLog);
+					pmt.executeUpdate();
+				} catch (SQLException e) {
+					failedLogs.add(failureLog);
+				}
+			}
+		}
+	}
+
+	private void setParameters(PreparedStatement pmt, FailureLogEntity failureLog) throws SQLException {
+		pmt.setString(1, failureLog.getUuid());
+		pmt.setString(2, failureLog.getProcessId());
+		pmt.setString(3, failureLog.getLog());
+		pmt.setTimestamp(4, Timestamp.valueOf(failureLog.getDateTime()));
+	}
+}
@@ -28,6 +28,7 @@ import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.entities.Policies;
 import org.eclipse.tractusx.sde.common.enums.ProgressStatusEnum;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
 import org.eclipse.tractusx.sde.core.failurelog.mapper.FailureLogMapper;
 import org.eclipse.tractusx.sde.core.failurelog.repository.FailureLogRepository;
 import org.eclipse.tractusx.sde.core.processreport.entity.ProcessReportEntity;
@@ -36,6 +37,7 @@ import org.eclipse.tractusx.sde.core.processreport.model.ProcessFailureDetails;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReportPageResponse;
 import org.eclipse.tractusx.sde.core.processreport.repository.ProcessReportRepository;
+import org.eclipse.tractusx.sde.core.submodel.executor.job.SubmodelJobExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -54,8 +56,10 @@ public class ProcessReportUseCase {
 	private static final String UNKNOWN = "UNKNOWN";
 	private final ProcessReportRepository repository;
 	private final FailureLogRepository failureRepository;
+	private final FailureLogs failureLogs;
 	private final ProcessReportMapper mapper;
 	private final FailureLogMapper logMapper;
+	private final SubmodelJobExecutor submodelJobExecutor;
 
 	
 	@SneakyThrows
@@ -90,6 +94,11 @@ public class ProcessReportUseCase {
 		saveProcessReport(oldProcessReport);
 	}
 
+	public void queueProcessReport(String processId, String type) {
+		saveProcessReport(ProcessReport.builder().processId(processId).csvType(type.toUpperCase())
+				.status(ProgressStatusEnum.QUEUED).startDate(LocalDateTime.now()).build());
+	}
+
 	public void unknownProcessReport(String processId) {
 		LocalDateTime now = LocalDateTime.now();
 		saveProcessReport(ProcessReport.builder().processId(processId).csvType(UNKNOWN).startDate(now).endDate(now)
@@ -104,29 +113,43 @@ public class ProcessReportUseCase {
 	public ProcessReportPageResponse listAllProcessReports(int page, int size) {
 		Page<ProcessReportEntity> result = repository
 				.findAll(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startDate")));
-		List<ProcessReport> processReports = result.get().map(mapper::mapFrom).toList();
+		List<ProcessReport> processReports = result.get().map(mapper::mapFrom).map(this::addJobState).toList();
 		return ProcessReportPageResponse.builder().items(processReports).pageSize(result.getSize())
 				.page(result.getNumber()).totalItems(result.getTotalElements()).build();
 	}
 
 	public ProcessReport getProcessReportById(String id) {
 		Optional<ProcessReportEntity> result = repository.findByProcessId(id);
-		return result.map(mapper::mapFrom).orElse(null);
+		return result.map(mapper::mapFrom).map(this::addJobState).orElse(null);
+	}
+
+	private ProcessReport addJobState(ProcessReport processReport) {
+		if (ProgressStatusEnum.QUEUED.equals(processReport.getStatus()))
+			processReport.setQueuePosition(submodelJobExecutor.getQueuePosition(processReport.getProcessId()));
+		return processReport;
+	}
+
+	public void updateNumberOfItems(String processId, int numberOfItems) {
+		repository.updateNumberOfItems(processId, numberOfItems);
 	}
 
 	public void finishBuildProgressReport(String processId, int successCount, int failedCount, int updatedcount) {
+		// the failure logs of the process are in the database before it is completed
+		failureLogs.flush(processId);
 		repository.finalizeProgressReport(processId, LocalDateTime.now(), ProgressStatusEnum.COMPLETED.toString(),
 				successCount, failedCount,updatedcount);
 
 	}
 
 	public void finishBuildDeleteProgressReport(String processId, int deletedCount, int failedCount) {
+		failureLogs.flush(processId);
 		repository.finalizeProgressDeleteReport(processId, LocalDateTime.now(), ProgressStatusEnum.COMPLETED.toString(),
 				deletedCount, failedCount);
 
 	}
 
 	public List<ProcessFailureDetails> getProcessFailureDetailsReportById(String id) {
+		failureLogs.flush(id);
 		return failureRepository.findByProcessId(id).stream().map(logMapper::mapFrom).toList();
 	}
 }
@@ -28,6 +28,9 @@ import java.util.List;
 import org.eclipse.tractusx.sde.common.entities.Policies;
 import org.eclipse.tractusx.sde.common.enums.ProgressStatusEnum;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,5 +56,8 @@ public class ProcessReport {
     private int numberOfUpdatedItems;
 	private int numberOfDeletedItems;
 	private String referenceProcessId;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Integer queuePosition;
 
 }
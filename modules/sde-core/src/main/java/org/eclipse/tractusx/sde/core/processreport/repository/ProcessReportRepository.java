@@ -71,7 +71,13 @@ public interface ProcessReportRepository extends JpaRepository<ProcessReportEnti
 	void finalizeProgressReport(String processId, LocalDateTime endDate, String status, int successCount,
 			int noOfFailed,long noOfUpdated);
 
-    
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET number_of_items = ?2 " +
+            "WHERE process_id = ?1", nativeQuery = true)
+    void updateNumberOfItems(String processId, int numberOfItems);
+
     @Query("SELECT p FROM ProcessReportEntity p ORDER BY p.startDate DESC")
     Page<ProcessReportEntity> findAll(PageRequest pageRequest);
 }
@@ -23,22 +23,32 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
 import org.eclipse.tractusx.sde.common.utils.JsonObjectUtility;
+import org.eclipse.tractusx.sde.common.utils.LogUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -58,30 +68,67 @@ public class SubmodelCustomHistoryGenerator {
 
 	private final EntityManager entityManager;
 
+	private final DataSource dataSource;
+
 	@Autowired
 	private DataSourceProperties dataSourceProperties;
 
+	@Value("${sde.download.fetch-size:1000}")
+	private int fetchSize;
+
+	// the upsert of a submodel table only depends on its columns, so it is built
+	// once per table
+	private final Map<String, String> upsertQueries = new ConcurrentHashMap<>();
+
 	ObjectMapper objectMapper = new ObjectMapper();
 
 	@Modifying
 	@Transactional
 	@SneakyThrows
-	public List<List<String>> findAllSubmodelCsvHistory(List<String> colNames, String tableEntityName,
-			String processId) {
-		List<List<String>> records = new LinkedList<>();
-		List<Object[]> resultList = readData(colNames, tableEntityName, processId, null);
-		
-		if (resultList.isEmpty())
-			throw new NoDataFoundException(String.format("No data found for processid %s ", processId));
-		
-		for (Object[] objectArray : resultList) {
-			List<String> list = new LinkedList<>();
-			for (Object object : objectArray) {
-				list.add(object == null ? "" : object.toString());
+	public boolean hasSubmodelHistory(String tableEntityName, String processId) {
+		Query query = entityManager
+				.createNativeQuery("SELECT 1 FROM " + tableEntityName + " as p Where p.process_id=? LIMIT 1");
+		query.setParameter(1, processId);
+		return !query.getResultList().isEmpty();
+	}
+
+	/**
+	 * Reads the rows of the process through a forward-only cursor, fetching
+	 * {@code sde.download.fetch-size} rows per round trip, and hands every row to
+	 * the consumer as soon as it is read. Returns the number of rows.
+	 */
+	@SneakyThrows
+	public int forEachSubmodelHistory(List<String> colNames, String tableEntityName, String processId,
+			Consumer<Object[]> rowConsumer) {
+
+		String query = "SELECT " + String.join(",", colNames) + " FROM " + tableEntityName
+				+ " as p Where p.process_id=?";
+
+		try (Connection con = dataSource.getConnection()) {
+			boolean autoCommit = con.getAutoCommit();
+			// the postgres driver only fetches in chunks inside a transaction
+			con.setAutoCommit(false);
+			try (PreparedStatement pmt = con.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY)) {
+				pmt.setFetchSize(fetchSize);
+				pmt.setString(1, processId);
+
+				int numberOfRows = 0;
+				try (ResultSet rs = pmt.executeQuery()) {
+					while (rs.next()) {
+						Object[] row = new Object[colNames.size()];
+						for (int i = 0; i < row.length; i++)
+							row[i] = rs.getObject(i + 1);
+						rowConsumer.accept(row);
+						numberOfRows++;
+					}
+				}
+				return numberOfRows;
+			} finally {
+				con.rollback();
+				con.setAutoCommit(autoCommit);
 			}
-			records.add(list);
 		}
-		return records;
 	}
 
 	@Modifying
@@ -163,53 +210,88 @@ public class SubmodelCustomHistoryGenerator {
 		return innerObject;
 	}
 
-	@Modifying
-	@Transactional
-	@SneakyThrows
-	public int saveSubmodelData(List<String> colNames, String tableEntityName, String processId, JsonNode submodelData,
-			List<String> pkColomn) {
-		StringBuilder colname = new StringBuilder();
-		StringBuilder parameters = new StringBuilder();
-		StringBuilder updateParameters = new StringBuilder();
-		colNames.forEach(ele -> {
-			if (parameters.isEmpty()) {
-				colname.append(ele);
-				parameters.append("?");
-				updateParameters.append(ele + " = EXCLUDED." + ele);
-			} else {
-				colname.append("," + ele);
-				parameters.append(",?");
-				updateParameters.append("," + ele + " = EXCLUDED." + ele);
+	/**
+	 * Upserts all rows as one JDBC batch in a single transaction. If the batch is
+	 * rejected the rows are upserted one by one, so that only the failing rows are
+	 * lost. Returns the error of every failed row by its position in
+	 * {@code rows}.
+	 */
+	public Map<Integer, String> saveSubmodelDataBatch(List<String> colNames, String tableEntityName,
+			List<String> pkColomn, List<Object[]> rows) {
+
+		String upsertQuery = getUpsertQuery(colNames, tableEntityName, pkColomn);
+		Map<Integer, String> failedRows = new LinkedHashMap<>();
+
+		try (Connection con = dataSource.getConnection()) {
+			boolean autoCommit = con.getAutoCommit();
+			try (PreparedStatement pmt = con.prepareStatement(upsertQuery)) {
+				con.setAutoCommit(false);
+				for (Object[] row : rows) {
+					setParameters(pmt, row);
+					pmt.addBatch();
+				}
+				pmt.executeBatch();
+				con.commit();
+			} catch (SQLException e) {
+				con.rollback();
+				log.warn(LogUtil.encode("Batch upsert into " + tableEntityName + " failed, retrying " + rows.size()
+						+ " rows one by one, " + e.getMessage()));
+				con.setAutoCommit(true);
+				saveRowByRow(con, upsertQuery, rows, failedRows);
+			} finally {
+				con.setAutoCommit(autoCommit);
 			}
-		});
-		
-		StringBuilder pkColomns = new StringBuilder();
-		pkColomn.forEach(ele -> {
-			if (pkColomns.isEmpty()) {
-				pkColomns.append(ele);
-			} else {
-				pkColomns.append("," + ele);
+		} catch (SQLException e) {
+			for (int i = 0; i < rows.size(); i++)
+				failedRows.putIfAbsent(i, e.getMessage());
+		}
+		return failedRows;
+	}
+
+	private void saveRowByRow(Connection con, String upsertQuery, List<Object[]> rows,
+			Map<Integer, String> failedRows) throws SQLException {
+		try (PreparedStatement pmt = con.prepareStatement(upsertQuery)) {
+			for (int i = 0; i < rows.size(); i++) {
+				try {
+					setParameters(pmt, rows.get(i));
+					pmt.executeUpdate();
+				} catch (SQLException e) {
+					failedRows.put(i, e.getMessage());
+				}
 			}
-		});
+		}
+	}
 
-		Query query = entityManager.createNativeQuery("INSERT INTO " + tableEntityName + " (" + colname + ") VALUES ("
-				+ parameters + ")  ON CONFLICT (" + pkColomns + ")  DO " + " UPDATE SET " + updateParameters);
+	private void setParameters(PreparedStatement pmt, Object[] row) throws SQLException {
+		for (int i = 0; i < row.length; i++)
+			pmt.setObject(i + 1, row[i]);
+	}
 
-		AtomicInteger i = new AtomicInteger(1);
-		colNames.forEach(col -> query.setParameter(i.getAndIncrement(),
-				JsonObjectUtility.getValueFromJsonObject(submodelData, col)));
+	private String getUpsertQuery(List<String> colNames, String tableEntityName, List<String> pkColomn) {
+		return upsertQueries.computeIfAbsent(tableEntityName, table -> buildUpsertQuery(colNames, table, pkColomn));
+	}
 
-		return query.executeUpdate();
+	public static String buildUpsertQuery(List<String> colNames, String tableEntityName, List<String> pkColomn) {
+		String updateParameters = colNames.stream().map(ele -> ele + " = EXCLUDED." + ele)
+				.collect(Collectors.joining(","));
+		return "INSERT INTO " + tableEntityName + " (" + String.join(",", colNames) + ") VALUES ("
+				+ String.join(",", Collections.nCopies(colNames.size(), "?")) + ")  ON CONFLICT ("
+				+ String.join(",", pkColomn) + ")  DO " + " UPDATE SET " + updateParameters;
 	}
 
-	@Modifying
-	@Transactional
+	/**
+	 * Marks the rows of all identifiers as deleted with one statement, returns
+	 * the number of marked rows.
+	 */
 	@SneakyThrows
-	public int saveAspectWithDeleted(String uuid, String tableEntityName, String pkColomn) {
-		Query query = entityManager
-				.createNativeQuery("UPDATE " + tableEntityName + " set deleted='Y' WHERE " + pkColomn + "= ?");
-		query.setParameter(1, uuid);
-		return query.executeUpdate();
+	public int saveAspectsWithDeleted(List<String> uuids, String tableEntityName, String pkColomn) {
+		String updateQuery = "UPDATE " + tableEntityName + " set deleted='Y' WHERE " + pkColomn + " IN ("
+				+ String.join(",", Collections.nCopies(uuids.size(), "?")) + ")";
+		try (Connection con = dataSource.getConnection(); PreparedStatement pmt = con.prepareStatement(updateQuery)) {
+			for (int i = 0; i < uuids.size(); i++)
+				pmt.setString(i + 1, uuids.get(i));
+			return pmt.executeUpdate();
+		}
 	}
 
 	@Modifying
@@ -260,40 +342,8 @@ public class SubmodelCustomHistoryGenerator {
 		try (Connection con = DriverManager.getConnection(dataSourceProperties.getUrl(),
 				dataSourceProperties.getUsername(), dataSourceProperties.getPassword())) {
 
-			JsonObject items = schema.get("items").getAsJsonObject().get("properties").getAsJsonObject();
-
-			StringBuilder colname = new StringBuilder();
-			columns.forEach(ele -> {
-				JsonObject jObject = JsonObjectUtility.getValueFromJsonObjectAsObject(items, ele);
-				String dataType = "";
-				if (isNumberTypeField(jObject)) {
-					dataType = "float8";
-				} else {
-					dataType = "varchar(255)";
-				}
-				if (pkCol.equals(ele)) {
-					colname.append(ele + " " + dataType + " NOT NULL, ");
-				} else {
-					colname.append(ele + " " + dataType + "  NULL, ");
-				}
-			});
-
-			colname.append(" CONSTRAINT " + tableName + "_pkey PRIMARY KEY (" + pkCol + ")");
-
-			if(databaseIdentifierCols!=null) {
-				StringBuilder uniqcol = new StringBuilder();
-				databaseIdentifierCols.forEach(ele -> {
-					if (uniqcol.isEmpty()) {
-						uniqcol.append(ele);
-					} else {
-						uniqcol.append("," + ele);
-					}
-				});
-				colname.append(", CONSTRAINT " + tableName + "_un UNIQUE (" + uniqcol + ")");
-			}
-			
 			try (Statement stmt = con.createStatement()) {
-				stmt.execute("CREATE TABLE " + tableName + " (" + colname + ")");
+				stmt.execute(buildCreateTableQuery(schema, columns, tableName, pkCol, databaseIdentifierCols));
 				log.info(tableName + " created successfully");
 			}
 
@@ -303,7 +353,45 @@ public class SubmodelCustomHistoryGenerator {
 		}
 	}
 
-	private boolean isNumberTypeField(JsonObject jObject) {
+	public static String buildCreateTableQuery(JsonObject schema, List<String> columns, String tableName, String pkCol,
+			List<String> databaseIdentifierCols) {
+
+		JsonObject items = schema.get("items").getAsJsonObject().get("properties").getAsJsonObject();
+
+		StringBuilder colname = new StringBuilder();
+		columns.forEach(ele -> {
+			JsonObject jObject = JsonObjectUtility.getValueFromJsonObjectAsObject(items, ele);
+			String dataType = "";
+			if (isNumberTypeField(jObject)) {
+				dataType = "float8";
+			} else {
+				dataType = "varchar(255)";
+			}
+			if (pkCol.equals(ele)) {
+				colname.append(ele + " " + dataType + " NOT NULL, ");
+			} else {
+				colname.append(ele + " " + dataType + "  NULL, ");
+			}
+		});
+
+		colname.append(" CONSTRAINT " + tableName + "_pkey PRIMARY KEY (" + pkCol + ")");
+
+		if(databaseIdentifierCols!=null) {
+			StringBuilder uniqcol = new StringBuilder();
+			databaseIdentifierCols.forEach(ele -> {
+				if (uniqcol.isEmpty()) {
+					uniqcol.append(ele);
+				} else {
+					uniqcol.append("," + ele);
+				}
+			});
+			colname.append(", CONSTRAINT " + tableName + "_un UNIQUE (" + uniqcol + ")");
+		}
+
+		return "CREATE TABLE " + tableName + " (" + colname + ")";
+	}
+
+	private static boolean isNumberTypeField(JsonObject jObject) {
 
 		if (jObject != null && !jObject.isJsonNull()) {
 			JsonElement jsonElement = JsonParser.parseString("number");
@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.registry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.tractusx.sde.common.model.Submodel;
+
+/**
+ * Immutable lookup snapshot of the registered submodels. Where several
+ * submodels match a lookup, the one registered first wins, same as the former
+ * scans over the registration list.
+ */
+public class SubmodelIndex {
+
+	static final SubmodelIndex EMPTY = new SubmodelIndex(List.of(), Map.of());
+
+	private final List<Submodel> submodels;
+
+	private final Map<String, Submodel> byId = new HashMap<>();
+
+	private final Map<Set<String>, Submodel> byColumns = new HashMap<>();
+
+	private final NavigableMap<String, List<Submodel>> bySemanticId = new TreeMap<>();
+
+	private final Map<Submodel, Integer> registrationOrder = new IdentityHashMap<>();
+
+	private final Map<String, SubmodelMetadata> metadataById;
+
+	SubmodelIndex(List<Submodel> submodels, Map<String, SubmodelMetadata> metadataById) {
+		this.submodels = List.copyOf(submodels);
+		this.metadataById = Map.copyOf(metadataById);
+
+		for (Submodel submodel : this.submodels) {
+			registrationOrder.put(submodel, registrationOrder.size());
+			byId.putIfAbsent(toKey(submodel.getId()), submodel);
+			byColumns.putIfAbsent(
+					Set.copyOf(submodel.getSchema().get("items").getAsJsonObject().get("properties")
+							.getAsJsonObject().keySet()),
+					submodel);
+			if (submodel.getSemanticId() != null)
+				bySemanticId.computeIfAbsent(submodel.getSemanticId(), key -> new ArrayList<>()).add(submodel);
+		}
+	}
+
+	public List<Submodel> getSubmodels() {
+		return submodels;
+	}
+
+	public Optional<Submodel> findById(String submodelId) {
+		return submodelId == null ? Optional.empty() : Optional.ofNullable(byId.get(toKey(submodelId)));
+	}
+
+	/**
+	 * The submodel whose schema properties are exactly the given columns, in any
+	 * order.
+	 */
+	public Optional<Submodel> findByColumns(Collection<String> columns) {
+		return Optional.ofNullable(byColumns.get(new HashSet<>(columns)));
+	}
+
+	public List<Submodel> findBySemanticIdPrefix(String semanticIdPrefix) {
+		List<Submodel> found = new ArrayList<>();
+		bySemanticId.tailMap(semanticIdPrefix, true).entrySet().stream()
+				.takeWhile(entry -> entry.getKey().startsWith(semanticIdPrefix))
+				.forEach(entry -> found.addAll(entry.getValue()));
+		found.sort((first, second) -> registrationOrder.get(first) - registrationOrder.get(second));
+		return found;
+	}
+
+	public Optional<SubmodelMetadata> getMetadata(String submodelId) {
+		return submodelId == null ? Optional.empty() : Optional.ofNullable(metadataById.get(toKey(submodelId)));
+	}
+
+	static String toKey(String submodelId) {
+		return submodelId.toLowerCase(Locale.ROOT);
+	}
+}
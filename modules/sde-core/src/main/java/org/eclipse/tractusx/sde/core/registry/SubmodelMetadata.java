@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.registry;
+
+import java.util.List;
+
+/**
+ * Table and column metadata of a registered submodel, derived once from its
+ * schema at registration. All lists are unmodifiable.
+ *
+ * @param tableName                 table the records of the submodel are
+ *                                  stored in
+ * @param tableColumns              all columns of the submodel table
+ * @param csvTableColumns           columns of the table which are part of a
+ *                                  history download
+ * @param csvHeader                 columns of an uploaded CSV file including
+ *                                  auto populated fields
+ * @param databaseIdentifierColumns columns which identify a record of the
+ *                                  table
+ */
+public record SubmodelMetadata(String tableName, List<String> tableColumns, List<String> csvTableColumns,
+		List<String> csvHeader, List<String> databaseIdentifierColumns) {
+}
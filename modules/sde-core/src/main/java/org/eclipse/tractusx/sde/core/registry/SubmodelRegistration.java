@@ -20,11 +20,15 @@
 
 package org.eclipse.tractusx.sde.core.registry;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.extensions.SubmodelExtension;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.validators.SubmodelSchemaRegistry;
 import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
 import org.eclipse.tractusx.sde.core.utils.SubmoduleUtility;
 import org.springframework.stereotype.Component;
@@ -38,20 +42,29 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SubmodelRegistration {
 
-	private List<Submodel> submodelList;
+	private final List<Submodel> submodelList;
+
+	private final Map<String, SubmodelMetadata> submodelMetadata;
+
+	// replaced as a whole on every registration, readers never see a partially
+	// built index
+	private volatile SubmodelIndex submodelIndex = SubmodelIndex.EMPTY;
 
 	private final SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
 	private final SubmoduleUtility submoduleUtility;
+	private final SubmodelSchemaRegistry submodelSchemaRegistry;
 
 	public SubmodelRegistration(SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator,
-			SubmoduleUtility submoduleUtility) {
-		submodelList = new LinkedList<>();
+			SubmoduleUtility submoduleUtility, SubmodelSchemaRegistry submodelSchemaRegistry) {
+		submodelList = new ArrayList<>();
+		submodelMetadata = new HashMap<>();
 		this.submodelCustomHistoryGenerator = submodelCustomHistoryGenerator;
 		this.submoduleUtility = submoduleUtility;
+		this.submodelSchemaRegistry = submodelSchemaRegistry;
 	}
 
 	@SneakyThrows
-	public void register(SubmodelExtension subomdelService) {
+	public synchronized void register(SubmodelExtension subomdelService) {
 		Submodel submodel = subomdelService.submodel();
 		log.info(submodel.toString());
 
@@ -75,11 +88,39 @@ public class SubmodelRegistration {
 			submodelCustomHistoryGenerator.checkTableIfNotExistCreate(submodel.getSchema(), columns, tableName, pkCol, databaseIdentifierCols);
 		}
 
+		submodelSchemaRegistry.register(submodel.getSchema());
+
 		submodelList.add(submodel);
+		submodelMetadata.putIfAbsent(SubmodelIndex.toKey(submodel.getId()),
+				new SubmodelMetadata(tableName, List.copyOf(columns),
+						List.copyOf(submoduleUtility.getTableColomnHeaderForCSV(submodel)),
+						List.copyOf(submoduleUtility.getCSVHeader(submodel)), getDatabaseIdentifierColumns(jsonElement)));
+		submodelIndex = new SubmodelIndex(submodelList, submodelMetadata);
 	}
 
 	public List<Submodel> getModels() {
-		return this.submodelList;
+		return submodelIndex.getSubmodels();
+	}
+
+	public SubmodelIndex getIndex() {
+		return submodelIndex;
+	}
+
+	public Optional<SubmodelMetadata> getMetadata(String submodelId) {
+		return submodelIndex.getMetadata(submodelId);
+	}
+
+	// same as Step.getDatabaseIdentifierSpecsOfModel
+	private List<String> getDatabaseIdentifierColumns(JsonElement addOn) {
+		if (addOn == null || addOn.isJsonNull() || addOn.getAsJsonObject().get("identifier") == null)
+			return List.of();
+
+		JsonElement databaseIdentifierSpecs = addOn.getAsJsonObject().get("databaseIdentifierSpecs");
+		if (databaseIdentifierSpecs == null || databaseIdentifierSpecs.isJsonNull())
+			return List.of(extractExactFieldName(addOn.getAsJsonObject().get("identifier").getAsString()));
+
+		return databaseIdentifierSpecs.getAsJsonArray().asList().stream()
+				.map(ele -> extractExactFieldName(ele.getAsString())).toList();
 	}
 	
 	private String extractExactFieldName(String str) {
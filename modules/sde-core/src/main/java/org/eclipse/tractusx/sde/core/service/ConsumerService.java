@@ -30,10 +30,13 @@ import java.io.PrintWriter;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -47,6 +50,8 @@ import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.model.Acknowledgement;
 import org.eclipse.tractusx.sde.common.model.PagingResponse;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.core.consumer.ConsumerDownloadEngine;
+import org.eclipse.tractusx.sde.core.consumer.ConsumerDownloadEngine.OfferDownloadResult;
 import org.eclipse.tractusx.sde.core.processreport.entity.ConsumerDownloadHistoryEntity;
 import org.eclipse.tractusx.sde.core.processreport.mapper.ConsumerDownloadHistoryMapper;
 import org.eclipse.tractusx.sde.core.processreport.model.ConsumerDownloadHistory;
@@ -62,6 +67,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -73,7 +79,9 @@ import com.opencsv.ICSVWriter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class ConsumerService {
@@ -88,12 +96,14 @@ public class ConsumerService {
 
 	private final PolicyConstraintBuilderService policyConstraintBuilderService;
 
+	private final ConsumerDownloadEngine consumerDownloadEngine;
+
 	ObjectMapper mapper = new ObjectMapper();
 
 	public Acknowledgement subscribeAndDownloadDataOffersAsync(ConsumerRequest consumerRequest) {
 		String processId = UUID.randomUUID().toString();
 
-		Runnable runnable = () -> subscribeAndDownloadDataOffers(consumerRequest, processId, false);
+		Runnable runnable = () -> subscribeAndDownloadDataOffers(consumerRequest, processId, false, null);
 		new Thread(runnable).start();
 
 		return Acknowledgement.builder().id(processId).build();
@@ -103,25 +113,22 @@ public class ConsumerService {
 	public void subscribeAndDownloadDataOffersSynchronous(ConsumerRequest consumerRequest,
 			HttpServletResponse response) {
 		String processId = UUID.randomUUID().toString();
-		prepareHttpResponse(response, processId, subscribeAndDownloadDataOffers(consumerRequest, processId, true),
-				consumerRequest.getDownloadDataAs());
+		DownloadZipWriter zipWriter = new DownloadZipWriter(response, processId);
+		subscribeAndDownloadDataOffers(consumerRequest, processId, true, zipWriter);
+		finishHttpResponse(response, zipWriter);
 	}
 
-	@SneakyThrows
-	public Map<String, Object> subscribeAndDownloadDataOffers(ConsumerRequest consumerRequest, String processId,
-			boolean flagToDownloadImidiate) {
+	private void subscribeAndDownloadDataOffers(ConsumerRequest consumerRequest, String processId,
+			boolean flagToDownloadImidiate, DownloadZipWriter zipWriter) {
 
 		AtomicInteger failedCount = new AtomicInteger();
 		AtomicInteger successCount = new AtomicInteger();
 
-		Map<String, Object> dataWithValue = new TreeMap<>();
-
-		Map<Object, List<Offer>> collect = consumerRequest.getOffers().stream().collect(Collectors.groupingBy(
-				ele -> StringUtils.join(ele.getConnectorId(), "_", ele.getConnectorOfferUrl()), Collectors.toList()));
-
-		collect.entrySet().parallelStream().forEach(entry -> {
+		Map<String, List<Offer>> offersByConnector = groupByConnector(consumerRequest.getOffers());
+		Map<String, ConsumerDownloadHistoryEntity> historyByConnector = new HashMap<>();
+		Map<String, Integer> pendingOffersByConnector = new HashMap<>();
 
-			String key = entry.getKey().toString();
+		offersByConnector.forEach((key, offers) -> {
 			String[] strs = key.split("_");
 
 			ConsumerDownloadHistoryEntity entity = ConsumerDownloadHistoryEntity.builder()
@@ -133,42 +140,49 @@ public class ConsumerService {
 			// Save consumer Download history in DB
 			consumerDownloadHistoryRepository.save(entity);
 
-			ActionRequest action = policyConstraintBuilderService
-					.getUsagePoliciesConstraints(consumerRequest.getUsagePolicies());
-
-			entry.getValue().parallelStream().forEach(offer -> {
-
-				Object subcribeAndDownloadOffer = consumerControlPanelService.subcribeAndDownloadOffer(offer, action,
-						flagToDownloadImidiate, consumerRequest.getDownloadDataAs());
-
-				prepareFromOfferResponse(subcribeAndDownloadOffer, failedCount, successCount, dataWithValue, offer,
-						flagToDownloadImidiate, consumerRequest.getDownloadDataAs());
-
-			});
+			historyByConnector.put(key, entity);
+			pendingOffersByConnector.put(key, offers.size());
+		});
 
-			entity.setEndDate(LocalDateTime.now());
-			try {
-				entity.setOffers(mapper.writeValueAsString(entry.getValue()));
-				entity.setPolicies(mapper.writeValueAsString(consumerRequest.getUsagePolicies()));
-			} catch (JsonProcessingException e) {
-				e.printStackTrace();
-			}
+		ActionRequest action = policyConstraintBuilderService
+				.getUsagePoliciesConstraints(consumerRequest.getUsagePolicies());
+
+		consumerDownloadEngine.download(offersByConnector,
+				offer -> consumerControlPanelService.subcribeAndDownloadOffer(offer, action, flagToDownloadImidiate,
+						consumerRequest.getDownloadDataAs()),
+				result -> {
+					prepareFromOfferResponse(result, failedCount, successCount, zipWriter, flagToDownloadImidiate,
+							consumerRequest.getDownloadDataAs());
+
+					String key = result.connectorKey();
+					if (pendingOffersByConnector.merge(key, -1, Integer::sum) == 0)
+						finishDownloadHistory(historyByConnector.get(key), offersByConnector.get(key), consumerRequest,
+								successCount, failedCount);
+				});
+	}
 
-			entity.setDownloadSuccessed(successCount.get());
-			entity.setDownloadFailed(failedCount.get());
+	private void finishDownloadHistory(ConsumerDownloadHistoryEntity entity, List<Offer> offers,
+			ConsumerRequest consumerRequest, AtomicInteger successCount, AtomicInteger failedCount) {
 
-			entity.setStatus(ProgressStatusEnum.FAILED.toString());
-			if (consumerRequest.getOffers().size() == successCount.get())
-				entity.setStatus(ProgressStatusEnum.COMPLETED.toString());
-			else if (successCount.get() != 0 && failedCount.get() != 0)
-				entity.setStatus(ProgressStatusEnum.PARTIALLY_FAILED.toString());
+		entity.setEndDate(LocalDateTime.now());
+		try {
+			entity.setOffers(mapper.writeValueAsString(offers));
+			entity.setPolicies(mapper.writeValueAsString(consumerRequest.getUsagePolicies()));
+		} catch (JsonProcessingException e) {
+			e.printStackTrace();
+		}
 
-			// Save consumer Download history in DB
-			consumerDownloadHistoryRepository.save(entity);
+		entity.setDownloadSuccessed(successCount.get());
+		entity.setDownloadFailed(failedCount.get());
 
-		});
+		entity.setStatus(ProgressStatusEnum.FAILED.toString());
+		if (consumerRequest.getOffers().size() == successCount.get())
+			entity.setStatus(ProgressStatusEnum.COMPLETED.toString());
+		else if (successCount.get() != 0 && failedCount.get() != 0)
+			entity.setStatus(ProgressStatusEnum.PARTIALLY_FAILED.toString());
 
-		return dataWithValue;
+		// Save consumer Download history in DB
+		consumerDownloadHistoryRepository.save(entity);
 	}
 
 	@SneakyThrows
@@ -199,17 +213,13 @@ public class ConsumerService {
 				// Save consumer Download history in DB
 				consumerDownloadHistoryRepository.save(entity);
 
-				Map<String, Object> dataWithValue = new TreeMap<>();
-
-				List<String> assetIds = offerList.stream().map(Offer::getAssetId).toList();
-
-				Map<String, Object> downloadFileFromEDCUsingifAlreadyTransferStatusCompleted = consumerControlPanelService
-						.downloadFileFromEDCUsingifAlreadyTransferStatusCompleted(assetIds, type);
+				DownloadZipWriter zipWriter = new DownloadZipWriter(response, processId);
 
-				offerList.stream()
-						.forEach(offer -> prepareFromOfferResponse(
-								downloadFileFromEDCUsingifAlreadyTransferStatusCompleted.get(offer.getAssetId()),
-								failedCount, successCount, dataWithValue, offer, true, type));
+				consumerDownloadEngine.download(groupByConnector(offerList),
+						offer -> consumerControlPanelService
+								.downloadFileFromEDCUsingifAlreadyTransferStatusCompleted(List.of(offer.getAssetId()), type)
+								.get(offer.getAssetId()),
+						result -> prepareFromOfferResponse(result, failedCount, successCount, zipWriter, true, type));
 
 				entity.setEndDate(LocalDateTime.now());
 				entity.setOffers(mapper.writeValueAsString(offerList));
@@ -227,7 +237,7 @@ public class ConsumerService {
 				// Save consumer Download history in DB
 				consumerDownloadHistoryRepository.save(entity);
 
-				prepareHttpResponse(response, processId, dataWithValue, type);
+				finishHttpResponse(response, zipWriter);
 			} else {
 				generateFailureJsonResponse(response, "Unable to find data offer in SDE for download");
 			}
@@ -236,8 +246,21 @@ public class ConsumerService {
 		}
 	}
 
-	private void prepareFromOfferResponse(Object object, AtomicInteger failedCount, AtomicInteger successCount,
-			Map<String, Object> dataWithValue, Offer offer, boolean flagToDownloadImidiate, String downloadDataAs) {
+	private Map<String, List<Offer>> groupByConnector(List<Offer> offers) {
+		return offers.stream()
+				.collect(Collectors.groupingBy(
+						ele -> StringUtils.join(ele.getConnectorId(), "_", ele.getConnectorOfferUrl()),
+						LinkedHashMap::new, Collectors.toList()));
+	}
+
+	private void prepareFromOfferResponse(OfferDownloadResult<?> result, AtomicInteger failedCount,
+			AtomicInteger successCount, DownloadZipWriter zipWriter, boolean flagToDownloadImidiate,
+			String downloadDataAs) {
+
+		Offer offer = result.offer();
+		Object object = result.response();
+		if (result.error() != null)
+			object = Map.of("status", FAILED.toString(), "error", String.valueOf(result.error().getMessage()));
 
 		if (object != null) {
 
@@ -248,9 +271,9 @@ public class ConsumerService {
 
 			if (dataNode != null && flagToDownloadImidiate) {
 				if ("csv".equalsIgnoreCase(downloadDataAs))
-					processCSVDataObject(successCount, failedCount, dataWithValue, offer, status, dataNode);
+					processCSVDataObject(successCount, failedCount, zipWriter, offer, status, dataNode);
 				else
-					processJsonDataObject(successCount, failedCount, dataWithValue, offer, status, dataNode);
+					processJsonDataObject(successCount, failedCount, zipWriter, offer, status, dataNode);
 			} else if (!flagToDownloadImidiate && "SUCCESS".equals(status.asText())) {
 				offer.setStatus("SUCCESS");
 				successCount.getAndIncrement();
@@ -271,9 +294,9 @@ public class ConsumerService {
 	}
 
 	private void processJsonDataObject(AtomicInteger successCount, AtomicInteger failedCount,
-			Map<String, Object> dataWithValue, Offer offer, JsonNode status, JsonNode jsonNode) {
+			DownloadZipWriter zipWriter, Offer offer, JsonNode status, JsonNode jsonNode) {
 		if (jsonNode != null) {
-			dataWithValue.put(offer.getAssetId(), jsonNode);
+			zipWriter.writeJson(offer.getAssetId(), jsonNode);
 			offer.setStatus(status.asText());
 			successCount.getAndIncrement();
 			offer.setDownloadErrorMsg("");
@@ -284,9 +307,8 @@ public class ConsumerService {
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	private void processCSVDataObject(AtomicInteger successCount, AtomicInteger failedCount,
-			Map<String, Object> dataWithValue, Offer offer, JsonNode status, JsonNode csvNode) {
+			DownloadZipWriter zipWriter, Offer offer, JsonNode status, JsonNode csvNode) {
 
 		if (csvNode != null) {
 			List<String> csvHeader = new ArrayList<>();
@@ -296,19 +318,7 @@ public class ConsumerService {
 			csvNode.fields().forEachRemaining(obje -> csvValues.add(obje.getValue().asText()));
 
 			Submodel findSubmodel = submodelOrchestartorService.findSubmodel(csvHeader);
-			Object obj = dataWithValue.get(findSubmodel.getId());
-
-			List<Object> csvValueList = null;
-
-			if (obj == null) {
-				csvValueList = new ArrayList<>();
-				csvValueList.add(csvHeader);
-			} else {
-				csvValueList = (ArrayList<Object>) obj;
-			}
-
-			csvValueList.add(csvValues);
-			dataWithValue.put(findSubmodel.getId(), csvValueList);
+			zipWriter.addCsvRow(findSubmodel.getId(), csvHeader, csvValues);
 			offer.setStatus(status.asText());
 			successCount.getAndIncrement();
 			offer.setDownloadErrorMsg("");
@@ -319,12 +329,11 @@ public class ConsumerService {
 		}
 	}
 
-	private void prepareHttpResponse(HttpServletResponse response, String processId, Map<String, Object> csvWithValue,
-			String typeAsDownload) throws IOException {
-		if (csvWithValue.isEmpty()) {
+	private void finishHttpResponse(HttpServletResponse response, DownloadZipWriter zipWriter) throws IOException {
+		if (zipWriter.isEmpty()) {
 			generateFailureJsonResponse(response, "Unable to process your request, please try again");
 		} else {
-			prepareZipFiles(response, csvWithValue, processId, typeAsDownload);
+			zipWriter.finish();
 		}
 	}
 
@@ -351,73 +360,98 @@ public class ConsumerService {
 			return null;
 	}
 
-	@SneakyThrows
-	private void prepareZipFiles(HttpServletResponse response, Map<String, Object> csvWithValue, String processId,
-			String downloadDataAs) {
+	/**
+	 * Zip download of the data offers. JSON data is written as its own entry as
+	 * soon as it arrives, the response starts with the first entry. CSV data of
+	 * all offers of a submodel goes into one file, the rows are collected and
+	 * written when the download is finished.
+	 */
+	private class DownloadZipWriter {
 
-		response.setContentType("application/zip");
-		response.setHeader("Content-Disposition", "attachment;filename=" + processId + "-download.zip");
-		response.setStatus(HttpServletResponse.SC_OK);
-		if ("csv".equalsIgnoreCase(downloadDataAs))
-			writeCSVFiles(response, csvWithValue);
-		else
-			writeJsonFiles(response, csvWithValue);
-	}
+		private final HttpServletResponse response;
 
-	@SneakyThrows
-	private void writeJsonFiles(HttpServletResponse response, Map<String, Object> csvWithValue) {
-		try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream())) {
-			for (Entry<String, Object> entry : csvWithValue.entrySet()) {
-				String fileName = entry.getKey();
-				fileName = fileName.replace(":", "-");
-				Object value = entry.getValue();
-				zip.putNextEntry(new ZipEntry(fileName + ".json"));
-				Object json = mapper.readValue(value.toString(), Object.class);
-				String jsonStr = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(json);
-				zip.write(jsonStr.getBytes());
+		private final String processId;
+
+		private final Map<String, List<String[]>> csvRowsBySubmodel = new TreeMap<>();
+
+		private final Set<String> entryNames = new HashSet<>();
+
+		private ZipOutputStream zip;
+
+		private boolean failed;
+
+		DownloadZipWriter(HttpServletResponse response, String processId) {
+			this.response = response;
+			this.processId = processId;
+		}
+
+		void writeJson(String assetId, JsonNode data) {
+			if (failed)
+				return;
+			String baseName = assetId.replace(":", "-");
+			// asset ids may collide once the colons are replaced
+			String fileName = baseName + ".json";
+			for (int count = 2; !entryNames.add(fileName); count++)
+				fileName = baseName + "-" + count + ".json";
+			try {
+				open().putNextEntry(new ZipEntry(fileName));
+				mapper.writerWithDefaultPrettyPrinter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+						.writeValue(zip, data);
 				zip.closeEntry();
+			} catch (IOException e) {
+				writeFailed(e);
 			}
-			zip.finish();
-		} catch (Exception e) {
-			e.getStackTrace();
 		}
 
-	}
+		void addCsvRow(String submodelId, List<String> csvHeader, List<String> csvValues) {
+			csvRowsBySubmodel.computeIfAbsent(submodelId, id -> {
+				List<String[]> rows = new ArrayList<>();
+				rows.add(csvHeader.toArray(String[]::new));
+				return rows;
+			}).add(csvValues.toArray(String[]::new));
+		}
+
+		boolean isEmpty() {
+			return zip == null && csvRowsBySubmodel.isEmpty();
+		}
 
-	@SuppressWarnings("unchecked")
-	private void writeCSVFiles(HttpServletResponse response, Map<String, Object> csvWithValue) {
-		try (ZipOutputStream zippedOut = new ZipOutputStream(response.getOutputStream())) {
-			for (Entry<String, Object> entry : csvWithValue.entrySet()) {
-				String fileName = entry.getKey();
-				Object value = entry.getValue();
-
-				// create a zip entry and add it to ZipOutputStream
-				ZipEntry e = new ZipEntry(fileName + ".csv");
-				zippedOut.putNextEntry(e);
-				// There is no need for staging the CSV on filesystem or reading bytes into
-				// memory. Directly write bytes to the output stream.
-				CSVWriter writer = new CSVWriter(new OutputStreamWriter(zippedOut),
-						';', ICSVWriter.NO_QUOTE_CHARACTER,
-						'/', ICSVWriter.DEFAULT_LINE_END);
-
-				List<Object> valueList = (ArrayList<Object>) value;
-				for (Object list : valueList) {
-
-					List<String> valArray = (ArrayList<String>) list;
-					String[] strarray = new String[valArray.size()];
-					valArray.toArray(strarray);
-					// write the contents
-					writer.writeNext(strarray, false);
+		void finish() {
+			if (failed)
+				return;
+			try {
+				for (Entry<String, List<String[]>> entry : csvRowsBySubmodel.entrySet()) {
+					open().putNextEntry(new ZipEntry(entry.getKey() + ".csv"));
+					// There is no need for staging the CSV on filesystem. Directly write bytes to
+					// the output stream, the writer is flushed but not closed as more entries
+					// follow
+					CSVWriter writer = new CSVWriter(new OutputStreamWriter(zip), ';', ICSVWriter.NO_QUOTE_CHARACTER,
+							'/', ICSVWriter.DEFAULT_LINE_END);
+					for (String[] row : entry.getValue())
+						writer.writeNext(row, false);
+					writer.flush();
+					zip.closeEntry();
 				}
-				// flush the writer. Very important!
-				writer.flush();
-				// close the entry. Note : we are not closing the zos just yet as we need to add
-				// more files to our ZIP
-				zippedOut.closeEntry();
+				if (zip != null)
+					zip.close();
+			} catch (IOException e) {
+				writeFailed(e);
+			}
+		}
+
+		private ZipOutputStream open() throws IOException {
+			if (zip == null) {
+				response.setContentType("application/zip");
+				response.setHeader("Content-Disposition", "attachment;filename=" + processId + "-download.zip");
+				response.setStatus(HttpServletResponse.SC_OK);
+				zip = new ZipOutputStream(response.getOutputStream());
 			}
-			zippedOut.finish();
-		} catch (Exception e) {
-			e.getStackTrace();
+			return zip;
+		}
+
+		private void writeFailed(IOException e) {
+			// most likely the client went away, the downloads are still recorded
+			log.error(String.format("Unable to write download of process %s: %s", processId, e.getMessage()));
+			failed = true;
 		}
 	}
 
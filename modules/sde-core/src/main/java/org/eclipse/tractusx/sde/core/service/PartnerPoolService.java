@@ -95,6 +95,7 @@ public class PartnerPoolService {
 			legalEntityData = partnerPoolExternalServiceApi.fetchLegalEntityData(bpnLs, legalName, page, size, header);
 
 		} catch (FeignException e) {
+			edcAssetUrlCacheService.invalidateTokenIfRejected(e, edrToken);
 			String err = e.contentUTF8();
 			err = StringUtils.isBlank(err) ? e.getMessage() : err;
 			String errorMsg = "Unable to fetch LegalEntity Data for  " + legalName + "Or BpnLs " + bpnLs + " because: "
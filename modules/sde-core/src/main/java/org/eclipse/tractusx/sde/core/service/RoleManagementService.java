@@ -43,6 +43,7 @@ public class RoleManagementService {
 	private final RoleRepository roleRepository;
 	private final RolePermissionRepository rolePermissionRepository;
 	private final RolePermissionCustomRepository rolePermissionCustomRepository;
+	private final RolePermissionIndex rolePermissionIndex;
 
 	@SneakyThrows
 	@Transactional
@@ -54,6 +55,7 @@ public class RoleManagementService {
 				.map(e -> RolePermissionEntity.builder().sdePermission(e).sdeRole(role).build()).toList();
 		rolePermissionRepository.deleteRolePermissionMappingBySdeRole(role);
 		rolePermissionRepository.saveAll(allentity);
+		rolePermissionIndex.refreshAfterCommit();
 		return Map.of("msg","Role Permission saved successfully");
 	}
 
@@ -85,5 +87,6 @@ public class RoleManagementService {
 		checkRoleExistOrNot(List.of(role));
 		rolePermissionRepository.deleteRolePermissionMappingBySdeRole(role);
 		roleRepository.deleteById(role);
+		rolePermissionIndex.refreshAfterCommit();
 	}
 }
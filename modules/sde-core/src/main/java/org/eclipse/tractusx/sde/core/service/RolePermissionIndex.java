@@ -0,0 +1,112 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.tractusx.sde.core.role.entity.RolePermissionEntity;
+import org.eclipse.tractusx.sde.core.role.repository.RolePermissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory copy of {@code sde_role_permission_mapping}, so that a permission
+ * check does not query the database. The mappings are loaded again after
+ * {@code sde.role-permission.cache-ttl-ms} and after role mappings are saved
+ * or deleted through {@link RoleManagementService}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RolePermissionIndex {
+
+	private final RolePermissionRepository rolePermissionRepository;
+
+	@Value("${sde.role-permission.cache-ttl-ms:300000}")
+	private long cacheTtlMillis;
+
+	private volatile Map<String, Set<String>> permissionsByRole;
+
+	private volatile long loadedAt;
+
+	public boolean hasAnyPermission(Collection<String> roles, Collection<String> permissions) {
+		Map<String, Set<String>> index = getIndex();
+		for (String role : roles) {
+			Set<String> rolePermissions = index.get(role);
+			if (rolePermissions != null) {
+				for (String permission : permissions) {
+					if (rolePermissions.contains(permission))
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Loads the mappings again once the current transaction committed, or right
+	 * away without transaction.
+	 */
+	public void refreshAfterCommit() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					refresh();
+				}
+			});
+		} else {
+			refresh();
+		}
+	}
+
+	public synchronized void refresh() {
+		Map<String, Set<String>> index = new HashMap<>();
+		for (RolePermissionEntity rolePermission : rolePermissionRepository.findAll())
+			index.computeIfAbsent(rolePermission.getSdeRole(), role -> new HashSet<>())
+					.add(rolePermission.getSdePermission());
+
+		permissionsByRole = index;
+		loadedAt = System.currentTimeMillis();
+		log.debug("Loaded the permissions of " + index.size() + " roles");
+	}
+
+	private Map<String, Set<String>> getIndex() {
+		Map<String, Set<String>> index = permissionsByRole;
+		if (index == null || System.currentTimeMillis() - loadedAt >= cacheTtlMillis) {
+			synchronized (this) {
+				if (permissionsByRole == null || System.currentTimeMillis() - loadedAt >= cacheTtlMillis)
+					refresh();
+				index = permissionsByRole;
+			}
+		}
+		return index;
+	}
+}
@@ -19,16 +19,22 @@
  ********************************************************************************/
 package org.eclipse.tractusx.sde.core.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
+import org.apache.commons.csv.CSVPrinter;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
-import org.eclipse.tractusx.sde.common.model.Submodel;
 import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
-import org.eclipse.tractusx.sde.core.utils.SubmoduleUtility;
+import org.eclipse.tractusx.sde.core.registry.SubmodelMetadata;
+import org.eclipse.tractusx.sde.core.utils.CsvUtil;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -42,10 +48,10 @@ public class SubmodelCsvService {
 
 	private final SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
 
-	private final SubmoduleUtility submoduleUtility;
-
 	private static final List<String> TYPES = List.of("sample", "template");
 
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
 	@SneakyThrows
 	public List<List<String>> findSubmodelCsv(String submodelName, String type) {
 
@@ -69,19 +75,82 @@ public class SubmodelCsvService {
 		return jsonObjectList;
 	}
 
+	/**
+	 * Streams the records of the process as CSV, header first, straight from the
+	 * database cursor to the response.
+	 */
+	public StreamingResponseBody streamSubmodelCsvHistory(String submodel, String processId) {
+
+		HistoryTable historyTable = findHistoryTable(submodel, processId);
+
+		return outputStream -> {
+			try (CSVPrinter csvPrinter = CsvUtil.csvPrinter(outputStream)) {
+				csvPrinter.printRecord(historyTable.columns());
+				submodelCustomHistoryGenerator.forEachSubmodelHistory(historyTable.columns(),
+						historyTable.tableName(), processId, row -> {
+							try {
+								csvPrinter.printRecord(toStringValues(row));
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						});
+			}
+		};
+	}
+
+	/**
+	 * Streams the records of the process as JSON array of string arrays, header
+	 * first, straight from the database cursor to the response.
+	 */
+	public StreamingResponseBody streamSubmodelJsonHistory(String submodel, String processId) {
+
+		HistoryTable historyTable = findHistoryTable(submodel, processId);
+
+		return outputStream -> {
+			try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+				jsonGenerator.writeStartArray();
+				writeStringArray(jsonGenerator, historyTable.columns());
+				submodelCustomHistoryGenerator.forEachSubmodelHistory(historyTable.columns(),
+						historyTable.tableName(), processId, row -> {
+							try {
+								writeStringArray(jsonGenerator, toStringValues(row));
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						});
+				jsonGenerator.writeEndArray();
+			}
+		};
+	}
+
+	// checked before the response is committed, so that a missing process still
+	// ends up as error response instead of an empty file
 	@SneakyThrows
-	public List<List<String>> findAllSubmodelCsvHistory(String submodel, String processId) {
+	private HistoryTable findHistoryTable(String submodel, String processId) {
+		SubmodelMetadata submodelMetadata = submodelService.findSubmodelMetadata(submodel);
+		List<String> headerName = submodelMetadata.csvTableColumns();
+		String tableName = submodelMetadata.tableName();
 
-		List<List<String>> records = new LinkedList<>();
-		Submodel schemaObj = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
-		List<String> headerName = submoduleUtility.getTableColomnHeaderForCSV(schemaObj);
+		if (!submodelCustomHistoryGenerator.hasSubmodelHistory(tableName, processId))
+			throw new NoDataFoundException(String.format("No data found for processid %s ", processId));
 
-		records.add(headerName);
+		return new HistoryTable(headerName, tableName);
+	}
 
-		String tableName = submoduleUtility.getTableName(schemaObj);
+	private static List<String> toStringValues(Object[] row) {
+		List<String> values = new ArrayList<>(row.length);
+		for (Object object : row)
+			values.add(object == null ? "" : object.toString());
+		return values;
+	}
 
-		records.addAll(submodelCustomHistoryGenerator.findAllSubmodelCsvHistory(headerName, tableName, processId));
+	private static void writeStringArray(JsonGenerator jsonGenerator, List<String> values) throws IOException {
+		jsonGenerator.writeStartArray();
+		for (String value : values)
+			jsonGenerator.writeString(value);
+		jsonGenerator.writeEndArray();
+	}
 
-		return records;
+	private record HistoryTable(List<String> columns, String tableName) {
 	}
-}
\ No newline at end of file
+}
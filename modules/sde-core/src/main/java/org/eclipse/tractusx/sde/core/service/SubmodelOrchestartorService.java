@@ -30,22 +30,26 @@ import org.eclipse.tractusx.sde.common.entities.PolicyModel;
 import org.eclipse.tractusx.sde.common.entities.PolicyTemplateRequest;
 import org.eclipse.tractusx.sde.common.entities.PolicyTemplateType;
 import org.eclipse.tractusx.sde.common.entities.SubmodelJsonRequest;
-import org.eclipse.tractusx.sde.common.entities.csv.CsvContent;
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
 import org.eclipse.tractusx.sde.common.mapper.JsonObjectMapper;
 import org.eclipse.tractusx.sde.common.mapper.SubmodelMapper;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.validators.SubmodelCSVValidator;
+import org.eclipse.tractusx.sde.common.validators.SubmodelSchemaRegistry;
 import org.eclipse.tractusx.sde.core.csv.service.CsvHandlerService;
+import org.eclipse.tractusx.sde.core.csv.service.CsvRowReader;
 import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
 import org.eclipse.tractusx.sde.core.policy.entity.PolicyMapper;
 import org.eclipse.tractusx.sde.core.policy.service.PolicyService;
 import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
 import org.eclipse.tractusx.sde.core.submodel.executor.GenericSubmodelExecutor;
-import org.eclipse.tractusx.sde.core.submodel.executor.step.DatabaseUsecaseHandler;
-import org.eclipse.tractusx.sde.core.utils.SubmoduleUtility;
+import org.eclipse.tractusx.sde.core.submodel.executor.SubmodelMetrics;
+import org.eclipse.tractusx.sde.core.submodel.executor.job.SubmodelJobExecutor;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCProviderStateIndex;
 import org.eclipse.tractusx.sde.pcfexchange.service.impl.AsyncPushPCFDataForApproveRequest;
 import org.springframework.stereotype.Service;
 
@@ -86,10 +90,15 @@ public class SubmodelOrchestartorService {
 
 	private final AsyncPushPCFDataForApproveRequest asyncPushPCFDataForApproveRequest;
 
-	private final SubmoduleUtility submoduleUtility;
-
 	private final GenericSubmodelExecutor genericSubmodelExecutor;
-	private final DatabaseUsecaseHandler databaseUsecaseHandler;
+
+	private final SubmodelSchemaRegistry submodelSchemaRegistry;
+
+	private final SubmodelJobExecutor submodelJobExecutor;
+
+	private final SubmodelMetrics submodelMetrics;
+
+	private final EDCProviderStateIndex edcProviderStateIndex;
 
 	ObjectMapper mapper = new ObjectMapper();
 
@@ -97,62 +106,91 @@ public class SubmodelOrchestartorService {
 
 		Submodel submodelSchemaObject = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
 
-		CsvContent csvContent = csvHandlerService.processFile(processId);
-		List<String> columns = csvContent.getColumns();
+		CsvRowReader csvRowReader = csvHandlerService.openFile(processId);
+		try {
+			List<String> columns = csvRowReader.getColumns();
 
-		if (!sumodelcsvValidator.validate(submodelSchemaObject, columns)) {
-			throw new ValidationException(String.format("Csv column header is not matching %s submodel", submodel));
-		}
-
-		PolicyModel submodelPolicyRequest = onFlyPolicyManagement(policyTemplateRequest);
+			if (!sumodelcsvValidator.validate(submodelSchemaObject, columns)) {
+				throw new ValidationException(String.format("Csv column header is not matching %s submodel", submodel));
+			}
 
-		processCsv(submodelPolicyRequest, processId, submodelSchemaObject, csvContent);
+			PolicyModel submodelPolicyRequest = onFlyPolicyManagement(policyTemplateRequest);
 
+			processCsv(submodelPolicyRequest, processId, submodelSchemaObject, csvRowReader);
+		} catch (Exception e) {
+			csvRowReader.close();
+			throw e;
+		}
 	}
 
 	private void processCsv(PolicyModel submodelPolicyRequest, String processId, Submodel submodelSchemaObject,
-			CsvContent csvContent) {
+			CsvRowReader csvRowReader) {
+
+		processReportUseCase.queueProcessReport(processId, submodelSchemaObject.getId());
+
+		submodelJobExecutor.submitJob(processId, job -> {
+			edcProviderStateIndex.refreshIfStale(null);
 
-		Runnable runnable = () -> {
-			processReportUseCase.startBuildProcessReport(processId, submodelSchemaObject.getId(),
-					csvContent.getRows().size(), submodelPolicyRequest.getAccessPolicies(),
-					submodelPolicyRequest.getUsagePolicies(), submodelPolicyRequest.getUuid());
+			// The number of rows is unknown until the file is read completely, it is
+			// updated as soon as the last row has been handed over for processing
+			processReportUseCase.startBuildProcessReport(processId, submodelSchemaObject.getId(), 0,
+					submodelPolicyRequest.getAccessPolicies(), submodelPolicyRequest.getUsagePolicies(),
+					submodelPolicyRequest.getUuid());
 
 			AtomicInteger successCount = new AtomicInteger();
 			AtomicInteger failureCount = new AtomicInteger();
 
 			SubmodelExecutor executor = getExecutor(submodelSchemaObject.getExecutor());
-			executor.init(submodelSchemaObject);
+			SubmodelExecutionContext context = createExecutionContext(submodelSchemaObject, processId,
+					submodelPolicyRequest);
+
+			try (csvRowReader) {
+				RowData rowData;
+				while ((rowData = csvRowReader.next()) != null) {
+					RowData rowjObj = rowData;
+					job.submitRow(() -> {
+						try {
+							ObjectNode newjObject = jsonObjectMapper
+									.submodelFileRequestToJsonNodePojo(submodelPolicyRequest);
+							newjObject.put(ROW_NUMBER, rowjObj.position());
+							newjObject.put(PROCESS_ID, processId);
+							executor.executeCsvRecord(context, rowjObj, newjObject);
+							// fetch by ID and check it if it is success then its updated.
+							successCount.incrementAndGet();
+
+						} catch (Exception e) {
+							failureLogs.saveLog(processId, e.getMessage());
+							failureCount.incrementAndGet();
+						}
+					});
+				}
+			} catch (Exception e) {
+				failureLogs.saveLog(processId, e.getMessage());
+				failureCount.incrementAndGet();
+			}
+			processReportUseCase.updateNumberOfItems(processId, csvRowReader.getNumberOfDataRows());
 
-			csvContent.getRows().parallelStream().forEach(rowjObj -> {
-				try {
-					ObjectNode newjObject = jsonObjectMapper.submodelFileRequestToJsonNodePojo(submodelPolicyRequest);
-					newjObject.put(ROW_NUMBER, rowjObj.position());
-					newjObject.put(PROCESS_ID, processId);
-					executor.executeCsvRecord(rowjObj, newjObject, processId, submodelPolicyRequest);
-					// fetch by ID and check it if it is success then its updated.
-					successCount.incrementAndGet();
+			job.awaitRows();
 
-				} catch (Exception e) {
-					failureLogs.saveLog(processId, e.getMessage());
-					failureCount.incrementAndGet();
-				}
-			});
+			// rows are written to the database and registered for BPN discovery in
+			// batches, the rows which failed there were counted as success by the step chain
+			int failedRecords = executor.flushRecords(context);
+			successCount.addAndGet(-failedRecords);
+			failureCount.addAndGet(failedRecords);
 
-			int updatedcount = executor.getUpdatedRecordCount(processId);
+			int updatedcount = executor.getUpdatedRecordCount(context);
 			successCount.set(successCount.get() - updatedcount);
 			processReportUseCase.finishBuildProgressReport(processId, successCount.get(), failureCount.get(),
 					updatedcount);
+			submodelMetrics.countRows(submodelSchemaObject.getId(), successCount.get(), failureCount.get(),
+					updatedcount);
 
 			// Push PCF value which already Approve request of consumer
 			if (submodelSchemaObject.getId().contains("pcf")) {
-				databaseUsecaseHandler.init(submodelSchemaObject.getSchema());
-				List<JsonObject> readCreatedTwins = databaseUsecaseHandler.readCreatedTwins(processId, null);
+				List<JsonObject> readCreatedTwins = executor.readCreatedTwinsByProcessId(context, processId);
 				asyncPushPCFDataForApproveRequest.pushPCFDataForApproveRequest(readCreatedTwins, submodelPolicyRequest);
 			}
-		};
-
-		new Thread(runnable).start();
+		});
 	}
 
 	@SneakyThrows
@@ -162,13 +200,18 @@ public class SubmodelOrchestartorService {
 
 		PolicyModel policy = onFlyPolicyManagement(policyMapper.mapFrom(submodelJsonRequest));
 
-		Runnable runnable = () -> {
+		processReportUseCase.queueProcessReport(processId, submodelSchemaObject.getId());
+
+		// manual entries were always processed in the order of the request, so
+		// only one row of such a job is processed at a time
+		submodelJobExecutor.submitJob(processId, 1, job -> {
+			edcProviderStateIndex.refreshIfStale(rowData.size());
 
 			AtomicInteger atInt = new AtomicInteger();
 			AtomicInteger successCount = new AtomicInteger();
 			AtomicInteger failureCount = new AtomicInteger();
 			SubmodelExecutor executor = getExecutor(submodelSchemaObject.getExecutor());
-			executor.init(submodelSchemaObject);
+			SubmodelExecutionContext context = createExecutionContext(submodelSchemaObject, processId, policy);
 
 			processReportUseCase.startBuildProcessReport(processId, submodelSchemaObject.getId(), rowData.size(),
 					policy.getAccessPolicies(), policy.getUsagePolicies(), policy.getUuid());
@@ -179,29 +222,44 @@ public class SubmodelOrchestartorService {
 				obj.put(PROCESS_ID, processId);
 			});
 
-			rowData.parallelStream().forEachOrdered(rowjObj -> {
+			rowData.forEach(rowjObj -> job.submitRow(() -> {
 				try {
-					executor.executeJsonRecord(rowjObj.get(ROW_NUMBER).asInt(), rowjObj, processId, policy);
+					executor.executeJsonRecord(context, rowjObj.get(ROW_NUMBER).asInt(), rowjObj);
 					successCount.incrementAndGet();
 				} catch (Exception e) {
 					failureLogs.saveLog(processId, e.getMessage());
 					failureCount.incrementAndGet();
 				}
-			});
+			}));
+
+			job.awaitRows();
+
+			// rows are written to the database and registered for BPN discovery in
+			// batches, the rows which failed there were counted as success by the step chain
+			int failedRecords = executor.flushRecords(context);
+			successCount.addAndGet(-failedRecords);
+			failureCount.addAndGet(failedRecords);
 
-			int updatedcount = executor.getUpdatedRecordCount(processId);
+			int updatedcount = executor.getUpdatedRecordCount(context);
 			successCount.set(successCount.get() - updatedcount);
 			processReportUseCase.finishBuildProgressReport(processId, successCount.get(), failureCount.get(),
 					updatedcount);
+			submodelMetrics.countRows(submodelSchemaObject.getId(), successCount.get(), failureCount.get(),
+					updatedcount);
 
 			// Push PCF value which already Approve request of consumer
 			if (submodelSchemaObject.getId().contains("pcf")) {
-				databaseUsecaseHandler.init(submodelSchemaObject.getSchema());
-				List<JsonObject> readCreatedTwins = databaseUsecaseHandler.readCreatedTwins(processId, null);
+				List<JsonObject> readCreatedTwins = executor.readCreatedTwinsByProcessId(context, processId);
 				asyncPushPCFDataForApproveRequest.pushPCFDataForApproveRequest(readCreatedTwins, policy);
 			}
-		};
-		new Thread(runnable).start();
+		});
+	}
+
+	private SubmodelExecutionContext createExecutionContext(Submodel submodel, String processId,
+			PolicyModel policy) {
+		return SubmodelExecutionContext.builder().submodel(submodel)
+				.compiledSchema(submodelSchemaRegistry.getCompiledSchema(submodel.getSchema())).processId(processId)
+				.policy(policy).build();
 	}
 
 	private SubmodelExecutor getExecutor(SubmodelExecutor executor) {
@@ -218,12 +276,14 @@ public class SubmodelOrchestartorService {
 		AtomicInteger atInt = new AtomicInteger();
 
 		SubmodelExecutor executor = getExecutor(submodelSchema.getExecutor());
-		executor.init(submodelSchema);
+		SubmodelExecutionContext context = createExecutionContext(submodelSchema, delProcessId, null);
 		ProcessReport oldProcessReport = processReportUseCase.getProcessReportById(refProcessId);
 
-		List<JsonObject> readCreatedTwinsforDelete = executor.readCreatedTwinsforDelete(refProcessId);
+		List<JsonObject> readCreatedTwinsforDelete = executor.readCreatedTwinsforDelete(context, refProcessId);
 
-		Runnable runnable = () -> {
+		processReportUseCase.queueProcessReport(delProcessId, submodel);
+
+		submodelJobExecutor.submitJob(delProcessId, job -> {
 
 			processReportUseCase.startDeleteProcess(oldProcessReport, refProcessId, submodel,
 					readCreatedTwinsforDelete.size(), delProcessId);
@@ -236,30 +296,37 @@ public class SubmodelOrchestartorService {
 				return rowjObj;
 			}).toList();
 
-			filterList.parallelStream().forEach(rowjObj -> {
+			filterList.forEach(rowjObj -> job.submitRow(() -> {
 				try {
-					executor.executeDeleteRecord(rowjObj.get(ROW_NUMBER).getAsInt(), rowjObj, delProcessId,
-							refProcessId);
+					executor.executeDeleteRecord(context, rowjObj.get(ROW_NUMBER).getAsInt(), rowjObj, refProcessId);
 					deletedCount.incrementAndGet();
 				} catch (Exception e) {
 					failureLogs.saveLog(delProcessId, e.getMessage());
 					failureCount.incrementAndGet();
 				}
-			});
+			}));
+
+			job.awaitRows();
+
+			// the deleted rows are marked in batches, the rows which could not be
+			// marked were counted as deleted
+			int failedRecords = executor.flushRecords(context);
+			deletedCount.addAndGet(-failedRecords);
+			failureCount.addAndGet(failedRecords);
+
 			processReportUseCase.finishBuildDeleteProgressReport(delProcessId, deletedCount.get(), failureCount.get());
-		};
-		new Thread(runnable).start();
+		});
 
 	}
 
 	public Map<Object, Object> readCreatedTwinsDetails(String submodel, String uuid, String type) {
 		Submodel submodelSchema = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
 		SubmodelExecutor executor = getExecutor(submodelSchema.getExecutor());
-		executor.init(submodelSchema);
-		JsonObject readCreatedTwinsDetails = executor.readCreatedTwinsDetails(uuid);
+		JsonObject readCreatedTwinsDetails = executor
+				.readCreatedTwinsDetails(createExecutionContext(submodelSchema, null, null), uuid);
 		JsonObject jObject = new JsonObject();
 		if ("csv".equalsIgnoreCase(type)) {
-			List<String> csvHeader = submoduleUtility.getCSVHeader(submodelSchema);
+			List<String> csvHeader = submodelService.findSubmodelMetadata(submodel).csvHeader();
 			JsonObject jElement = readCreatedTwinsDetails.get("csv").getAsJsonObject();
 			for (String field : csvHeader) {
 				jObject.add(field, jElement.get(field));
@@ -273,11 +340,16 @@ public class SubmodelOrchestartorService {
 
 	public void processSubmodelAutomationCsv(PolicyModel submodelFileRequest, String processId) {
 
-		CsvContent csvContent = csvHandlerService.processFile(processId);
-		List<String> columns = csvContent.getColumns();
-		Submodel foundSubmodelSchemaObject = findSubmodel(columns);
+		CsvRowReader csvRowReader = csvHandlerService.openFile(processId);
+		try {
+			List<String> columns = csvRowReader.getColumns();
+			Submodel foundSubmodelSchemaObject = findSubmodel(columns);
 
-		processCsv(submodelFileRequest, processId, foundSubmodelSchemaObject, csvContent);
+			processCsv(submodelFileRequest, processId, foundSubmodelSchemaObject, csvRowReader);
+		} catch (Exception e) {
+			csvRowReader.close();
+			throw e;
+		}
 	}
 
 	public PolicyModel onFlyPolicyManagement(PolicyTemplateRequest policyTemplateRequest) {
@@ -326,21 +398,8 @@ public class SubmodelOrchestartorService {
 	}
 
 	public Submodel findSubmodel(List<String> columns) {
-
-		Submodel foundSubmodelSchemaObject = null;
-		List<Submodel> submodelDetails = submodelService.getAllSubmodels();
-		for (Submodel submodel : submodelDetails) {
-
-			if (sumodelcsvValidator.validate(submodel, columns)) {
-				foundSubmodelSchemaObject = submodel;
-				break;
-			}
-		}
-
-		if (foundSubmodelSchemaObject == null) {
-			throw new ValidationException("Csv column header is not matching with any supported submodels");
-		}
-		return foundSubmodelSchemaObject;
+		return submodelService.findSubmodelByColumns(columns).orElseThrow(
+				() -> new ValidationException("Csv column header is not matching with any supported submodels"));
 	}
 
 }
\ No newline at end of file
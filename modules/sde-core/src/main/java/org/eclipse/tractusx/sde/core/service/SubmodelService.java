@@ -31,6 +31,7 @@ import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
 import org.eclipse.tractusx.sde.common.mapper.SubmodelMapper;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.core.registry.SubmodelMetadata;
 import org.eclipse.tractusx.sde.core.registry.SubmodelRegistration;
 import org.eclipse.tractusx.sde.core.registry.UsecaseRegistration;
 import org.springframework.stereotype.Service;
@@ -86,9 +87,7 @@ public class SubmodelService {
 	}
 
 	private Optional<Submodel> readValue(String submodelName) {
-		return submodelRegistration.getModels().stream()
-				.filter(obj -> obj.getId().equalsIgnoreCase(submodelName.toLowerCase())).findFirst();
-
+		return submodelRegistration.getIndex().findById(submodelName);
 	}
 
 	public Submodel findSubmodelByNameAsSubmdelObject(String submodelName) {
@@ -100,4 +99,17 @@ public class SubmodelService {
 		return submodelRegistration.getModels();
 	}
 
+	public SubmodelMetadata findSubmodelMetadata(String submodelName) {
+		return submodelRegistration.getMetadata(submodelName)
+				.orElseThrow(() -> new ValidationException(submodelName + " submodel is not supported"));
+	}
+
+	public List<Submodel> findSubmodelsBySemanticIdPrefix(String semanticIdPrefix) {
+		return submodelRegistration.getIndex().findBySemanticIdPrefix(semanticIdPrefix);
+	}
+
+	public Optional<Submodel> findSubmodelByColumns(List<String> columns) {
+		return submodelRegistration.getIndex().findByColumns(columns);
+	}
+
 }
@@ -21,30 +21,32 @@
 package org.eclipse.tractusx.sde.core.submodel.executor;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.PolicyModel;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
+import org.eclipse.tractusx.sde.common.model.Submodel;
 import org.eclipse.tractusx.sde.common.submodel.executor.BPNDiscoveryUsecaseStep;
 import org.eclipse.tractusx.sde.common.submodel.executor.DatabaseUsecaseStep;
 import org.eclipse.tractusx.sde.common.submodel.executor.DigitalTwinUsecaseStep;
 import org.eclipse.tractusx.sde.common.submodel.executor.EDCUsecaseStep;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmoduleMapperUsecaseStep;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
-import lombok.SneakyThrows;
-
 @Component
 public class GenericSubmodelExecutor extends SubmodelExecutor {
 
@@ -63,13 +65,18 @@ public class GenericSubmodelExecutor extends SubmodelExecutor {
 
 	private final SubmoduleMapperUsecaseStep submodelMapperUseCaseStep;
 
+	private final SubmodelMetrics submodelMetrics;
+
+	private final FailureLogs failureLogs;
+
 	public GenericSubmodelExecutor(CsvParse csvParseStep, JsonRecordFormating jsonRecordformater,
 			GenerateUrnUUID generateUrnUUID, JsonRecordValidate jsonRecordValidate,
 			@Qualifier("digitalTwinUseCaseHandler") DigitalTwinUsecaseStep digitalTwinUseCaseStep,
 			@Qualifier("eDCUsecaseHandler") EDCUsecaseStep edcUseCaseStep,
 			@Qualifier("bPNDiscoveryUseCaseHandler") BPNDiscoveryUsecaseStep bpnUseCaseTwinStep,
 			@Qualifier("databaseUsecaseHandler") DatabaseUsecaseStep databaseUseCaseStep,
-			@Qualifier("submoduleResponseHandler") SubmoduleMapperUsecaseStep submodelMapperUseCaseStep) {
+			@Qualifier("submoduleResponseHandler") SubmoduleMapperUsecaseStep submodelMapperUseCaseStep,
+			SubmodelMetrics submodelMetrics, FailureLogs failureLogs) {
 		this.csvParseStep = csvParseStep;
 		this.jsonRecordformater = jsonRecordformater;
 		this.generateUrnUUID = generateUrnUUID;
@@ -79,108 +86,123 @@ public class GenericSubmodelExecutor extends SubmodelExecutor {
 		this.bpnUseCaseTwinStep = bpnUseCaseTwinStep;
 		this.databaseUseCaseStep = databaseUseCaseStep;
 		this.submodelMapperUseCaseStep = submodelMapperUseCaseStep;
+		this.submodelMetrics = submodelMetrics;
+		this.failureLogs = failureLogs;
 	}
 
-	@SneakyThrows
 	@Override
-	public void executeCsvRecord(RowData rowData, ObjectNode jsonObject, String processId, PolicyModel policy) {
-
-		csvParseStep.init(getSubmodelSchema());
-		csvParseStep.run(rowData, jsonObject, processId);
-
-		nextSteps(rowData.position(), jsonObject, processId, policy);
+	public void executeCsvRecord(SubmodelExecutionContext context, RowData rowData, ObjectNode jsonObject) {
+		context.run(() -> {
+			submodelMetrics.time(SubmodelMetrics.CSV_PARSE, context.getSubmodel().getId(),
+					() -> csvParseStep.run(rowData, jsonObject, context.getProcessId()));
 
+			nextSteps(context, rowData.position(), jsonObject);
+		});
 	}
 
-	@SneakyThrows
 	@Override
-	public void executeJsonRecord(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy) {
-
-		jsonRecordformater.init(getSubmodelSchema());
-		jsonRecordformater.run(rowIndex, jsonObject, processId);
-
-		nextSteps(rowIndex, jsonObject, processId, policy);
+	public void executeJsonRecord(SubmodelExecutionContext context, Integer rowIndex, ObjectNode jsonObject) {
+		context.run(() -> {
+			submodelMetrics.time(SubmodelMetrics.JSON_FORMAT, context.getSubmodel().getId(),
+					() -> jsonRecordformater.run(rowIndex, jsonObject, context.getProcessId()));
 
+			nextSteps(context, rowIndex, jsonObject);
+		});
 	}
 
-	@SneakyThrows
-	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy) {
+	private void nextSteps(SubmodelExecutionContext context, Integer rowIndex, ObjectNode jsonObject) {
+		Submodel submodel = context.getSubmodel();
+		String processId = context.getProcessId();
+		PolicyModel policy = context.getPolicy();
+		String submodelId = submodel.getId();
 
-		generateUrnUUID.init(getSubmodelSchema());
-		generateUrnUUID.run(jsonObject, processId);
+		submodelMetrics.time(SubmodelMetrics.UUID_GENERATION, submodelId,
+				() -> generateUrnUUID.run(jsonObject, processId));
 
-		jsonRecordValidate.init(getSubmodelSchema());
-		jsonRecordValidate.run(rowIndex, jsonObject);
+		submodelMetrics.time(SubmodelMetrics.VALIDATION, submodelId,
+				() -> jsonRecordValidate.run(rowIndex, jsonObject));
 
-		getDtExecutorStep().init(getSubmodelSchema());
-		getDtExecutorStep().run(rowIndex, jsonObject, processId, policy);
+		submodelMetrics.time(SubmodelMetrics.DIGITAL_TWIN, submodelId,
+				() -> getDtExecutorStep(submodel).run(rowIndex, jsonObject, processId, policy));
 
-		getEDCExecutorStep().init(getSubmodelSchema());
-		getEDCExecutorStep().run(rowIndex, jsonObject, processId, policy);
+		submodelMetrics.time(SubmodelMetrics.EDC, submodelId,
+				() -> getEDCExecutorStep(submodel).run(rowIndex, jsonObject, processId, policy));
 
-		getBpnExecutorStep().init(getSubmodelSchema());
-		getBpnExecutorStep().run(rowIndex, jsonObject, processId, policy);
+		submodelMetrics.time(SubmodelMetrics.BPN_DISCOVERY, submodelId,
+				() -> getBpnExecutorStep(submodel).run(rowIndex, jsonObject, processId, policy));
 
-		getDatabaseExecutorStep().init(getSubmodelSchema());
-		getDatabaseExecutorStep().run(rowIndex, jsonObject, processId, policy);
+		submodelMetrics.time(SubmodelMetrics.DATABASE, submodelId,
+				() -> getDatabaseExecutorStep(submodel).run(rowIndex, jsonObject, processId, policy));
 	}
 
 	@Override
-	public void executeDeleteRecord(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId) {
-		getEDCExecutorStep().init(getSubmodelSchema());
-		getEDCExecutorStep().delete(rowIndex, jsonObject, delProcessId, refProcessId);
-		getDtExecutorStep().init(getSubmodelSchema());
-		getDtExecutorStep().delete(rowIndex, jsonObject, delProcessId, refProcessId);
-		getDatabaseExecutorStep().init(getSubmodelSchema());
-		getDatabaseExecutorStep().saveSubmoduleWithDeleted(rowIndex, jsonObject, delProcessId, refProcessId);
+	public void executeDeleteRecord(SubmodelExecutionContext context, Integer rowIndex, JsonObject jsonObject,
+			String refProcessId) {
+		Submodel submodel = context.getSubmodel();
+		String delProcessId = context.getProcessId();
+		context.run(() -> {
+			getEDCExecutorStep(submodel).delete(rowIndex, jsonObject, delProcessId, refProcessId);
+			getDtExecutorStep(submodel).delete(rowIndex, jsonObject, delProcessId, refProcessId);
+			getDatabaseExecutorStep(submodel).saveSubmoduleWithDeleted(rowIndex, jsonObject, delProcessId,
+					refProcessId);
+		});
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		getDatabaseExecutorStep().init(getSubmodelSchema());
-		List<JsonObject> allSubmoduleAsJsonList= getDatabaseExecutorStep().readCreatedTwins(refProcessId, CommonConstants.DELETED_Y);
+	public List<JsonObject> readCreatedTwinsforDelete(SubmodelExecutionContext context, String refProcessId) {
+		List<JsonObject> allSubmoduleAsJsonList = context.call(() -> getDatabaseExecutorStep(context.getSubmodel())
+				.readCreatedTwins(refProcessId, CommonConstants.DELETED_Y));
 		if (allSubmoduleAsJsonList.isEmpty())
 			throw new NoDataFoundException("No data founds for deletion " + refProcessId);
 		return allSubmoduleAsJsonList;
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsByProcessId(String refProcessId) {
-		getDatabaseExecutorStep().init(getSubmodelSchema());
-		return getDatabaseExecutorStep().readCreatedTwins(refProcessId, null);
+	public List<JsonObject> readCreatedTwinsByProcessId(SubmodelExecutionContext context, String refProcessId) {
+		return context.call(() -> getDatabaseExecutorStep(context.getSubmodel()).readCreatedTwins(refProcessId, null));
+	}
+
+	@Override
+	public JsonObject readCreatedTwinsDetails(SubmodelExecutionContext context, String uuid) {
+		Submodel submodel = context.getSubmodel();
+		return context.call(() -> getSubmodelMapperExecutorStep(submodel)
+				.mapJsonbjectToFormatedResponse(getDatabaseExecutorStep(submodel).readCreatedTwinsDetails(uuid)));
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
-		getDatabaseExecutorStep().init(getSubmodelSchema());
-		getSubmodelMapperExecutorStep().init(getSubmodelSchema());
-		return getSubmodelMapperExecutorStep()
-				.mapJsonbjectToFormatedResponse(getDatabaseExecutorStep().readCreatedTwinsDetails(uuid));
+	public int getUpdatedRecordCount(SubmodelExecutionContext context) {
+		return context
+				.call(() -> getDatabaseExecutorStep(context.getSubmodel()).getUpdatedData(context.getProcessId()));
 	}
 
 	@Override
-	public int getUpdatedRecordCount(String processId) {
-		getDatabaseExecutorStep().init(getSubmodelSchema());
-		return getDatabaseExecutorStep().getUpdatedData(processId);
+	public int flushRecords(SubmodelExecutionContext context) {
+		return context.call(() -> submodelMetrics.time(SubmodelMetrics.FLUSH, context.getSubmodel().getId(), () -> {
+			getDtExecutorStep(context.getSubmodel()).finish(context.getProcessId());
+			Map<Integer, String> failedRows = getBpnExecutorStep(context.getSubmodel()).finish(context.getProcessId());
+			failedRows.forEach((rowIndex, error) -> failureLogs.saveLog(context.getProcessId(),
+					String.format("RowPosition: %s | Description: %s", rowIndex, error)));
+			return failedRows.size() + getDatabaseExecutorStep(context.getSubmodel()).flush(context.getProcessId());
+		}));
 	}
 
-	private DigitalTwinUsecaseStep getDtExecutorStep() {
+	private DigitalTwinUsecaseStep getDtExecutorStep(Submodel submodel) {
 		return Optional.ofNullable(submodel.getDigitalTwinUseCaseStep()).orElse(digitalTwinUseCaseStep);
 	}
 
-	private EDCUsecaseStep getEDCExecutorStep() {
+	private EDCUsecaseStep getEDCExecutorStep(Submodel submodel) {
 		return Optional.ofNullable(submodel.getEdcUseCaseStep()).orElse(edcUseCaseStep);
 	}
 
-	private BPNDiscoveryUsecaseStep getBpnExecutorStep() {
+	private BPNDiscoveryUsecaseStep getBpnExecutorStep(Submodel submodel) {
 		return Optional.ofNullable(submodel.getBpnUseCaseTwinStep()).orElse(bpnUseCaseTwinStep);
 	}
 
-	private DatabaseUsecaseStep getDatabaseExecutorStep() {
+	private DatabaseUsecaseStep getDatabaseExecutorStep(Submodel submodel) {
 		return Optional.ofNullable(submodel.getDatabaseUseCaseStep()).orElse(databaseUseCaseStep);
 	}
 
-	private SubmoduleMapperUsecaseStep getSubmodelMapperExecutorStep() {
+	private SubmoduleMapperUsecaseStep getSubmodelMapperExecutorStep(Submodel submodel) {
 		return Optional.ofNullable(submodel.getSubmodelMapperUseCaseStep()).orElse(submodelMapperUseCaseStep);
 	}
 
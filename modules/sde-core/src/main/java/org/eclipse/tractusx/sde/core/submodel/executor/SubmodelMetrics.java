@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Meters of the submodel step chain: the time of every step per submodel as
+ * {@code sde.submodel.step} and the processed rows per submodel and result as
+ * {@code sde.submodel.rows}. Calls to the remote services are timed by the
+ * Feign clients as {@code http.client.requests}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmodelMetrics {
+
+	public static final String CSV_PARSE = "csv-parse";
+	public static final String JSON_FORMAT = "json-format";
+	public static final String UUID_GENERATION = "uuid-generation";
+	public static final String VALIDATION = "validation";
+	public static final String DIGITAL_TWIN = "digital-twin";
+	public static final String EDC = "edc";
+	public static final String BPN_DISCOVERY = "bpn-discovery";
+	public static final String DATABASE = "database";
+	public static final String FLUSH = "flush";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${sde.metrics.percentile-histogram:true}")
+	private boolean percentileHistogram;
+
+	private final Map<String, Timer> stepTimers = new ConcurrentHashMap<>();
+
+	public void time(String step, String submodel, Runnable stepBody) {
+		getStepTimer(step, submodel).record(stepBody);
+	}
+
+	public <T> T time(String step, String submodel, Supplier<T> stepBody) {
+		return getStepTimer(step, submodel).record(stepBody);
+	}
+
+	public void countRows(String submodel, int succeeded, int failed, int updated) {
+		rowCounter(submodel, "succeeded").increment(succeeded);
+		rowCounter(submodel, "failed").increment(failed);
+		rowCounter(submodel, "updated").increment(updated);
+	}
+
+	private Timer getStepTimer(String step, String submodel) {
+		return stepTimers.computeIfAbsent(step + "\u0000" + submodel,
+				key -> Timer.builder("sde.submodel.step").description("Time of a step of the submodel step chain")
+						.tag("step", step).tag("submodel", submodel).publishPercentileHistogram(percentileHistogram)
+						.register(meterRegistry));
+	}
+
+	private Counter rowCounter(String submodel, String result) {
+		return Counter.builder("sde.submodel.rows").description("Processed rows of submodel uploads")
+				.tag("submodel", submodel).tag("result", result).register(meterRegistry);
+	}
+}
@@ -0,0 +1,121 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor.job;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+
+import lombok.Getter;
+
+/**
+ * Handle of one running submodel process. Rows submitted through
+ * {@link #submitRow(Runnable)} are queued per job and picked up by the shared
+ * row workers of {@link SubmodelJobExecutor}, never more than
+ * {@code maxConcurrentRows} at the same time.
+ *
+ * All mutable state is guarded by the lock of the owning executor.
+ */
+public class SubmodelJob {
+
+	@Getter
+	private final String processId;
+
+	private final SubmodelJobExecutor jobExecutor;
+
+	private final int maxConcurrentRows;
+
+	private final int rowQueueCapacity;
+
+	private final Deque<Runnable> pendingRows = new ArrayDeque<>();
+
+	private final Condition rowQueueNotFull;
+
+	private final Condition allRowsDone;
+
+	private int runningRows;
+
+	SubmodelJob(String processId, SubmodelJobExecutor jobExecutor, int maxConcurrentRows, int rowQueueCapacity) {
+		this.processId = processId;
+		this.jobExecutor = jobExecutor;
+		this.maxConcurrentRows = maxConcurrentRows;
+		this.rowQueueCapacity = rowQueueCapacity;
+		this.rowQueueNotFull = jobExecutor.newCondition();
+		this.allRowsDone = jobExecutor.newCondition();
+	}
+
+	/**
+	 * Queues a row for processing, blocks while the row queue of this job is
+	 * full.
+	 */
+	public void submitRow(Runnable row) {
+		jobExecutor.submitRow(this, row);
+	}
+
+	/**
+	 * Blocks till every submitted row of this job is processed.
+	 */
+	public void awaitRows() {
+		jobExecutor.awaitRows(this);
+	}
+
+	public int getQueuedRows() {
+		return jobExecutor.queuedRows(this);
+	}
+
+	boolean isRowQueueFull() {
+		return pendingRows.size() >= rowQueueCapacity;
+	}
+
+	void enqueue(Runnable row) {
+		pendingRows.addLast(row);
+	}
+
+	Runnable pollRow() {
+		if (runningRows >= maxConcurrentRows || pendingRows.isEmpty())
+			return null;
+		runningRows++;
+		rowQueueNotFull.signal();
+		return pendingRows.pollFirst();
+	}
+
+	void rowFinished() {
+		runningRows--;
+		if (isDone())
+			allRowsDone.signalAll();
+	}
+
+	boolean isDone() {
+		return runningRows == 0 && pendingRows.isEmpty();
+	}
+
+	int pendingRowCount() {
+		return pendingRows.size();
+	}
+
+	Condition rowQueueNotFull() {
+		return rowQueueNotFull;
+	}
+
+	Condition allRowsDone() {
+		return allRowsDone;
+	}
+}
@@ -0,0 +1,330 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor.job;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.eclipse.tractusx.sde.common.utils.LogUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dedicated executor for submodel upload/delete processes.
+ *
+ * Every process runs as a job on a bounded job pool, processes which exceed
+ * {@code sde.job.max-concurrent-jobs} wait in a FIFO queue. The rows of all
+ * running jobs are executed by a shared, named pool of row workers which take
+ * rows round-robin from the running jobs, so one large upload can not starve
+ * the others and no blocking remote call ends up in the common ForkJoinPool.
+ * The running and queued jobs and the queued rows are published as gauges.
+ */
+@Slf4j
+@Component
+public class SubmodelJobExecutor implements MeterBinder {
+
+	public enum JobState {
+		QUEUED, RUNNING
+	}
+
+	@Value("${sde.job.max-concurrent-jobs:4}")
+	private int maxConcurrentJobs;
+
+	@Value("${sde.job.worker-threads:32}")
+	private int workerThreads;
+
+	@Value("${sde.job.max-concurrent-rows-per-job:16}")
+	private int maxConcurrentRowsPerJob;
+
+	@Value("${sde.job.row-queue-capacity-per-job:256}")
+	private int rowQueueCapacityPerJob;
+
+	@Value("${sde.job.virtual-threads:false}")
+	private boolean virtualThreads;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition rowAvailable = lock.newCondition();
+
+	private final Deque<SubmodelJob> runningJobs = new ArrayDeque<>();
+
+	private final Map<String, JobState> jobStates = new ConcurrentHashMap<>();
+
+	private final Queue<String> pendingProcessIds = new ConcurrentLinkedQueue<>();
+
+	private ExecutorService jobPool;
+
+	private List<Thread> rowWorkers;
+
+	@PostConstruct
+	public void start() {
+		jobPool = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), threadFactory("sde-job-"));
+
+		ThreadFactory workerFactory = threadFactory("sde-row-worker-");
+		rowWorkers = new ArrayList<>(workerThreads);
+		for (int i = 0; i < workerThreads; i++) {
+			Thread worker = workerFactory.newThread(this::processRows);
+			rowWorkers.add(worker);
+			worker.start();
+		}
+		log.info(String.format("Submodel job executor started with %s job slots and %s row workers",
+				maxConcurrentJobs, workerThreads));
+	}
+
+	@PreDestroy
+	public void stop() {
+		jobPool.shutdownNow();
+		rowWorkers.forEach(Thread::interrupt);
+	}
+
+	public void submitJob(String processId, Consumer<SubmodelJob> jobBody) {
+		submitJob(processId, maxConcurrentRowsPerJob, jobBody);
+	}
+
+	/**
+	 * Queues a process, the job body runs as soon as a job slot is free. The rows
+	 * which the job body submits run at most {@code maxConcurrentRows} at a time.
+	 */
+	public void submitJob(String processId, int maxConcurrentRows, Consumer<SubmodelJob> jobBody) {
+		SubmodelJob job = new SubmodelJob(processId, this, Math.min(maxConcurrentRows, maxConcurrentRowsPerJob),
+				rowQueueCapacityPerJob);
+		jobStates.put(processId, JobState.QUEUED);
+		pendingProcessIds.add(processId);
+		jobPool.execute(() -> runJob(job, jobBody));
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("sde.job.running", this, SubmodelJobExecutor::getRunningJobCount)
+				.description("Submodel jobs which are running").register(registry);
+		Gauge.builder("sde.job.queued", this, SubmodelJobExecutor::getQueuedJobCount)
+				.description("Submodel jobs which wait for a job slot").register(registry);
+		Gauge.builder("sde.job.queued.rows", this, SubmodelJobExecutor::getQueuedRowCount)
+				.description("Rows of running jobs which wait for a row worker").register(registry);
+	}
+
+	public Optional<JobState> getJobState(String processId) {
+		return Optional.ofNullable(jobStates.get(processId));
+	}
+
+	/**
+	 * One based position of a queued process, null if the process is not queued.
+	 */
+	public Integer getQueuePosition(String processId) {
+		int position = 1;
+		for (String pendingProcessId : pendingProcessIds) {
+			if (pendingProcessId.equals(processId))
+				return position;
+			position++;
+		}
+		return null;
+	}
+
+	public int getRunningJobCount() {
+		lock.lock();
+		try {
+			return runningJobs.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getQueuedJobCount() {
+		return pendingProcessIds.size();
+	}
+
+	/**
+	 * Rows of the running jobs which wait for a row thread.
+	 */
+	public int getQueuedRowCount() {
+		lock.lock();
+		try {
+			int queuedRows = 0;
+			for (SubmodelJob job : runningJobs)
+				queuedRows += job.pendingRowCount();
+			return queuedRows;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void runJob(SubmodelJob job, Consumer<SubmodelJob> jobBody) {
+		String processId = job.getProcessId();
+		pendingProcessIds.remove(processId);
+		jobStates.put(processId, JobState.RUNNING);
+
+		lock.lock();
+		try {
+			runningJobs.addLast(job);
+		} finally {
+			lock.unlock();
+		}
+
+		try {
+			jobBody.accept(job);
+		} catch (Exception e) {
+			log.error(LogUtil.encode("Unexpected error in process " + processId + ", " + e.getMessage()));
+		} finally {
+			job.awaitRows();
+			lock.lock();
+			try {
+				runningJobs.remove(job);
+			} finally {
+				lock.unlock();
+			}
+			jobStates.remove(processId);
+		}
+	}
+
+	private void processRows() {
+		while (!Thread.currentThread().isInterrupted()) {
+			SubmodelJob job = null;
+			Runnable row = null;
+
+			lock.lock();
+			try {
+				while (row == null) {
+					// round-robin over the running jobs, every look up starts with the job
+					// next to the one which was served last
+					for (int i = 0; i < runningJobs.size() && row == null; i++) {
+						job = runningJobs.pollFirst();
+						runningJobs.addLast(job);
+						row = job.pollRow();
+					}
+					if (row == null)
+						rowAvailable.await();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				lock.unlock();
+			}
+
+			try {
+				row.run();
+			} catch (Exception e) {
+				log.error(LogUtil.encode("Unexpected error in process " + job.getProcessId() + ", " + e.getMessage()));
+			} finally {
+				lock.lock();
+				try {
+					job.rowFinished();
+					// a row slot of this job is free again
+					rowAvailable.signal();
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	void submitRow(SubmodelJob job, Runnable row) {
+		lock.lock();
+		try {
+			while (job.isRowQueueFull())
+				job.rowQueueNotFull().await();
+			job.enqueue(row);
+			rowAvailable.signal();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while queueing row of process " + job.getProcessId());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void awaitRows(SubmodelJob job) {
+		lock.lock();
+		try {
+			while (!job.isDone())
+				job.allRowsDone().await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int queuedRows(SubmodelJob job) {
+		lock.lock();
+		try {
+			return job.pendingRowCount();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	Condition newCondition() {
+		return lock.newCondition();
+	}
+
+	private ThreadFactory threadFactory(String prefix) {
+		if (virtualThreads) {
+			ThreadFactory virtualThreadFactory = virtualThreadFactory(prefix);
+			if (virtualThreadFactory != null)
+				return virtualThreadFactory;
+		}
+		AtomicInteger counter = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	// Thread.ofVirtual() is only available from JDK 21, the application is still
+	// build for JDK 17 so it is looked up reflectively
+	private ThreadFactory virtualThreadFactory(String prefix) {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			log.warn("Virtual threads are not supported by this JVM, using platform threads for submodel jobs");
+			return null;
+		}
+	}
+}
@@ -29,11 +29,12 @@ import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.model.Submodel;
 import org.eclipse.tractusx.sde.common.submodel.executor.DatabaseUsecaseStep;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmoduleMapperUsecaseStep;
 import org.eclipse.tractusx.sde.common.utils.LogUtil;
 import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
+import org.eclipse.tractusx.sde.core.registry.SubmodelMetadata;
 import org.eclipse.tractusx.sde.core.service.SubmodelService;
-import org.eclipse.tractusx.sde.core.utils.SubmoduleUtility;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -52,8 +53,11 @@ public class DatabaseUsecaseHandler extends Step implements DatabaseUsecaseStep
 
 	private final SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
 
+	private final SubmodelDataBatchWriter submodelDataBatchWriter;
+
+	private final SubmodelDeletedBatchWriter submodelDeletedBatchWriter;
+
 	private final SubmodelService submodelService;
-	private final SubmoduleUtility submoduleUtility;
 	
 	@Qualifier("submoduleResponseHandler")
 	private final SubmoduleMapperUsecaseStep submoduleResponseHandler;
@@ -63,16 +67,19 @@ public class DatabaseUsecaseHandler extends Step implements DatabaseUsecaseStep
 	@Override
 	public JsonNode run(Integer rowIndex, ObjectNode jsonObject, String processId, PolicyModel policy) {
 
-		Submodel schemaObj = submodelService.findSubmodelByNameAsSubmdelObject(getNameOfModel());
-		List<String> columns = submoduleUtility.getTableColomnHeader(schemaObj);
-		String tableName = submoduleUtility.getTableName(schemaObj);
+		SubmodelMetadata submodelMetadata = submodelService.findSubmodelMetadata(getNameOfModel());
 
-		submodelCustomHistoryGenerator.saveSubmodelData(columns, tableName, processId, jsonObject,
-				getDatabaseIdentifierSpecsOfModel());
+		submodelDataBatchWriter.write(processId, rowIndex, submodelMetadata.tableName(),
+				submodelMetadata.tableColumns(), submodelMetadata.databaseIdentifierColumns(), jsonObject);
 
 		return jsonObject;
 	}
 
+	@Override
+	public int flush(String processId) {
+		return submodelDataBatchWriter.flush(processId) + submodelDeletedBatchWriter.flush(processId);
+	}
+
 	@SneakyThrows
 	@Override
 	public void saveSubmoduleWithDeleted(Integer rowIndex, JsonObject jsonObject, String delProcessId,
@@ -80,22 +87,17 @@ public class DatabaseUsecaseHandler extends Step implements DatabaseUsecaseStep
 
 		String identifier = extractExactFieldName(getIdentifierOfModel());
 		String uuid = jsonObject.get(identifier).getAsString();
-		Submodel schemaObj = submodelService.findSubmodelByNameAsSubmdelObject(getNameOfModel());
-		String tableName = submoduleUtility.getTableName(schemaObj);
-		submodelCustomHistoryGenerator.saveAspectWithDeleted(uuid, tableName, identifier);
+		String tableName = submodelService.findSubmodelMetadata(getNameOfModel()).tableName();
+		submodelDeletedBatchWriter.write(delProcessId, rowIndex, tableName, identifier, uuid);
 	}
 
 	@SneakyThrows
 	@Override
 	public List<JsonObject> readCreatedTwins(String refProcessId, String fetchNotDeletedRecord) {
-		Submodel schemaObj = submodelService.findSubmodelByNameAsSubmdelObject(getNameOfModel());
-		List<String> columns = submoduleUtility.getTableColomnHeader(schemaObj);
-		String tableName = submoduleUtility.getTableName(schemaObj);
-		
-		submoduleResponseHandler.init(schemaObj.getSchema());
+		SubmodelMetadata submodelMetadata = submodelService.findSubmodelMetadata(getNameOfModel());
 		
-		return submodelCustomHistoryGenerator.findAllSubmoduleAsJsonList(columns,
-				tableName, refProcessId, fetchNotDeletedRecord)
+		return submodelCustomHistoryGenerator.findAllSubmoduleAsJsonList(submodelMetadata.tableColumns(),
+				submodelMetadata.tableName(), refProcessId, fetchNotDeletedRecord)
 				.stream()
 				.map(submoduleResponseHandler::mapJsonbjectToFormatedResponse).toList();
 	}
@@ -104,21 +106,18 @@ public class DatabaseUsecaseHandler extends Step implements DatabaseUsecaseStep
 	@Override
 	public JsonObject readCreatedTwinsBySpecifyColomn(String sematicId, String value) {
 
-		List<Submodel> allSubmodels = submodelService.getAllSubmodels();
-		List<Submodel> list = allSubmodels.stream().filter(ele -> ele.getSemanticId().startsWith(sematicId)).toList();
+		List<Submodel> list = submodelService.findSubmodelsBySemanticIdPrefix(sematicId);
 
 		List<JsonObject> jsonObjectList = list.stream().flatMap(schemaObj -> {
 			try {
-				this.init(schemaObj.getSchema());
-				submoduleResponseHandler.init(schemaObj.getSchema());
-
-				List<String> columns = submoduleUtility.getTableColomnHeader(schemaObj);
-				String tableName = submoduleUtility.getTableName(schemaObj);
-
-				return submodelCustomHistoryGenerator
-						.readCreatedTwinsDetails(columns, tableName, getIdentifierValuesAsList(value),
-								getDatabaseIdentifierSpecsOfModel())
-						.stream().map(submoduleResponseHandler::mapJsonbjectToFormatedResponse);
+				SubmodelMetadata submodelMetadata = submodelService.findSubmodelMetadata(schemaObj.getId());
+
+				return SubmodelExecutionContext.builder().submodel(schemaObj).build()
+						.call(() -> submodelCustomHistoryGenerator
+								.readCreatedTwinsDetails(submodelMetadata.tableColumns(), submodelMetadata.tableName(),
+										getIdentifierValuesAsList(value), submodelMetadata.databaseIdentifierColumns())
+								.stream().map(submoduleResponseHandler::mapJsonbjectToFormatedResponse).toList())
+						.stream();
 			} catch (Exception e) {
 				log.debug(LogUtil.encode("Exception for " + sematicId +", " + value + ", " + e.getMessage()));
 			}
@@ -135,19 +134,17 @@ public class DatabaseUsecaseHandler extends Step implements DatabaseUsecaseStep
 	@Override
 	public JsonObject readCreatedTwinsDetails(String uuid) {
 
-		Submodel schemaObj = submodelService.findSubmodelByNameAsSubmdelObject(getNameOfModel());
-		List<String> columns = submoduleUtility.getTableColomnHeader(schemaObj);
-		String tableName = submoduleUtility.getTableName(schemaObj);
+		SubmodelMetadata submodelMetadata = submodelService.findSubmodelMetadata(getNameOfModel());
 
-		return submodelCustomHistoryGenerator.readCreatedTwinsDetails(columns, tableName,
-				getIdentifierValuesAsList(uuid), getDatabaseIdentifierSpecsOfModel()).get(0);
+		return submodelCustomHistoryGenerator.readCreatedTwinsDetails(submodelMetadata.tableColumns(),
+				submodelMetadata.tableName(), getIdentifierValuesAsList(uuid),
+				submodelMetadata.databaseIdentifierColumns()).get(0);
 	}
 
 	@SneakyThrows
 	@Override
 	public int getUpdatedData(String processId) {
-		Submodel schemaObj = submodelService.findSubmodelByNameAsSubmdelObject(getNameOfModel());
-		String tableName = submoduleUtility.getTableName(schemaObj);
+		String tableName = submodelService.findSubmodelMetadata(getNameOfModel()).tableName();
 		return submodelCustomHistoryGenerator.countUpdatedRecordCount(tableName, CommonConstants.UPDATED_Y, processId);
 	}
 
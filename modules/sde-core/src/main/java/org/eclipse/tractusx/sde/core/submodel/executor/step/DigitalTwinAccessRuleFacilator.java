@@ -22,8 +22,11 @@ package org.eclipse.tractusx.sde.core.submodel.executor.step;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.configuration.properties.SDEConfigurationProperties;
@@ -34,13 +37,14 @@ import org.eclipse.tractusx.sde.common.exception.ServiceException;
 import org.eclipse.tractusx.sde.common.submodel.executor.DatabaseUsecaseStep;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.common.utils.PolicyOperationUtil;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.AccessRuleIndex;
 import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsFacilitator;
-import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsUtility;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
@@ -55,8 +59,6 @@ public class DigitalTwinAccessRuleFacilator extends Step {
 
 	private final DigitalTwinsFacilitator digitalTwinFacilitator;
 
-	private final DigitalTwinsUtility digitalTwinsUtility;
-
 	private final SDEConfigurationProperties sdeConfigProperties;
 
 	@Qualifier("DatabaseUsecaseHandler")
@@ -64,63 +66,72 @@ public class DigitalTwinAccessRuleFacilator extends Step {
 
 	private static final String PUBLIC_READABLE = "PUBLIC_READABLE";
 
-	private String createRuleTemplate = """
+	private static final int MAX_RULE_TEMPLATES = 1000;
+
+	private static final String RULE_TEMPLATE = """
 			{
 			    "validFrom": "2020-01-02T03:04:05Z",
 			    "validTo": "4999-01-02T03:04:05Z",
 			    "description": "ACME policy within set validity period",
 			    "policyType": "AAS",
 			    "policy": {
-			        "accessRules": [
-			            {
-			                "attribute": "bpn",
-			                "operator": "eq",
-			                "value": "%s"
-			            },
-			            {
-			                "attribute": "mandatorySpecificAssetIds",
-			                "operator": "includes",
-			                "values": [ %s ]
-			            },
-			            {
-			                "attribute": "visibleSpecificAssetIdNames",
-			                "operator": "includes",
-			                "values": [ %s ]
-			            },
-			            {
-			                "attribute": "visibleSemanticIds",
-			                "operator": "includes",
-			                "values": [
-			                    {
-			                        "attribute": "modelUrn",
-			                        "operator": "eq",
-			                        "value": "%s"
-			                    }
-			                ]
-			            }
-			        ]
+			        "accessRules": [ ]
 			    }
 			}
 			""";
 
+	private final AccessRuleIndex accessRuleIndex;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	// the rules of a BPN list without the row specific part, shared by the rows
+	// which use the same policy
+	private final Map<List<String>, List<ObjectNode>> ruleTemplates = new ConcurrentHashMap<>();
+
+	/**
+	 * Brings the access rules of the shell in line with the policy: the stored
+	 * rules which already grant the desired access are kept, only the missing
+	 * rules are created and only the rules which are no longer desired are
+	 * deleted. An unchanged row needs no access rule call.
+	 */
 	@SneakyThrows
 	public void createAccessRule(Integer rowIndex, ObjectNode jsonObject, Map<String, String> specificAssetIds,
 			PolicyModel policy, String sematicId) {
 		try {
+			String edcBpn = sdeConfigProperties.getManufacturerId();
+			List<ObjectNode> missingRules = createAccessRuleRequests(PolicyOperationUtil.getAccessBPNList(policy),
+					specificAssetIds, sematicId);
 
-			deleteAllExistingDTAccessRulesIfExist(rowIndex, jsonObject);
-
-			List<String> accessBPNList = PolicyOperationUtil.getAccessBPNList(policy);
+			boolean isIndexed = accessRuleIndex.load(edcBpn);
 			List<String> accessruleIds = new ArrayList<>();
-
-			if (accessBPNList.isEmpty()) {
-				createAccessRuleMethod(specificAssetIds, sematicId, accessruleIds, PUBLIC_READABLE);
-			} else {
-				for (String bpn : accessBPNList) {
-					createAccessRuleMethod(specificAssetIds, sematicId, accessruleIds, bpn);
+			List<String> staleRuleIds = new ArrayList<>();
+
+			for (String ruleId : readExistingDTAccessRuleIds(rowIndex, jsonObject)) {
+				if (isIndexed && !accessRuleIndex.contains(ruleId))
+					continue;
+				JsonNode existingPolicy = accessRuleIndex.getPolicy(ruleId);
+				AccessGrant existingGrant = existingPolicy == null ? null : AccessGrant.of(existingPolicy);
+				ObjectNode matchingRule = existingGrant == null ? null
+						: missingRules.stream().filter(rule -> existingGrant.equals(AccessGrant.of(rule.get("policy"))))
+								.findFirst().orElse(null);
+				if (matchingRule != null) {
+					missingRules.remove(matchingRule);
+					accessruleIds.add(ruleId);
+				} else {
+					staleRuleIds.add(ruleId);
 				}
 			}
 
+			for (ObjectNode requestBody : missingRules) {
+				JsonNode response = digitalTwinFacilitator.createAccessControlsRule(edcBpn, requestBody);
+				String ruleId = response.get("id").asText();
+				accessRuleIndex.ruleCreated(ruleId,
+						response.hasNonNull("policy") ? response.get("policy") : requestBody.get("policy"));
+				accessruleIds.add(ruleId);
+			}
+
+			deleteStaleDTAccessRules(rowIndex, staleRuleIds);
+
 			jsonObject.put(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS, StringUtils.join(accessruleIds, ","));
 
 		} catch (Exception e) {
@@ -132,52 +143,113 @@ public class DigitalTwinAccessRuleFacilator extends Step {
 		}
 	}
 
-	@SneakyThrows
-	private void createAccessRuleMethod(Map<String, String> specificAssetIds, String sematicId,
-			List<String> accessruleIds, String bpn) {
-
-		String requestTemplate = String.format(createRuleTemplate, bpn,
-				digitalTwinsUtility.createAccessRuleMandatorySpecificAssetIds(specificAssetIds),
-				digitalTwinsUtility.createAccessRuleVisibleSpecificAssetIdNames(specificAssetIds), sematicId);
+	private List<ObjectNode> createAccessRuleRequests(List<String> accessBPNList,
+			Map<String, String> specificAssetIds, String sematicId) {
+
+		ArrayNode mandatorySpecificAssetIds = mapper.createArrayNode();
+		ArrayNode visibleSpecificAssetIdNames = mapper.createArrayNode();
+		specificAssetIds.forEach((key, value) -> {
+			mandatorySpecificAssetIds.add(accessRule(key, "eq").put("value", value));
+			visibleSpecificAssetIdNames.add(accessRule("name", "eq").put("value", key));
+		});
+		ArrayNode visibleSemanticIds = mapper.createArrayNode();
+		visibleSemanticIds.add(accessRule("modelUrn", "eq").put("value", sematicId));
+
+		List<ObjectNode> requests = new ArrayList<>();
+		for (ObjectNode ruleTemplate : getRuleTemplates(accessBPNList)) {
+			ObjectNode request = ruleTemplate.deepCopy();
+			ArrayNode accessRules = (ArrayNode) request.get("policy").get("accessRules");
+			accessRules.add(accessRule("mandatorySpecificAssetIds", "includes").set("values",
+					mandatorySpecificAssetIds.deepCopy()));
+			accessRules.add(accessRule("visibleSpecificAssetIdNames", "includes").set("values",
+					visibleSpecificAssetIdNames.deepCopy()));
+			accessRules.add(accessRule("visibleSemanticIds", "includes").set("values", visibleSemanticIds.deepCopy()));
+			requests.add(request);
+		}
+		return requests;
+	}
 
-		JsonNode requestBody = new ObjectMapper().readTree(requestTemplate);
+	private List<ObjectNode> getRuleTemplates(List<String> accessBPNList) {
+		List<String> bpns = accessBPNList.isEmpty() ? List.of(PUBLIC_READABLE) : List.copyOf(accessBPNList);
+		if (ruleTemplates.size() >= MAX_RULE_TEMPLATES)
+			ruleTemplates.clear();
+		return ruleTemplates.computeIfAbsent(bpns, key -> key.stream().map(this::createRuleTemplate).toList());
+	}
 
-		JsonNode response = digitalTwinFacilitator.createAccessControlsRule(sdeConfigProperties.getManufacturerId(),
-				requestBody);
-		
-		accessruleIds.add(response.get("id").asText());
+	@SneakyThrows
+	private ObjectNode createRuleTemplate(String bpn) {
+		ObjectNode ruleTemplate = (ObjectNode) mapper.readTree(RULE_TEMPLATE);
+		((ArrayNode) ruleTemplate.get("policy").get("accessRules")).add(accessRule("bpn", "eq").put("value", bpn));
+		return ruleTemplate;
+	}
 
+	private ObjectNode accessRule(String attribute, String operator) {
+		ObjectNode accessRule = mapper.createObjectNode();
+		accessRule.put("attribute", attribute);
+		accessRule.put("operator", operator);
+		return accessRule;
 	}
 
-	private void deleteAllExistingDTAccessRulesIfExist(Integer rowIndex, ObjectNode jsonObject) {
-		
+	private List<String> readExistingDTAccessRuleIds(Integer rowIndex, ObjectNode jsonObject) {
+
 		String identifier = getIdentifier(jsonObject, getIdentifierOfModel());
-		JsonObject datinRow = null;
 		try {
-			databaseUseCaseStep.init(getSubmodelSchema());
-			datinRow = databaseUseCaseStep.readCreatedTwinsDetails(identifier);
+			JsonObject datinRow = databaseUseCaseStep.readCreatedTwinsDetails(identifier);
 
-			if (datinRow != null && !datinRow.get(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS).isJsonNull()) {
+			if (datinRow != null && datinRow.has(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS)
+					&& !datinRow.get(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS).isJsonNull()) {
 
 				String accessRules = datinRow.get(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS).getAsString();
 
-				Arrays.asList(accessRules.split(",")).stream()
-				.filter(StringUtils::isNotBlank)
-				.forEach(str -> {
-					try {
-						str = str.trim();
-						digitalTwinFacilitator.deleteAccessControlsRule(accessRules,
-								sdeConfigProperties.getManufacturerId());
-					} catch (Exception e) {
-						log.error(String.format(
-								"Row: %s: DigitalTwin: unable to delete existing DT access rule identifier %s, access rule id %s", rowIndex,
-								identifier, str));
-					}
-				});
+				return Arrays.stream(accessRules.split(",")).filter(StringUtils::isNotBlank).map(String::trim)
+						.toList();
 			}
 		} catch (NoDataFoundException e) {
 			log.debug(String.format("Row: %s: DigitalTwin: no existing digital twin access rule data found %s", rowIndex,
 					identifier));
 		}
+		return List.of();
+	}
+
+	private void deleteStaleDTAccessRules(Integer rowIndex, List<String> staleRuleIds) {
+		for (String ruleId : staleRuleIds) {
+			try {
+				digitalTwinFacilitator.deleteAccessControlsRule(ruleId, sdeConfigProperties.getManufacturerId());
+				accessRuleIndex.ruleDeleted(ruleId);
+			} catch (Exception e) {
+				log.error(String.format("Row: %s: DigitalTwin: unable to delete stale DT access rule id %s", rowIndex,
+						ruleId));
+			}
+		}
+	}
+
+	/**
+	 * The access a rule policy grants, independent of how the registry
+	 * serializes the policy: the BPN and the sets of specific asset ids, their
+	 * visible names and the visible semantic ids.
+	 */
+	private record AccessGrant(String bpn, Set<String> mandatorySpecificAssetIds,
+			Set<String> visibleSpecificAssetIdNames, Set<String> visibleSemanticIds) {
+
+		static AccessGrant of(JsonNode policy) {
+			String bpn = null;
+			Set<String> mandatorySpecificAssetIds = new HashSet<>();
+			Set<String> visibleSpecificAssetIdNames = new HashSet<>();
+			Set<String> visibleSemanticIds = new HashSet<>();
+			for (JsonNode accessRule : policy.path("accessRules")) {
+				String attribute = accessRule.path("attribute").asText();
+				JsonNode values = accessRule.path("values");
+				if ("bpn".equals(attribute))
+					bpn = accessRule.path("value").asText();
+				else if ("mandatorySpecificAssetIds".equals(attribute))
+					values.forEach(value -> mandatorySpecificAssetIds
+							.add(value.path("attribute").asText() + "=" + value.path("value").asText()));
+				else if ("visibleSpecificAssetIdNames".equals(attribute))
+					values.forEach(value -> visibleSpecificAssetIdNames.add(value.path("value").asText()));
+				else if ("visibleSemanticIds".equals(attribute))
+					values.forEach(value -> visibleSemanticIds.add(value.path("value").asText()));
+			}
+			return new AccessGrant(bpn, mandatorySpecificAssetIds, visibleSpecificAssetIdNames, visibleSemanticIds);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -158,6 +158,7 @@ public class DigitalTwinLookUpInRegistry {
 					response.getResult());
 
 		} catch (FeignException e) {
+			edcAssetUrlCacheService.invalidateTokenIfRejected(e, edrToken);
 			String err = e.contentUTF8();
 			err = StringUtils.isBlank(err) ? e.getMessage() : err;
 			String errorMsg = "Unable to look up child twin " + dtOfferUrl + ", assetId " + dtOffer.getAssetId() + ", "
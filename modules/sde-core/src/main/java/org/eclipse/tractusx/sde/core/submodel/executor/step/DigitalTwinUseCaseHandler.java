@@ -77,6 +77,11 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 	@Value(value = "${edc.hostname}${edc.dataplane.endpointpath:/api/public}")
 	public String digitalTwinEdcDataplaneEndpoint;
 	
+	@Override
+	public void finish(String processId) {
+		digitalTwinFacilitator.releaseProcess(processId);
+	}
+
 	public void delete(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId) {
 		String shellId = JsonObjectUtility.getValueFromJsonObject(jsonObject, SubmoduleCommonColumnsConstant.SHELL_ID);
 		String submodelId = JsonObjectUtility.getValueFromJsonObject(jsonObject,
@@ -99,24 +104,24 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 			ShellDescriptorRequest aasDescriptorRequest = digitalTwinsUtility.getShellDescriptorRequest(shortIdForShell,
 					identifier, specificAssetIds, policy);
 
-			String shellId = checkShellAndGetIdIfExist(jsonObject, specificAssetIds);
+			String shellId = checkShellAndGetIdIfExist(processId, specificAssetIds);
 
 			if (StringUtils.isBlank(shellId)) {
 				specificAssetIds = generateSpecificAssetIds(jsonObject, getCreateShellSpecificAssetIdsSpecsOfModel());
 				addManufactureIdInSpecificAssetIds(specificAssetIds, sdeConfigProperties.getManufacturerId());
 				aasDescriptorRequest = digitalTwinsUtility.getShellDescriptorRequest(shortIdForShell, identifier,
 						specificAssetIds, policy);
-				createShell(specificAssetIds, aasDescriptorRequest);
+				createShell(processId, specificAssetIds, aasDescriptorRequest);
 				shellId = aasDescriptorRequest.getId();
 			}
 
 			jsonObject.put(SubmoduleCommonColumnsConstant.SHELL_ID, shellId);
 
-			SubModelResponse foundSubmodel = findSubmoduleInShells(jsonObject, List.of(shellId));
+			SubModelResponse foundSubmodel = findSubmoduleInShells(processId, jsonObject, List.of(shellId));
 
-			checkAndCreateSubmodulIfNotExist(rowIndex, jsonObject, shellId, aasDescriptorRequest, foundSubmodel);
+			checkAndCreateSubmodulIfNotExist(rowIndex, processId, jsonObject, shellId, aasDescriptorRequest,
+					foundSubmodel);
 			
-			digitalTwinAccessRuleFacilator.init(getSubmodelSchema());
 			digitalTwinAccessRuleFacilator.createAccessRule(rowIndex, jsonObject, specificAssetIds, policy, getsemanticIdOfModel());
 
 		} catch (Exception e) {
@@ -127,13 +132,13 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 	}
 
 	@SneakyThrows
-	public String checkShellAndGetIdIfExist(ObjectNode jsonObject, Map<String, String> specificAssetIds)
+	public String checkShellAndGetIdIfExist(String processId, Map<String, String> specificAssetIds)
 			throws CsvHandlerDigitalTwinUseCaseException {
 
 		String shellId = null;
 
 		ShellLookupRequest shellLookupRequest = digitalTwinsUtility.getShellLookupRequest(specificAssetIds);
-		List<String> shellIds = digitalTwinFacilitator.shellLookup(shellLookupRequest);
+		List<String> shellIds = digitalTwinFacilitator.shellLookup(processId, shellLookupRequest);
 
 		if (shellIds.isEmpty()) {
 			logDebug(String.format("No shell id for '%s'", shellLookupRequest.toJsonString()));
@@ -150,13 +155,15 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 	}
 
 	@SneakyThrows
-	private String createShell(Map<String, String> specificAssetIds, ShellDescriptorRequest aasDescriptorRequest) {
+	private String createShell(String processId, Map<String, String> specificAssetIds,
+			ShellDescriptorRequest aasDescriptorRequest) {
 
 		String shellId = null;
 		ShellLookupRequest shellLookupRequest = digitalTwinsUtility.getShellLookupRequest(specificAssetIds);
 
 		if (checkShellCreateOption()) {
-			ShellDescriptorResponse result = digitalTwinFacilitator.createShellDescriptor(aasDescriptorRequest);
+			ShellDescriptorResponse result = digitalTwinFacilitator.createShellDescriptor(processId,
+					aasDescriptorRequest);
 			shellId = result.getIdentification();
 			logDebug(String.format("Shell created with id '%s'", shellId));
 		} else {
@@ -170,8 +177,8 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 
 	}
 
-	public JsonNode checkAndCreateSubmodulIfNotExist(Integer rowIndex, ObjectNode jsonObject, String shellId,
-			ShellDescriptorRequest aasDescriptorRequest, SubModelResponse foundSubmodel) {
+	public JsonNode checkAndCreateSubmodulIfNotExist(Integer rowIndex, String processId, ObjectNode jsonObject,
+			String shellId, ShellDescriptorRequest aasDescriptorRequest, SubModelResponse foundSubmodel) {
 
 		Map<String, String> identification = findIdentificationForSubmodule(rowIndex, jsonObject);
 
@@ -207,7 +214,7 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 		
 		if (foundSubmodel == null) {
 			logDebug(String.format("No submodels for '%s'", shellId));
-			digitalTwinFacilitator.updateShellDetails(shellId, aasDescriptorRequest, createSubModelRequest);
+			digitalTwinFacilitator.updateShellDetails(processId, shellId, aasDescriptorRequest, createSubModelRequest);
 			jsonObject.put(SubmoduleCommonColumnsConstant.SUBMODULE_ID, createSubModelRequest.getId());
 
 		} else {
@@ -220,13 +227,13 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 			
 			if(!(foundSubmodel.getId().equals(submodelIdentifier)) || !isSubmodelRequestidentifierSame ) {
 				logDebug(String.format("Found submodel but need to update submodels for '%s'", shellId));
-				digitalTwinFacilitator.updateShellDetails(shellId, aasDescriptorRequest, createSubModelRequest);
+				digitalTwinFacilitator.updateShellDetails(processId, shellId, aasDescriptorRequest, createSubModelRequest);
 				jsonObject.put(SubmoduleCommonColumnsConstant.SUBMODULE_ID, createSubModelRequest.getId());
 			} else {
 				jsonObject.put(SubmoduleCommonColumnsConstant.SUBMODULE_ID, foundSubmodel.getId());
 				// There is no need to send submodel because of nothing to change in it so
 				// sending null of it
-				digitalTwinFacilitator.updateShellDetails(shellId, aasDescriptorRequest, null);
+				digitalTwinFacilitator.updateShellDetails(processId, shellId, aasDescriptorRequest, null);
 				logDebug("Complete Digital Twins Update Update Digital Twins");
 			}
 		}
@@ -234,13 +241,13 @@ public class DigitalTwinUseCaseHandler extends Step implements DigitalTwinUsecas
 		return jsonObject;
 	}
 
-	private SubModelResponse findSubmoduleInShells(ObjectNode jsonObject, List<String> shellIds) {
+	private SubModelResponse findSubmoduleInShells(String processId, ObjectNode jsonObject, List<String> shellIds) {
 
 		String shellGlobalassetId = null;
 		SubModelResponse foundSubmodel = null;
 
-		List<ShellDescriptorResponse> shellDescriptorResponseList = digitalTwinFacilitator
-				.getShellDescriptorsWithSubmodelDetails(shellIds);
+		List<ShellDescriptorResponse> shellDescriptorResponseList = shellIds.stream()
+				.map(shellId -> digitalTwinFacilitator.getShellDescriptor(processId, shellId)).toList();
 
 		for (ShellDescriptorResponse shellDescriptorResponse : shellDescriptorResponseList) {
 			shellGlobalassetId = shellDescriptorResponse.getGlobalAssetId();
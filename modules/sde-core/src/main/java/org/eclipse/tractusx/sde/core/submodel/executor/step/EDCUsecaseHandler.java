@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.sde.core.submodel.executor.step;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.tractusx.sde.common.constants.SubmoduleCommonColumnsConstant;
 import org.eclipse.tractusx.sde.common.entities.PolicyModel;
@@ -32,6 +33,7 @@ import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
 import org.eclipse.tractusx.sde.edc.facilitator.CreateEDCAssetFacilator;
 import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
+import org.eclipse.tractusx.sde.edc.facilitator.EDCProvisioningPipeline;
 import org.eclipse.tractusx.sde.edc.gateways.external.EDCGateway;
 import org.springframework.stereotype.Service;
 
@@ -49,6 +51,7 @@ public class EDCUsecaseHandler extends Step implements EDCUsecaseStep {
 	private final EDCGateway edcGateway;
 	private final CreateEDCAssetFacilator createEDCAssetFacilator;
 	private final DeleteEDCFacilitator deleteEDCFacilitator;
+	private final EDCProvisioningPipeline edcProvisioningPipeline;
 
 	@SneakyThrows
 	public ObjectNode run(Integer rowNumber, ObjectNode objectNode, String processId, PolicyModel policy) {
@@ -79,19 +82,23 @@ public class EDCUsecaseHandler extends Step implements EDCUsecaseStep {
 		}
 	}
 
+	// the contract definition references the policies, once it is gone the
+	// policies and the asset are deleted at the same time
 	public void delete(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId) {
 
-		deleteEDCFacilitator.deleteContractDefination(JsonObjectUtility.getValueFromJsonObject(jsonObject,
-				SubmoduleCommonColumnsConstant.CONTRACT_DEFINATION_ID));
-
-		deleteEDCFacilitator.deleteAccessPolicy(
-				JsonObjectUtility.getValueFromJsonObject(jsonObject, SubmoduleCommonColumnsConstant.USAGE_POLICY_ID));
-
-		deleteEDCFacilitator.deleteUsagePolicy(
-				JsonObjectUtility.getValueFromJsonObject(jsonObject, SubmoduleCommonColumnsConstant.ACCESS_POLICY_ID));
-
-		deleteEDCFacilitator.deleteAssets(
-				JsonObjectUtility.getValueFromJsonObject(jsonObject, SubmoduleCommonColumnsConstant.ASSET_ID));
-
+		String contractDefinitionId = JsonObjectUtility.getValueFromJsonObject(jsonObject,
+				SubmoduleCommonColumnsConstant.CONTRACT_DEFINATION_ID);
+		String usagePolicyId = JsonObjectUtility.getValueFromJsonObject(jsonObject,
+				SubmoduleCommonColumnsConstant.USAGE_POLICY_ID);
+		String accessPolicyId = JsonObjectUtility.getValueFromJsonObject(jsonObject,
+				SubmoduleCommonColumnsConstant.ACCESS_POLICY_ID);
+		String assetId = JsonObjectUtility.getValueFromJsonObject(jsonObject, SubmoduleCommonColumnsConstant.ASSET_ID);
+
+		EDCProvisioningPipeline.await(edcProvisioningPipeline
+				.submit(() -> deleteEDCFacilitator.deleteContractDefination(contractDefinitionId))
+				.thenCompose(deleted -> CompletableFuture.allOf(
+						edcProvisioningPipeline.submit(() -> deleteEDCFacilitator.deleteAccessPolicy(accessPolicyId)),
+						edcProvisioningPipeline.submit(() -> deleteEDCFacilitator.deleteUsagePolicy(usagePolicyId)),
+						edcProvisioningPipeline.submit(() -> deleteEDCFacilitator.deleteAssets(assetId)))));
 	}
 }
\ No newline at end of file
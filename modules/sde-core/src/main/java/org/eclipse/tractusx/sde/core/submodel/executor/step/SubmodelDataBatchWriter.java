@@ -0,0 +1,208 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor.step;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.tractusx.sde.common.utils.JsonObjectUtility;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for the submodel rows of running processes. Rows are
+ * collected per process and upserted as one JDBC batch once
+ * {@code sde.database.batch-size} rows are buffered or the oldest buffered
+ * row waited {@code sde.database.batch-max-delay-ms}. A row which can not be
+ * written is logged as failure of its process, with its row position.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmodelDataBatchWriter {
+
+	private static final long STALE_BATCH_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	private final SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
+
+	private final FailureLogs failureLogs;
+
+	@Value("${sde.database.batch-size:500}")
+	private int batchSize;
+
+	@Value("${sde.database.batch-max-delay-ms:2000}")
+	private long batchMaxDelayMillis;
+
+	private final Map<String, ProcessBatch> batches = new ConcurrentHashMap<>();
+
+	public void write(String processId, Integer rowIndex, String tableName, List<String> columns,
+			List<String> pkColumns, JsonNode submodelData) {
+
+		Object[] values = new Object[columns.size()];
+		for (int i = 0; i < values.length; i++)
+			values[i] = JsonObjectUtility.getValueFromJsonObject(submodelData, columns.get(i));
+
+		ProcessBatch batch = batches.computeIfAbsent(processId,
+				id -> new ProcessBatch(id, tableName, columns, pkColumns));
+		boolean isFull;
+		synchronized (batch) {
+			batch.add(new PendingRow(rowIndex, values));
+			isFull = batch.size() >= batchSize;
+		}
+		if (isFull)
+			flush(batch);
+	}
+
+	/**
+	 * Writes the rows of the process which are still buffered and forgets the
+	 * process. Returns the number of rows of the process which could not be
+	 * written since its first row, those rows were reported as success by the
+	 * step chain.
+	 */
+	public int flush(String processId) {
+		ProcessBatch batch = batches.remove(processId);
+		if (batch == null)
+			return 0;
+		flush(batch);
+		return batch.failedRows.get();
+	}
+
+	@Scheduled(fixedDelayString = "${sde.database.batch-max-delay-ms:2000}")
+	public void flushDelayedBatches() {
+		long now = System.currentTimeMillis();
+		batches.forEach((processId, batch) -> {
+			boolean isDue;
+			boolean isStale;
+			synchronized (batch) {
+				isDue = batch.size() > 0 && now - batch.firstRowTime >= batchMaxDelayMillis;
+				isStale = batch.size() == 0 && now - batch.lastRowTime >= STALE_BATCH_MILLIS;
+			}
+			if (isDue && batch.flushLock.tryLock()) {
+				try {
+					flush(batch);
+				} finally {
+					batch.flushLock.unlock();
+				}
+			} else if (isStale) {
+				// the process ended without a final flush
+				batches.remove(processId, batch);
+			}
+		});
+	}
+
+	private void flush(ProcessBatch batch) {
+		// drained and written under one lock, so that a final flush waits for the
+		// rows another thread is writing at the moment
+		batch.flushLock.lock();
+		try {
+			List<PendingRow> rows;
+			synchronized (batch) {
+				rows = batch.drain();
+			}
+			if (!rows.isEmpty())
+				writeRows(batch, rows);
+		} finally {
+			batch.flushLock.unlock();
+		}
+	}
+
+	private void writeRows(ProcessBatch batch, List<PendingRow> rows) {
+		Map<Integer, String> failedRows;
+		try {
+			failedRows = submodelCustomHistoryGenerator.saveSubmodelDataBatch(batch.columns, batch.tableName,
+					batch.pkColumns, rows.stream().map(PendingRow::values).toList());
+		} catch (Exception e) {
+			failedRows = new LinkedHashMap<>();
+			for (int i = 0; i < rows.size(); i++)
+				failedRows.put(i, e.getMessage());
+		}
+
+		failedRows.forEach((index, error) -> {
+			failureLogs.saveLog(batch.processId,
+					String.format("RowPosition: %s | Description: %s", rows.get(index).rowIndex(), error));
+			batch.failedRows.incrementAndGet();
+		});
+		log.debug(String.format("Process %s, %s rows written to %s, %s failed", batch.processId, rows.size(),
+				batch.tableName, failedRows.size()));
+	}
+
+	private record PendingRow(Integer rowIndex, Object[] values) {
+	}
+
+	private static class ProcessBatch {
+
+		private final String processId;
+
+		private final String tableName;
+
+		private final List<String> columns;
+
+		private final List<String> pkColumns;
+
+		private final ReentrantLock flushLock = new ReentrantLock();
+
+		private final AtomicInteger failedRows = new AtomicInteger();
+
+		private List<PendingRow> rows = new ArrayList<>();
+
+		private long firstRowTime;
+
+		private long lastRowTime = System.currentTimeMillis();
+
+		ProcessBatch(String processId, String tableName, List<String> columns, List<String> pkColumns) {
+			this.processId = processId;
+			this.tableName = tableName;
+			this.columns = columns;
+			this.pkColumns = pkColumns;
+		}
+
+		void add(PendingRow row) {
+			lastRowTime = System.currentTimeMillis();
+			if (rows.isEmpty())
+				firstRowTime = lastRowTime;
+			rows.add(row);
+		}
+
+		int size() {
+			return rows.size();
+		}
+
+		List<PendingRow> drain() {
+			List<PendingRow> drained = rows;
+			rows = new ArrayList<>();
+			return drained;
+		}
+	}
+}
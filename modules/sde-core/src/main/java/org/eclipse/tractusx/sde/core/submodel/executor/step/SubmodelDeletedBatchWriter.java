@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.core.submodel.executor.step;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects the rows of a delete process whose digital twin and EDC offer were
+ * deleted and marks them as deleted with one update per
+ * {@code sde.database.batch-size} rows. A row which is not marked, because the
+ * process ended before, is deleted again by the next delete of its upload
+ * process, which finds its remote resources gone and marks it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmodelDeletedBatchWriter {
+
+	private final SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
+
+	private final FailureLogs failureLogs;
+
+	@Value("${sde.database.batch-size:500}")
+	private int batchSize;
+
+	private final Map<String, DeletedBatch> batches = new ConcurrentHashMap<>();
+
+	public void write(String processId, Integer rowIndex, String tableName, String pkColumn, String uuid) {
+		DeletedBatch batch = batches.computeIfAbsent(processId, id -> new DeletedBatch(id, tableName, pkColumn));
+		List<DeletedRow> rows = null;
+		synchronized (batch) {
+			batch.rows.add(new DeletedRow(rowIndex, uuid));
+			if (batch.rows.size() >= batchSize)
+				rows = batch.drain();
+		}
+		if (rows != null)
+			writeRows(batch, rows);
+	}
+
+	/**
+	 * Marks the rows of the process which are still buffered and forgets the
+	 * process. Returns the number of rows of the process which could not be
+	 * marked.
+	 */
+	public int flush(String processId) {
+		DeletedBatch batch = batches.remove(processId);
+		if (batch == null)
+			return 0;
+		List<DeletedRow> rows;
+		synchronized (batch) {
+			rows = batch.drain();
+		}
+		if (!rows.isEmpty())
+			writeRows(batch, rows);
+		return batch.failedRows.get();
+	}
+
+	private void writeRows(DeletedBatch batch, List<DeletedRow> rows) {
+		try {
+			submodelCustomHistoryGenerator.saveAspectsWithDeleted(rows.stream().map(DeletedRow::uuid).toList(),
+					batch.tableName, batch.pkColumn);
+		} catch (Exception e) {
+			rows.forEach(row -> failureLogs.saveLog(batch.processId,
+					String.format("RowPosition: %s | Description: %s", row.rowIndex(), e.getMessage())));
+			batch.failedRows.addAndGet(rows.size());
+		}
+		log.debug(String.format("Process %s, %s rows marked as deleted in %s", batch.processId, rows.size(),
+				batch.tableName));
+	}
+
+	private record DeletedRow(Integer rowIndex, String uuid) {
+	}
+
+	private static class DeletedBatch {
+
+		private final String processId;
+
+		private final String tableName;
+
+		private final String pkColumn;
+
+		private final AtomicInteger failedRows = new AtomicInteger();
+
+		private List<DeletedRow> rows = new ArrayList<>();
+
+		DeletedBatch(String processId, String tableName, String pkColumn) {
+			this.processId = processId;
+			this.tableName = tableName;
+			this.pkColumn = pkColumn;
+		}
+
+		List<DeletedRow> drain() {
+			List<DeletedRow> drained = rows;
+			rows = new ArrayList<>();
+			return drained;
+		}
+	}
+}
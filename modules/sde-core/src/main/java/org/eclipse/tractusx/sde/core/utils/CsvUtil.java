@@ -19,10 +19,14 @@
  ********************************************************************************/
 package org.eclipse.tractusx.sde.core.utils;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.apache.commons.csv.CSVFormat;
@@ -35,6 +39,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +48,9 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class CsvUtil {
 
+	private static final CSVFormat CSV_FORMAT = CSVFormat.EXCEL.withEscape('/').withQuoteMode(QuoteMode.NONE)
+			.withDelimiter(';');
+
 	@SneakyThrows
 	public ResponseEntity<Resource> generateCSV(String fileName, List<List<String>> data) {
 
@@ -52,12 +60,23 @@ public class CsvUtil {
 				.contentType(MediaType.parseMediaType("application/csv")).body(file);
 	}
 
+	public ResponseEntity<StreamingResponseBody> generateCSV(String fileName, StreamingResponseBody csvBody) {
+		return ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+				.contentType(MediaType.parseMediaType("application/csv")).body(csvBody);
+	}
+
+	/**
+	 * Printer in the format of the generated CSV files which writes straight to
+	 * the given stream, closing the printer closes the stream.
+	 */
+	public static CSVPrinter csvPrinter(OutputStream out) throws IOException {
+		return new CSVPrinter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), CSV_FORMAT);
+	}
+
 	@SneakyThrows
 	public static ByteArrayInputStream writeCsv(List<List<String>> data) {
-		final CSVFormat format = CSVFormat.EXCEL.withEscape('/').withQuoteMode(QuoteMode.NONE).withDelimiter(';');
-
 		try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-				CSVPrinter csvPrinter = new CSVPrinter(new PrintWriter(out), format);) {
+				CSVPrinter csvPrinter = new CSVPrinter(new PrintWriter(out), CSV_FORMAT);) {
 			data.forEach(list -> {
 				try {
 					csvPrinter.printRecord(list);
@@ -0,0 +1,183 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.bpndiscovery.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+
+class BpnDiscoveryBatchWriterTest {
+
+	private BpnDiscoveryProxyService bpnDiscoveryProxyService;
+
+	private BpnDiscoveryBatchWriter batchWriter;
+
+	@BeforeEach
+	void setUp() {
+		bpnDiscoveryProxyService = mock(BpnDiscoveryProxyService.class);
+		batchWriter = new BpnDiscoveryBatchWriter(bpnDiscoveryProxyService);
+		ReflectionTestUtils.setField(batchWriter, "batchSize", 3);
+		ReflectionTestUtils.setField(batchWriter, "lingerMillis", 0L);
+		ReflectionTestUtils.setField(batchWriter, "senderThreads", 1);
+		batchWriter.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		batchWriter.stop();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testRowsSharingAnEntryAreRegisteredOnce() throws Exception {
+		CompletableFuture<Void> first = batchWriter.register("process-1", 1, Map.of("manufacturerPartId", "MPI-1"));
+		CompletableFuture<Void> second = batchWriter.register("process-1", 2, Map.of("manufacturerPartId", "MPI-1"));
+		CompletableFuture<Void> third = batchWriter.register("process-1", 3, Map.of("manufacturerPartId", "MPI-2"));
+		assertFalse(first.isDone());
+
+		batchWriter.sendLingeringEntries();
+		CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+		ArgumentCaptor<List<BpnDiscoveryRequest>> batch = ArgumentCaptor.forClass(List.class);
+		verify(bpnDiscoveryProxyService).bpnDiscoveryBatchData(batch.capture());
+		assertEquals(List.of(new BpnDiscoveryRequest("manufacturerPartId", "MPI-1"),
+				new BpnDiscoveryRequest("manufacturerPartId", "MPI-2")), batch.getValue());
+		// already registered for the process
+		assertTrue(batchWriter.register("process-1", 4, Map.of("manufacturerPartId", "MPI-1")).isDone());
+		batchWriter.sendLingeringEntries();
+		verify(bpnDiscoveryProxyService, times(1)).bpnDiscoveryBatchData(anyList());
+	}
+
+	@Test
+	void testFullBatchIsSentWithoutLinger() {
+		batchWriter.register("process-1", 1, Map.of("manufacturerPartId", "MPI-1", "van", "VAN-1"));
+		CompletableFuture<Void> row = batchWriter.register("process-1", 2, Map.of("manufacturerPartId", "MPI-2"));
+
+		assertTrue(row.isDone());
+		verify(bpnDiscoveryProxyService).bpnDiscoveryBatchData(anyList());
+	}
+
+	@Test
+	void testFailedEntriesAreSentAgainByTheNextRow() throws Exception {
+		when(bpnDiscoveryProxyService.bpnDiscoveryBatchData(any())).thenThrow(new IllegalStateException("unavailable"))
+				.thenReturn(List.of());
+
+		CompletableFuture<Void> failed = batchWriter.register("process-1", 1, Map.of("manufacturerPartId", "MPI-1"));
+		batchWriter.sendLingeringEntries();
+		assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+
+		CompletableFuture<Void> retried = batchWriter.register("process-1", 2, Map.of("manufacturerPartId", "MPI-1"));
+		batchWriter.sendLingeringEntries();
+		retried.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void testSlowDiscoveryServiceDoesNotHoldUpTheScheduler() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		when(bpnDiscoveryProxyService.bpnDiscoveryBatchData(any())).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		});
+
+		CompletableFuture<Void> row = batchWriter.register("process-1", 1, Map.of("manufacturerPartId", "MPI-1"));
+		assertTimeoutPreemptively(Duration.ofSeconds(1), batchWriter::sendLingeringEntries);
+		assertFalse(row.isDone());
+
+		release.countDown();
+		row.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void testFailedRowsAreReturnedByFinish() {
+		when(bpnDiscoveryProxyService.bpnDiscoveryBatchData(any())).thenThrow(new IllegalStateException("unavailable"));
+
+		batchWriter.register("process-1", 2, Map.of("manufacturerPartId", "MPI-1"));
+
+		assertEquals(Map.of(2, "unavailable"), batchWriter.finish("process-1"));
+		assertEquals(Map.of(), batchWriter.finish("process-1"));
+	}
+
+	@Test
+	void testBatchesCollectTheEntriesOfMoreRowsThanRunConcurrently() throws Exception {
+		ReflectionTestUtils.setField(batchWriter, "batchSize", 100);
+		ReflectionTestUtils.setField(batchWriter, "lingerMillis", 60000L);
+		BPNDiscoveryUseCaseHandler handler = spy(new BPNDiscoveryUseCaseHandler(bpnDiscoveryProxyService, batchWriter));
+		JsonObject bpnDiscoverySpecs = new JsonObject();
+		bpnDiscoverySpecs.addProperty("manufacturerPartId", "${manufacturerPartId}");
+		doReturn(bpnDiscoverySpecs).when(handler).getBPNDiscoverySpecsOfModel();
+
+		// as many row workers as sde.job.max-concurrent-rows-per-job
+		ExecutorService rowWorkers = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<?>> rows = new ArrayList<>();
+			for (int i = 1; i <= 250; i++) {
+				ObjectNode row = new ObjectMapper().createObjectNode().put("manufacturerPartId", "MPI-" + i);
+				int rowIndex = i;
+				rows.add(rowWorkers.submit(() -> handler.run(rowIndex, row, "process-1", null)));
+			}
+			for (Future<?> row : rows)
+				row.get(5, TimeUnit.SECONDS);
+		} finally {
+			rowWorkers.shutdown();
+		}
+
+		// the rows did not wait for the linger time, two batches were full
+		verify(bpnDiscoveryProxyService, times(2)).bpnDiscoveryBatchData(argThat(batch -> batch.size() == 100));
+
+		assertEquals(Map.of(), handler.finish("process-1"));
+		verify(bpnDiscoveryProxyService).bpnDiscoveryBatchData(argThat(batch -> batch.size() == 50));
+	}
+}
@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.core.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.edc.model.request.Offer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ConsumerDownloadEngineTest {
+
+	private ConsumerDownloadEngine consumerDownloadEngine;
+
+	@BeforeEach
+	void setUp() {
+		consumerDownloadEngine = new ConsumerDownloadEngine();
+		ReflectionTestUtils.setField(consumerDownloadEngine, "downloadThreads", 8);
+		ReflectionTestUtils.setField(consumerDownloadEngine, "maxConcurrentOffersPerConnector", 2);
+		ReflectionTestUtils.setField(consumerDownloadEngine, "queueCapacity", 1);
+		consumerDownloadEngine.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		consumerDownloadEngine.stop();
+	}
+
+	@Test
+	void testOffersOfAConnectorAreDownloadedWithLimitedConcurrency() {
+		Map<String, List<Offer>> offersByConnector = new LinkedHashMap<>();
+		offersByConnector.put("connector-a", offers("connector-a", 10));
+		offersByConnector.put("connector-b", offers("connector-b", 5));
+
+		Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+		Map<String, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+		List<String> handledAssets = new ArrayList<>();
+
+		consumerDownloadEngine.download(offersByConnector, offer -> {
+			int current = inFlight.computeIfAbsent(offer.getConnectorId(), key -> new AtomicInteger())
+					.incrementAndGet();
+			maxInFlight.computeIfAbsent(offer.getConnectorId(), key -> new AtomicInteger())
+					.accumulateAndGet(current, Math::max);
+			sleep();
+			inFlight.get(offer.getConnectorId()).decrementAndGet();
+			if (offer.getAssetId().equals("connector-b-3"))
+				throw new IllegalStateException("negotiation failed");
+			return "data of " + offer.getAssetId();
+		}, result -> {
+			if (result.offer().getAssetId().equals("connector-b-3"))
+				assertNotNull(result.error());
+			else
+				assertEquals("data of " + result.offer().getAssetId(), result.response());
+			handledAssets.add(result.offer().getAssetId());
+		});
+
+		assertEquals(15, handledAssets.size());
+		assertTrue(maxInFlight.get("connector-a").get() <= 2);
+		assertTrue(maxInFlight.get("connector-b").get() <= 2);
+	}
+
+	private static List<Offer> offers(String connectorId, int count) {
+		List<Offer> offers = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			Offer offer = new Offer();
+			offer.setConnectorId(connectorId);
+			offer.setConnectorOfferUrl("http://" + connectorId);
+			offer.setAssetId(connectorId + "-" + i);
+			offers.add(offer);
+		}
+		return offers;
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(10);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -43,6 +43,7 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ContextConfiguration(classes = {SubmodelCsvController.class})
 @ExtendWith(SpringExtension.class)
@@ -133,8 +134,11 @@ class SubmodelCsvControllerTest {
 
 		for (String submodelName : SUBMODEL_LIST) {
 			String processId = "7e4ff341-0a9a-4247-890c-2600f74cc81b";
-			when(submodelCsvService.findAllSubmodelCsvHistory(submodelName, processId)).thenReturn(new ArrayList<>());
-			when(csvUtil.generateCSV(submodelName, new ArrayList<>())).thenReturn(csvResponseGenerator(submodelName));
+			StreamingResponseBody csvBody = outputStream -> {
+			};
+			when(submodelCsvService.streamSubmodelCsvHistory(submodelName, processId)).thenReturn(csvBody);
+			when(csvUtil.generateCSV(submodelName + "_" + processId + ".csv", csvBody))
+					.thenReturn(ResponseEntity.ok().body(csvBody));
 			
 			MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
 					.get("/" + submodelName + "/download/" + processId + "/csv")
@@ -0,0 +1,106 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.failurelog;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.failurelog.repository.FailureLogBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FailureLogsTest {
+
+	private FailureLogBatchRepository repository;
+
+	private FailureLogs failureLogs;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(FailureLogBatchRepository.class);
+		failureLogs = new FailureLogs();
+		ReflectionTestUtils.setField(failureLogs, "repository", repository);
+		ReflectionTestUtils.setField(failureLogs, "batchSize", 3);
+		ReflectionTestUtils.setField(failureLogs, "batchMaxDelayMillis", 60000L);
+		ReflectionTestUtils.setField(failureLogs, "maxBuffered", 100);
+	}
+
+	@Test
+	void testLogsAreSavedInBatchesOfConfiguredSize() throws SQLException {
+		for (int i = 1; i <= 7; i++)
+			failureLogs.saveLog("process-1", "error " + i);
+
+		verify(repository, times(2)).saveAll(argThat(logs -> logs.size() == 3));
+
+		failureLogs.flush("process-1");
+		verify(repository).saveAll(argThat(logs -> logs.size() == 1 && "error 7".equals(logs.get(0).getLog())));
+	}
+
+	@Test
+	void testLogsAreNotSavedBeforeTheyAreDue() throws SQLException {
+		failureLogs.saveLog("process-1", "error");
+		failureLogs.flushDelayedLogs();
+		verify(repository, never()).saveAll(anyList());
+
+		ReflectionTestUtils.setField(failureLogs, "batchMaxDelayMillis", 0L);
+		failureLogs.flushDelayedLogs();
+		verify(repository).saveAll(argThat(logs -> logs.size() == 1 && "process-1".equals(logs.get(0).getProcessId())));
+	}
+
+	@Test
+	void testLogsAreKeptWhenTheDatabaseIsNotReachable() throws SQLException {
+		when(repository.saveAll(anyList())).thenThrow(new SQLException("connection refused"));
+		failureLogs.saveLog("process-1", "error 1");
+		failureLogs.flush("process-1");
+
+		doReturn(List.of()).when(repository).saveAll(anyList());
+		failureLogs.saveLog("process-1", "error 2");
+		failureLogs.flush("process-1");
+
+		verify(repository).saveAll(argThat(logs -> logs.size() == 2 && "error 1".equals(logs.get(0).getLog())
+				&& "error 2".equals(logs.get(1).getLog())));
+	}
+
+	@Test
+	void testBufferedLogsAreBoundedWhileTheDatabaseIsNotReachable() throws SQLException {
+		ReflectionTestUtils.setField(failureLogs, "maxBuffered", 5);
+		when(repository.saveAll(anyList())).thenThrow(new SQLException("connection refused"));
+		for (int i = 1; i <= 20; i++)
+			failureLogs.saveLog("process-1", "error " + i);
+
+		// the first full batch failed, the following ones wait for the retry
+		verify(repository, times(1)).saveAll(anyList());
+
+		doReturn(List.of()).when(repository).saveAll(anyList());
+		failureLogs.flush("process-1");
+		verify(repository).saveAll(argThat(logs -> logs.size() == 5 && "error 16".equals(logs.get(0).getLog())));
+	}
+}
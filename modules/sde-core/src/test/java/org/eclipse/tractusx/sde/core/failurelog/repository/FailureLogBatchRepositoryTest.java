@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.failurelog.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.tractusx.sde.core.failurelog.entity.FailureLogEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FailureLogBatchRepositoryTest {
+
+	private Connection connection;
+
+	private PreparedStatement statement;
+
+	private FailureLogBatchRepository repository;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		DataSource dataSource = mock(DataSource.class);
+		connection = mock(Connection.class);
+		statement = mock(PreparedStatement.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		repository = new FailureLogBatchRepository(dataSource);
+	}
+
+	@Test
+	void testFailedBatchIsSavedOneByOne() throws SQLException {
+		FailureLogEntity first = failureLog("error 1");
+		FailureLogEntity second = failureLog("error 2");
+		FailureLogEntity third = failureLog("error 3");
+		when(statement.executeBatch()).thenThrow(new SQLException("value too long"));
+		when(statement.executeUpdate()).thenReturn(1).thenThrow(new SQLException("value too long")).thenReturn(1);
+
+		List<FailureLogEntity> failedLogs = repository.saveAll(List.of(first, second, third));
+
+		assertEquals(List.of(second), failedLogs);
+		verify(connection).rollback();
+		verify(statement, times(3)).executeUpdate();
+	}
+
+	private static FailureLogEntity failureLog(String error) {
+		return FailureLogEntity.builder().uuid(error).processId("process-1").log(error).dateTime(LocalDateTime.now())
+				.build();
+	}
+}
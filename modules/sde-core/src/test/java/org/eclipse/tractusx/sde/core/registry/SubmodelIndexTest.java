@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+
+class SubmodelIndexTest {
+
+	private final Submodel serialPart = submodel("serial-part", "urn:samm:io.catenax.serial_part:3.0.0#SerialPart",
+			"uuid", "part_instance_id");
+
+	private final Submodel batch = submodel("batch", "urn:samm:io.catenax.batch:3.0.0#Batch", "uuid", "batch_id");
+
+	private final Submodel serialPartOld = submodel("serial-part-v1", "urn:samm:io.catenax.serial_part:1.0.0#SerialPart",
+			"uuid", "part_instance_id");
+
+	private final SubmodelIndex submodelIndex = new SubmodelIndex(List.of(serialPart, batch, serialPartOld),
+			Map.of("batch", new SubmodelMetadata("batch", List.of("uuid"), List.of(), List.of(), List.of("uuid"))));
+
+	@Test
+	void testFindByIdIgnoresCase() {
+		assertSame(serialPart, submodelIndex.findById("Serial-Part").orElseThrow());
+		assertTrue(submodelIndex.findById("unknown").isEmpty());
+		assertEquals("batch", submodelIndex.getMetadata("BATCH").orElseThrow().tableName());
+	}
+
+	@Test
+	void testFindByColumnsIgnoresOrderAndPrefersFirstRegistered() {
+		assertSame(batch, submodelIndex.findByColumns(List.of("batch_id", "uuid")).orElseThrow());
+		assertSame(serialPart, submodelIndex.findByColumns(List.of("part_instance_id", "uuid")).orElseThrow());
+		assertTrue(submodelIndex.findByColumns(List.of("uuid")).isEmpty());
+	}
+
+	@Test
+	void testFindBySemanticIdPrefixKeepsRegistrationOrder() {
+		assertEquals(List.of(serialPart, serialPartOld),
+				submodelIndex.findBySemanticIdPrefix("urn:samm:io.catenax.serial_part"));
+		assertEquals(List.of(), submodelIndex.findBySemanticIdPrefix("urn:samm:io.catenax.pcf"));
+	}
+
+	private static Submodel submodel(String id, String semanticId, String... columns) {
+		JsonObject properties = new JsonObject();
+		for (String column : columns)
+			properties.add(column, new JsonObject());
+		JsonObject items = new JsonObject();
+		items.add("properties", properties);
+		JsonObject schema = new JsonObject();
+		schema.add("items", items);
+		return Submodel.builder().id(id).semanticId(semanticId).schema(schema).build();
+	}
+}
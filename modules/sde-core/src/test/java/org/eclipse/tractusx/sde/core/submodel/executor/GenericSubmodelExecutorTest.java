@@ -0,0 +1,146 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.core.submodel.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.tractusx.sde.common.entities.PolicyModel;
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.submodel.executor.BPNDiscoveryUsecaseStep;
+import org.eclipse.tractusx.sde.common.submodel.executor.DatabaseUsecaseStep;
+import org.eclipse.tractusx.sde.common.submodel.executor.DigitalTwinUsecaseStep;
+import org.eclipse.tractusx.sde.common.submodel.executor.EDCUsecaseStep;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutionContext;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmoduleMapperUsecaseStep;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GenericSubmodelExecutorTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void testConcurrentJobsOfDifferentSubmodelsDoNotShareTheirContext() throws Exception {
+		Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+		DatabaseUsecaseStep databaseUsecaseStep = mock(DatabaseUsecaseStep.class);
+		when(databaseUsecaseStep.run(anyInt(), any(ObjectNode.class), anyString(), any())).thenAnswer(invocation -> {
+			ObjectNode row = invocation.getArgument(1);
+			SubmodelExecutionContext context = SubmodelExecutionContext.current();
+			if (!row.get("submodel").asText().equals(context.getSubmodel().getId())
+					|| !invocation.getArgument(2).equals(context.getProcessId()))
+				mismatches.add(row.toString());
+			return row;
+		});
+
+		GenericSubmodelExecutor executor = new GenericSubmodelExecutor(mock(CsvParse.class),
+				mock(JsonRecordFormating.class), mock(GenerateUrnUUID.class), mock(JsonRecordValidate.class),
+				mock(DigitalTwinUsecaseStep.class), mock(EDCUsecaseStep.class), mock(BPNDiscoveryUsecaseStep.class),
+				databaseUsecaseStep, mock(SubmoduleMapperUsecaseStep.class),
+				new SubmodelMetrics(new SimpleMeterRegistry()), mock(FailureLogs.class));
+
+		List<SubmodelExecutionContext> contexts = List.of(context("serial-part", "process-1"),
+				context("batch", "process-2"));
+
+		ExecutorService threads = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> rows = new ArrayList<>();
+			for (int i = 1; i <= 500; i++) {
+				int rowIndex = i;
+				SubmodelExecutionContext context = contexts.get(i % 2);
+				rows.add(threads.submit(() -> {
+					ObjectNode row = objectMapper.createObjectNode();
+					row.put("submodel", context.getSubmodel().getId());
+					executor.executeJsonRecord(context, rowIndex, row);
+				}));
+			}
+			for (Future<?> row : rows)
+				row.get();
+		} finally {
+			threads.shutdown();
+		}
+
+		assertTrue(mismatches.isEmpty(), () -> "Rows executed with a foreign context: " + mismatches);
+	}
+
+	@Test
+	void testContextIsOnlyBoundWhileTheRecordIsExecuted() {
+		SubmodelExecutionContext outer = context("serial-part", "process-1");
+		SubmodelExecutionContext inner = context("batch", "process-2");
+
+		outer.run(() -> {
+			assertEquals("batch", inner.call(() -> SubmodelExecutionContext.current().getSubmodel().getId()));
+			assertEquals("serial-part", SubmodelExecutionContext.current().getSubmodel().getId());
+		});
+
+		assertThrows(IllegalStateException.class, SubmodelExecutionContext::current);
+	}
+
+	@Test
+	void testEveryStepIsTimedPerSubmodel() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		GenericSubmodelExecutor executor = new GenericSubmodelExecutor(mock(CsvParse.class),
+				mock(JsonRecordFormating.class), mock(GenerateUrnUUID.class), mock(JsonRecordValidate.class),
+				mock(DigitalTwinUsecaseStep.class), mock(EDCUsecaseStep.class), mock(BPNDiscoveryUsecaseStep.class),
+				mock(DatabaseUsecaseStep.class), mock(SubmoduleMapperUsecaseStep.class),
+				new SubmodelMetrics(meterRegistry), mock(FailureLogs.class));
+
+		executor.executeJsonRecord(context("batch", "process-1"), 1, objectMapper.createObjectNode());
+		executor.executeJsonRecord(context("batch", "process-1"), 2, objectMapper.createObjectNode());
+
+		for (String step : List.of(SubmodelMetrics.JSON_FORMAT, SubmodelMetrics.UUID_GENERATION,
+				SubmodelMetrics.VALIDATION, SubmodelMetrics.DIGITAL_TWIN, SubmodelMetrics.EDC,
+				SubmodelMetrics.BPN_DISCOVERY, SubmodelMetrics.DATABASE))
+			assertEquals(2, meterRegistry.get("sde.submodel.step").tag("step", step).tag("submodel", "batch").timer()
+					.count(), step);
+	}
+
+	private static SubmodelExecutionContext context(String submodelId, String processId) {
+		return SubmodelExecutionContext.builder()
+				.submodel(Submodel.builder().id(submodelId).schema(new JsonObject()).build()).processId(processId)
+				.policy(new PolicyModel()).build();
+	}
+}
@@ -0,0 +1,115 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.core.submodel.executor.job.SubmodelJobExecutor.JobState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SubmodelJobExecutorTest {
+
+	private SubmodelJobExecutor jobExecutor;
+
+	@BeforeEach
+	void setUp() {
+		jobExecutor = new SubmodelJobExecutor();
+		ReflectionTestUtils.setField(jobExecutor, "maxConcurrentJobs", 1);
+		ReflectionTestUtils.setField(jobExecutor, "workerThreads", 8);
+		ReflectionTestUtils.setField(jobExecutor, "maxConcurrentRowsPerJob", 3);
+		ReflectionTestUtils.setField(jobExecutor, "rowQueueCapacityPerJob", 4);
+		jobExecutor.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobExecutor.stop();
+	}
+
+	@Test
+	void testRowsOfJobAreLimitedAndAllProcessed() throws InterruptedException {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger processed = new AtomicInteger();
+		CountDownLatch finished = new CountDownLatch(1);
+
+		jobExecutor.submitJob("process-1", job -> {
+			for (int i = 0; i < 50; i++) {
+				job.submitRow(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(2);
+					running.decrementAndGet();
+					processed.incrementAndGet();
+				});
+			}
+			job.awaitRows();
+			finished.countDown();
+		});
+
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		assertEquals(50, processed.get());
+		assertTrue(maxRunning.get() <= 3);
+	}
+
+	@Test
+	void testJobIsQueuedWhileAllJobSlotsAreBusy() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch secondStarted = new CountDownLatch(1);
+
+		jobExecutor.submitJob("process-1", job -> {
+			firstStarted.countDown();
+			await(release);
+		});
+		assertTrue(firstStarted.await(10, TimeUnit.SECONDS));
+		jobExecutor.submitJob("process-2", job -> secondStarted.countDown());
+
+		assertEquals(JobState.QUEUED, jobExecutor.getJobState("process-2").orElse(null));
+		assertEquals(1, jobExecutor.getQueuePosition("process-2"));
+
+		release.countDown();
+		assertTrue(secondStarted.await(10, TimeUnit.SECONDS));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
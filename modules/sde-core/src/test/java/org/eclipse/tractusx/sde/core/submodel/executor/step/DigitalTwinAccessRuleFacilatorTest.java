@@ -0,0 +1,210 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor.step;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.common.configuration.properties.SDEConfigurationProperties;
+import org.eclipse.tractusx.sde.common.constants.SubmoduleCommonColumnsConstant;
+import org.eclipse.tractusx.sde.common.entities.PolicyModel;
+import org.eclipse.tractusx.sde.common.entities.Policies;
+import org.eclipse.tractusx.sde.common.submodel.executor.DatabaseUsecaseStep;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.AccessRuleIndex;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsFacilitator;
+import org.eclipse.tractusx.sde.digitaltwins.gateways.external.IAccessRuleManagementApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+
+class DigitalTwinAccessRuleFacilatorTest {
+
+	private static final String MANUFACTURER_ID = "BPNL00000000PROV";
+
+	private static final Map<String, String> SPECIFIC_ASSET_IDS = Map.of("manufacturerPartId", "mpi-1");
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private DigitalTwinsFacilitator digitalTwinsFacilitator;
+
+	private IAccessRuleManagementApi iAccessRuleManagementApi;
+
+	private DatabaseUsecaseStep databaseUsecaseStep;
+
+	private DigitalTwinAccessRuleFacilator accessRuleFacilator;
+
+	private final AtomicInteger ruleIds = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		digitalTwinsFacilitator = mock(DigitalTwinsFacilitator.class);
+		iAccessRuleManagementApi = mock(IAccessRuleManagementApi.class);
+		databaseUsecaseStep = mock(DatabaseUsecaseStep.class);
+		SDEConfigurationProperties sdeConfigProperties = mock(SDEConfigurationProperties.class);
+		when(sdeConfigProperties.getManufacturerId()).thenReturn(MANUFACTURER_ID);
+		when(iAccessRuleManagementApi.getAccessControlsRules(MANUFACTURER_ID))
+				.thenReturn(mapper.createObjectNode().set("items", mapper.createArrayNode()));
+		when(digitalTwinsFacilitator.createAccessControlsRule(eq(MANUFACTURER_ID), any())).thenAnswer(
+				invocation -> mapper.createObjectNode().put("id", "rule-" + ruleIds.incrementAndGet()));
+
+		AccessRuleIndex accessRuleIndex = new AccessRuleIndex(iAccessRuleManagementApi);
+		ReflectionTestUtils.setField(accessRuleIndex, "ttlMillis", 60000L);
+
+		accessRuleFacilator = spy(new DigitalTwinAccessRuleFacilator(digitalTwinsFacilitator, sdeConfigProperties,
+				databaseUsecaseStep, accessRuleIndex));
+		doReturn("uuid").when(accessRuleFacilator).getIdentifierOfModel();
+	}
+
+	@Test
+	void testUnchangedRowNeedsNoAccessRuleCall() {
+		ObjectNode firstUpload = row();
+		accessRuleFacilator.createAccessRule(1, firstUpload, SPECIFIC_ASSET_IDS, policy("BPNL1", "BPNL2"), "urn:1");
+		assertEquals("rule-1,rule-2", accessRuleIds(firstUpload));
+		verify(digitalTwinsFacilitator).createAccessControlsRule(eq(MANUFACTURER_ID),
+				argThat(rule -> hasBpn(rule, "BPNL1")));
+
+		storedAccessRuleIds("rule-1,rule-2");
+		ObjectNode secondUpload = row();
+		accessRuleFacilator.createAccessRule(1, secondUpload, SPECIFIC_ASSET_IDS, policy("BPNL1", "BPNL2"), "urn:1");
+
+		assertEquals("rule-1,rule-2", accessRuleIds(secondUpload));
+		verify(digitalTwinsFacilitator, times(2)).createAccessControlsRule(anyString(), any());
+		verify(digitalTwinsFacilitator, never()).deleteAccessControlsRule(anyString(), anyString());
+		verify(iAccessRuleManagementApi, times(1)).getAccessControlsRules(MANUFACTURER_ID);
+	}
+
+	@Test
+	void testOnlyChangedRulesAreCreatedAndDeleted() {
+		accessRuleFacilator.createAccessRule(1, row(), SPECIFIC_ASSET_IDS, policy("BPNL1", "BPNL2"), "urn:1");
+
+		storedAccessRuleIds("rule-1,rule-2");
+		ObjectNode secondUpload = row();
+		accessRuleFacilator.createAccessRule(1, secondUpload, SPECIFIC_ASSET_IDS, policy("BPNL2", "BPNL3"), "urn:1");
+
+		assertEquals("rule-2,rule-3", accessRuleIds(secondUpload));
+		verify(digitalTwinsFacilitator).createAccessControlsRule(eq(MANUFACTURER_ID),
+				argThat(rule -> hasBpn(rule, "BPNL3")));
+		verify(digitalTwinsFacilitator).deleteAccessControlsRule("rule-1", MANUFACTURER_ID);
+		verify(digitalTwinsFacilitator, times(1)).deleteAccessControlsRule(anyString(), anyString());
+	}
+
+	@Test
+	void testRulesAreReplacedWhenTheRegistryRulesCanNotBeLoaded() {
+		when(iAccessRuleManagementApi.getAccessControlsRules(MANUFACTURER_ID))
+				.thenThrow(new IllegalStateException("registry unavailable"));
+
+		storedAccessRuleIds("rule-a");
+		ObjectNode upload = row();
+		accessRuleFacilator.createAccessRule(1, upload, SPECIFIC_ASSET_IDS, policy(), "urn:1");
+
+		assertEquals("rule-1", accessRuleIds(upload));
+		verify(digitalTwinsFacilitator).createAccessControlsRule(eq(MANUFACTURER_ID),
+				argThat(rule -> hasBpn(rule, "PUBLIC_READABLE")));
+		verify(digitalTwinsFacilitator).deleteAccessControlsRule("rule-a", MANUFACTURER_ID);
+	}
+
+	@Test
+	void testRulesInRegistryFormNeedNoAccessRuleCall() throws Exception {
+		when(iAccessRuleManagementApi.getAccessControlsRules(MANUFACTURER_ID)).thenReturn(mapper.readTree("""
+				{ "items": [ %s, %s ] }
+				""".formatted(registryRule("rule-a", "BPNL1"), registryRule("rule-b", "BPNL2"))));
+
+		storedAccessRuleIds("rule-a,rule-b");
+		ObjectNode upload = row();
+		accessRuleFacilator.createAccessRule(1, upload,
+				Map.of("manufacturerPartId", "mpi-1", "partInstanceId", "pi-1"), policy("BPNL1", "BPNL2"), "urn:1");
+
+		assertEquals("rule-a,rule-b", accessRuleIds(upload));
+		verify(digitalTwinsFacilitator, never()).createAccessControlsRule(anyString(), any());
+		verify(digitalTwinsFacilitator, never()).deleteAccessControlsRule(anyString(), anyString());
+	}
+
+	// the rule as the registry returns it: other order of the access rules and
+	// their values, and fields the SDE does not send
+	private static String registryRule(String id, String bpn) {
+		return """
+				{
+				  "id": "%s",
+				  "tid": "%s",
+				  "policyType": "AAS",
+				  "description": null,
+				  "policy": {
+				    "accessRules": [
+				      { "attribute": "visibleSemanticIds", "operator": "includes", "value": null,
+				        "values": [ { "attribute": "modelUrn", "operator": "eq", "value": "urn:1" } ] },
+				      { "attribute": "visibleSpecificAssetIdNames", "operator": "includes", "value": null,
+				        "values": [ { "attribute": "name", "operator": "eq", "value": "partInstanceId" },
+				                    { "attribute": "name", "operator": "eq", "value": "manufacturerPartId" } ] },
+				      { "attribute": "mandatorySpecificAssetIds", "operator": "includes", "value": null,
+				        "values": [ { "attribute": "partInstanceId", "operator": "eq", "value": "pi-1" },
+				                    { "attribute": "manufacturerPartId", "operator": "eq", "value": "mpi-1" } ] },
+				      { "attribute": "bpn", "operator": "eq", "value": "%s", "values": null }
+				    ]
+				  }
+				}
+				""".formatted(id, MANUFACTURER_ID, bpn);
+	}
+
+	private ObjectNode row() {
+		return mapper.createObjectNode().put("uuid", "urn:uuid:1");
+	}
+
+	private void storedAccessRuleIds(String accessRuleIds) {
+		JsonObject createdTwin = new JsonObject();
+		createdTwin.addProperty(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS, accessRuleIds);
+		when(databaseUsecaseStep.readCreatedTwinsDetails("urn:uuid:1")).thenReturn(createdTwin);
+	}
+
+	private static String accessRuleIds(ObjectNode row) {
+		return row.get(SubmoduleCommonColumnsConstant.SHELL_ACCESS_RULE_IDS).asText();
+	}
+
+	private static boolean hasBpn(JsonNode rule, String bpn) {
+		JsonNode bpnRule = rule.get("policy").get("accessRules").get(0);
+		return "bpn".equals(bpnRule.get("attribute").asText()) && bpn.equals(bpnRule.get("value").asText());
+	}
+
+	private static PolicyModel policy(String... bpns) {
+		return PolicyModel.builder()
+				.accessPolicies(
+						List.of(Policies.builder().technicalKey("BusinessPartnerNumber").value(List.of(bpns)).build()))
+				.build();
+	}
+}
@@ -0,0 +1,102 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.submodel.executor.step;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class SubmodelDataBatchWriterTest {
+
+	private static final List<String> COLUMNS = List.of("uuid", "process_id");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
+
+	private FailureLogs failureLogs;
+
+	private SubmodelDataBatchWriter batchWriter;
+
+	@BeforeEach
+	void setUp() {
+		submodelCustomHistoryGenerator = mock(SubmodelCustomHistoryGenerator.class);
+		failureLogs = mock(FailureLogs.class);
+		when(submodelCustomHistoryGenerator.saveSubmodelDataBatch(anyList(), anyString(), anyList(), anyList()))
+				.thenReturn(Map.of());
+
+		batchWriter = new SubmodelDataBatchWriter(submodelCustomHistoryGenerator, failureLogs);
+		ReflectionTestUtils.setField(batchWriter, "batchSize", 3);
+		ReflectionTestUtils.setField(batchWriter, "batchMaxDelayMillis", 60000L);
+	}
+
+	@Test
+	void testRowsAreWrittenInBatchesOfConfiguredSize() {
+		for (int i = 1; i <= 7; i++)
+			batchWriter.write("process-1", i, "serialpart", COLUMNS, List.of("uuid"), row(i));
+
+		verify(submodelCustomHistoryGenerator, times(2)).saveSubmodelDataBatch(eq(COLUMNS), eq("serialpart"),
+				eq(List.of("uuid")), argThat(rows -> rows.size() == 3));
+
+		assertEquals(0, batchWriter.flush("process-1"));
+		verify(submodelCustomHistoryGenerator).saveSubmodelDataBatch(eq(COLUMNS), eq("serialpart"),
+				eq(List.of("uuid")), argThat(rows -> rows.size() == 1 && "uuid-7".equals(rows.get(0)[0])));
+	}
+
+	@Test
+	void testFailedRowsAreLoggedWithTheirRowPosition() {
+		when(submodelCustomHistoryGenerator.saveSubmodelDataBatch(anyList(), anyString(), anyList(), anyList()))
+				.thenReturn(Map.of(1, "duplicate key"));
+
+		batchWriter.write("process-1", 2, "serialpart", COLUMNS, List.of("uuid"), row(2));
+		batchWriter.write("process-1", 3, "serialpart", COLUMNS, List.of("uuid"), row(3));
+
+		assertEquals(1, batchWriter.flush("process-1"));
+		verify(failureLogs).saveLog("process-1", "RowPosition: 3 | Description: duplicate key");
+		verify(failureLogs, times(1)).saveLog(anyString(), any());
+	}
+
+	private ObjectNode row(int index) {
+		ObjectNode row = objectMapper.createObjectNode();
+		row.put("uuid", "uuid-" + index);
+		row.put("process_id", "process-1");
+		return row;
+	}
+}
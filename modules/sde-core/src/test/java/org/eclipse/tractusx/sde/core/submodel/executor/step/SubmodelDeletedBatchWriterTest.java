@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.core.submodel.executor.step;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.processreport.repository.SubmodelCustomHistoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SubmodelDeletedBatchWriterTest {
+
+	private SubmodelCustomHistoryGenerator submodelCustomHistoryGenerator;
+
+	private FailureLogs failureLogs;
+
+	private SubmodelDeletedBatchWriter batchWriter;
+
+	@BeforeEach
+	void setUp() {
+		submodelCustomHistoryGenerator = mock(SubmodelCustomHistoryGenerator.class);
+		failureLogs = mock(FailureLogs.class);
+
+		batchWriter = new SubmodelDeletedBatchWriter(submodelCustomHistoryGenerator, failureLogs);
+		ReflectionTestUtils.setField(batchWriter, "batchSize", 2);
+	}
+
+	@Test
+	void testRowsAreMarkedInBatches() {
+		for (int i = 1; i <= 3; i++)
+			batchWriter.write("delete-1", i, "serialpart", "uuid", "uuid-" + i);
+
+		verify(submodelCustomHistoryGenerator).saveAspectsWithDeleted(List.of("uuid-1", "uuid-2"), "serialpart",
+				"uuid");
+
+		assertEquals(0, batchWriter.flush("delete-1"));
+		verify(submodelCustomHistoryGenerator).saveAspectsWithDeleted(List.of("uuid-3"), "serialpart", "uuid");
+	}
+
+	@Test
+	void testRowsOfAFailedBatchAreLogged() {
+		when(submodelCustomHistoryGenerator.saveAspectsWithDeleted(anyList(), anyString(), anyString()))
+				.thenThrow(new IllegalStateException("connection lost"));
+
+		batchWriter.write("delete-1", 7, "serialpart", "uuid", "uuid-7");
+
+		assertEquals(1, batchWriter.flush("delete-1"));
+		verify(failureLogs).saveLog(eq("delete-1"), eq("RowPosition: 7 | Description: connection lost"));
+	}
+}
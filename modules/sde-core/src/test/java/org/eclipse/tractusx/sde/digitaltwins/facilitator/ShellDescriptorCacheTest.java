@@ -0,0 +1,93 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellLookupRequest;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ShellDescriptorCacheTest {
+
+	private ShellDescriptorCache shellDescriptorCache;
+
+	@BeforeEach
+	void setUp() {
+		shellDescriptorCache = new ShellDescriptorCache();
+		ReflectionTestUtils.setField(shellDescriptorCache, "enabled", true);
+		ReflectionTestUtils.setField(shellDescriptorCache, "ttlMillis", 60000L);
+		ReflectionTestUtils.setField(shellDescriptorCache, "maxEntries", 10);
+	}
+
+	@Test
+	void testShellIsFoundByAllOfItsSpecificAssetIds() {
+		shellDescriptorCache.put("process-1", shell("shell-1", Map.of("manufacturerPartId", "mpi-1",
+				"partInstanceId", "pi-1", "manufacturerId", "BPNL1")));
+		shellDescriptorCache.put("process-1", shell("shell-2", Map.of("manufacturerPartId", "mpi-1",
+				"partInstanceId", "pi-2", "manufacturerId", "BPNL1")));
+
+		assertEquals(List.of("shell-1"),
+				shellDescriptorCache.lookup(lookup(Map.of("partInstanceId", "pi-1", "manufacturerId", "BPNL1"))));
+		assertEquals(2, shellDescriptorCache.lookup(lookup(Map.of("manufacturerPartId", "mpi-1"))).size());
+		assertNull(shellDescriptorCache.lookup(lookup(Map.of("partInstanceId", "pi-1", "manufacturerId", "BPNL2"))));
+
+		// an update replaces the specificAssetIds of the shell
+		shellDescriptorCache.put("process-1", shell("shell-1", Map.of("partInstanceId", "pi-3")));
+		assertNull(shellDescriptorCache.lookup(lookup(Map.of("partInstanceId", "pi-1"))));
+		assertEquals(List.of("shell-1"), shellDescriptorCache.lookup(lookup(Map.of("partInstanceId", "pi-3"))));
+	}
+
+	@Test
+	void testShellsOfAProcessAreReleasedUnlessSharedAcrossJobs() {
+		shellDescriptorCache.put("process-1", shell("shell-1", Map.of("partInstanceId", "pi-1")));
+		shellDescriptorCache.release("process-1");
+		assertNull(shellDescriptorCache.get("shell-1"));
+
+		ReflectionTestUtils.setField(shellDescriptorCache, "crossJob", true);
+		shellDescriptorCache.put("process-1", shell("shell-1", Map.of("partInstanceId", "pi-1")));
+		shellDescriptorCache.release("process-1");
+		assertNotNull(shellDescriptorCache.get("shell-1"));
+	}
+
+	private ShellDescriptorResponse shell(String shellId, Map<String, String> specificAssetIds) {
+		ShellDescriptorResponse shellDescriptor = new ShellDescriptorResponse();
+		shellDescriptor.setId(shellId);
+		shellDescriptor.setSpecificAssetIds(specificAssetIds.entrySet().stream()
+				.map(entry -> KeyValuePair.builder().name(entry.getKey()).value(entry.getValue()).build()).toList());
+		return shellDescriptor;
+	}
+
+	private ShellLookupRequest lookup(Map<String, String> specificAssetIds) {
+		ShellLookupRequest shellLookupRequest = new ShellLookupRequest();
+		specificAssetIds.forEach(shellLookupRequest::addLocalIdentifier);
+		return shellLookupRequest;
+	}
+}
@@ -0,0 +1,105 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.Keys;
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.MultiLanguage;
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.SemanticId;
+import org.eclipse.tractusx.sde.digitaltwins.entities.request.CreateSubModelRequest;
+import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellDescriptorRequest;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelResponse;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.ShellDescriptorDiff.Change;
+import org.junit.jupiter.api.Test;
+
+class ShellDescriptorDiffTest {
+
+	@Test
+	void testRegisteredShellNeedsNoUpdate() {
+		ShellDescriptorResponse current = registeredShell(List.of(registeredSubmodel("urn:uuid:sub-1", "v1")));
+
+		assertEquals(Change.NONE, ShellDescriptorDiff.compare(current, desiredShell("pi-1"), null));
+		assertEquals(Change.NONE,
+				ShellDescriptorDiff.compare(current, desiredShell("pi-1"), desiredSubmodel("urn:uuid:sub-1", "v1")));
+	}
+
+	@Test
+	void testChangedSubmodelIsSentAlone() {
+		ShellDescriptorResponse current = registeredShell(List.of(registeredSubmodel("urn:uuid:sub-1", "v1")));
+
+		assertEquals(Change.UPDATE_SUBMODEL,
+				ShellDescriptorDiff.compare(current, desiredShell("pi-1"), desiredSubmodel("urn:uuid:sub-1", "v2")));
+		assertEquals(Change.CREATE_SUBMODEL, ShellDescriptorDiff.compare(registeredShell(List.of()),
+				desiredShell("pi-1"), desiredSubmodel("urn:uuid:sub-1", "v1")));
+		assertEquals(Change.SHELL,
+				ShellDescriptorDiff.compare(current, desiredShell("pi-1"), desiredSubmodel("urn:uuid:sub-2", "v1")));
+	}
+
+	@Test
+	void testChangedShellAttributesReplaceTheDescriptor() {
+		ShellDescriptorResponse current = registeredShell(List.of());
+
+		assertEquals(Change.SHELL, ShellDescriptorDiff.compare(current, desiredShell("pi-2"), null));
+	}
+
+	private ShellDescriptorResponse registeredShell(List<SubModelResponse> submodels) {
+		return new ShellDescriptorResponse("shell_1", null, "urn:uuid:shell-1", null, "urn:uuid:global-1",
+				List.of(KeyValuePair.builder().name("manufacturerId").value("BPNL1").build(),
+						KeyValuePair.builder().name("partInstanceId").value("pi-1").build()),
+				new ArrayList<>(submodels));
+	}
+
+	private ShellDescriptorRequest desiredShell(String partInstanceId) {
+		Map<String, Object> partInstance = new HashMap<>();
+		partInstance.put("name", "partInstanceId");
+		partInstance.put("value", partInstanceId);
+		return ShellDescriptorRequest.builder().idShort("shell_1").id("urn:uuid:shell-1")
+				.globalAssetId("urn:uuid:global-1").description(List.of())
+				.specificAssetIds(
+						List.of(partInstance, KeyValuePair.builder().name("manufacturerId").value("BPNL1").build()))
+				.build();
+	}
+
+	private SubModelResponse registeredSubmodel(String id, String version) {
+		return SubModelResponse.builder().id(id).idShort("serialPart").semanticId(semanticId(version))
+				.description(List.of(MultiLanguage.builder().language("en").text("Serial part").build())).build();
+	}
+
+	private CreateSubModelRequest desiredSubmodel(String id, String version) {
+		return CreateSubModelRequest.builder().id(id).idShort("serialPart").semanticId(semanticId(version))
+				.description(List.of(MultiLanguage.builder().language("en").text("Serial part").build())).build();
+	}
+
+	private SemanticId semanticId(String version) {
+		return SemanticId.builder().type("ExternalReference")
+				.keys(List.of(new Keys("Submodel", "urn:samm:io.catenax.serial_part:" + version + "#SerialPart")))
+				.build();
+	}
+}
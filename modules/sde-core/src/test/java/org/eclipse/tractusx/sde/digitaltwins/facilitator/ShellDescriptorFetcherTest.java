@@ -0,0 +1,143 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.Paging;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponseList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ShellDescriptorFetcherTest {
+
+	private ShellDescriptorFetcher shellDescriptorFetcher;
+
+	@BeforeEach
+	void setUp() {
+		shellDescriptorFetcher = new ShellDescriptorFetcher();
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "threads", 8);
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "maxConcurrentPerRegistry", 3);
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "timeoutMillis", 1000L);
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "pageFallbackThreshold", 10);
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "pageSize", 4);
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "maxPages", 2);
+		shellDescriptorFetcher.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		shellDescriptorFetcher.stop();
+	}
+
+	@Test
+	void testDescriptorsAreReadConcurrentlyInShellIdOrder() {
+		List<String> shellIds = shellIds(9);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		List<ShellDescriptorResponse> descriptors = shellDescriptorFetcher.fetch("registry", shellIds, shellId -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			sleep();
+			inFlight.decrementAndGet();
+			return shell(shellId);
+		});
+
+		assertEquals(shellIds, descriptors.stream().map(ShellDescriptorResponse::getIdentification).toList());
+		assertTrue(maxInFlight.get() > 1 && maxInFlight.get() <= 3, "max in flight " + maxInFlight.get());
+	}
+
+	@Test
+	void testListedPagesAreUsedBeforeSingleReads() {
+		List<String> shellIds = shellIds(12);
+		Set<String> singleReads = ConcurrentHashMap.newKeySet();
+
+		List<ShellDescriptorResponse> descriptors = shellDescriptorFetcher.fetch("registry", shellIds, shellId -> {
+			singleReads.add(shellId);
+			return shell(shellId);
+		}, (cursor, limit) -> {
+			int from = cursor == null ? 0 : Integer.parseInt(cursor);
+			return page(IntStream.range(from, from + limit).mapToObj(index -> shell("shell-" + index)).toList(),
+					String.valueOf(from + limit));
+		});
+
+		assertEquals(shellIds, descriptors.stream().map(ShellDescriptorResponse::getIdentification).toList());
+		// two pages of four descriptors were listed
+		assertEquals(Set.of("shell-8", "shell-9", "shell-10", "shell-11"), singleReads);
+	}
+
+	@Test
+	void testPagesStopWhenTheRegistryListsTheSamePageAgain() {
+		ReflectionTestUtils.setField(shellDescriptorFetcher, "maxPages", 20);
+		List<String> shellIds = shellIds(12);
+		AtomicInteger pageReads = new AtomicInteger();
+		AtomicInteger cursors = new AtomicInteger();
+
+		List<ShellDescriptorResponse> descriptors = shellDescriptorFetcher.fetch("registry", shellIds, this::shell,
+				(cursor, limit) -> {
+					pageReads.incrementAndGet();
+					// ignores the cursor, but hands out a new one each time
+					return page(shellIds.subList(0, limit).stream().map(this::shell).toList(),
+							"cursor-" + cursors.incrementAndGet());
+				});
+
+		assertEquals(shellIds, descriptors.stream().map(ShellDescriptorResponse::getIdentification).toList());
+		assertEquals(2, pageReads.get());
+	}
+
+	private ShellDescriptorResponseList page(List<ShellDescriptorResponse> shells, String cursor) {
+		Paging paging = new Paging();
+		paging.setCursor(cursor);
+		ShellDescriptorResponseList page = new ShellDescriptorResponseList();
+		page.setResult(shells);
+		page.setPagingMetadata(paging);
+		return page;
+	}
+
+	private List<String> shellIds(int count) {
+		return IntStream.range(0, count).mapToObj(index -> "shell-" + index).toList();
+	}
+
+	private ShellDescriptorResponse shell(String shellId) {
+		ShellDescriptorResponse shellDescriptor = new ShellDescriptorResponse();
+		shellDescriptor.setId(shellId);
+		return shellDescriptor;
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
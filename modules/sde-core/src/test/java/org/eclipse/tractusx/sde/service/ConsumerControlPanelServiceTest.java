@@ -52,6 +52,8 @@ import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
 import org.eclipse.tractusx.sde.edc.services.CatalogResponseBuilder;
 import org.eclipse.tractusx.sde.edc.services.ConsumerControlPanelService;
 import org.eclipse.tractusx.sde.edc.services.ContractNegotiationService;
+import org.eclipse.tractusx.sde.edc.services.DataOfferQueryEngine;
+import org.eclipse.tractusx.sde.edc.services.EDRReadinessTracker;
 import org.eclipse.tractusx.sde.edc.services.LookUpDTTwin;
 import org.eclipse.tractusx.sde.edc.util.EDCAssetUrlCacheService;
 import org.eclipse.tractusx.sde.portal.api.IPartnerPoolExternalServiceApi;
@@ -69,7 +71,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-@ContextConfiguration(classes = { ConsumerControlPanelService.class, String.class })
+@ContextConfiguration(classes = { ConsumerControlPanelService.class, DataOfferQueryEngine.class, String.class })
 @ExtendWith(SpringExtension.class)
 class ConsumerControlPanelServiceTest {
 	
@@ -120,6 +122,9 @@ class ConsumerControlPanelServiceTest {
 
 	@MockBean
 	private LookUpDTTwin lookUpDTTwin;
+
+	@MockBean
+	private EDRReadinessTracker edrReadinessTracker;
 	
 	
 	@BeforeEach
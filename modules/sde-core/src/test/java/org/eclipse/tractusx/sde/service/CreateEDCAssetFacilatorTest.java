@@ -0,0 +1,162 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.common.constants.SubmoduleCommonColumnsConstant;
+import org.eclipse.tractusx.sde.common.entities.PolicyModel;
+import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequestFactory;
+import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyConstraintBuilderService;
+import org.eclipse.tractusx.sde.edc.exceptions.EDCGatewayException;
+import org.eclipse.tractusx.sde.edc.facilitator.CreateEDCAssetFacilator;
+import org.eclipse.tractusx.sde.edc.facilitator.EDCProvisioningPipeline;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCGateway;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCProviderStateIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CreateEDCAssetFacilatorTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final PolicyModel policy = PolicyModel.builder().build();
+
+	private EDCGateway edcGateway;
+
+	private EDCProvisioningPipeline edcProvisioningPipeline;
+
+	private EDCProviderStateIndex edcProviderStateIndex;
+
+	private CreateEDCAssetFacilator createEDCAssetFacilator;
+
+	@BeforeEach
+	void setUp() {
+		edcGateway = mock(EDCGateway.class);
+		// not loaded, the create and update calls are used as requested
+		edcProviderStateIndex = mock(EDCProviderStateIndex.class);
+		when(edcProviderStateIndex.containsPolicyDefinition(any())).thenReturn(null);
+		when(edcProviderStateIndex.containsContractDefinition(any())).thenReturn(null);
+		PolicyConstraintBuilderService policyConstraintBuilderService = mock(PolicyConstraintBuilderService.class);
+		when(policyConstraintBuilderService.getAccessPolicy(any(), any()))
+				.thenReturn(objectMapper.createObjectNode().put("@id", "access-policy"));
+		when(policyConstraintBuilderService.getUsagePolicy(any(), any()))
+				.thenReturn(objectMapper.createObjectNode().put("@id", "usage-policy"));
+
+		edcProvisioningPipeline = new EDCProvisioningPipeline();
+		ReflectionTestUtils.setField(edcProvisioningPipeline, "maxInFlight", 4);
+		edcProvisioningPipeline.start();
+
+		createEDCAssetFacilator = new CreateEDCAssetFacilator(edcGateway, new ContractDefinitionRequestFactory(),
+				policyConstraintBuilderService, edcProvisioningPipeline, edcProviderStateIndex);
+	}
+
+	@AfterEach
+	void tearDown() {
+		edcProvisioningPipeline.stop();
+	}
+
+	@Test
+	void testAssetAndPoliciesAreCreatedConcurrentlyBeforeContractDefinition() {
+		// each of the three calls waits until the other two were submitted
+		CountDownLatch started = new CountDownLatch(3);
+		doAnswer(invocation -> awaitAll(started)).when(edcGateway).createAsset(any());
+		doAnswer(invocation -> awaitAll(started)).when(edcGateway).createPolicyDefinition(any());
+		when(edcGateway.createContractDefinition(any())).thenAnswer(invocation -> {
+			assertEquals(0, started.getCount());
+			return null;
+		});
+
+		Map<String, String> output = createEDCAssetFacilator.createEDCAsset(assetEntryRequest(), policy);
+
+		assertEquals("asset-1", output.get(SubmoduleCommonColumnsConstant.ASSET_ID));
+		assertEquals("access-policy", output.get(SubmoduleCommonColumnsConstant.ACCESS_POLICY_ID));
+		assertEquals("usage-policy", output.get(SubmoduleCommonColumnsConstant.USAGE_POLICY_ID));
+		verify(edcGateway).createContractDefinition(any());
+	}
+
+	@Test
+	void testContractDefinitionIsNotSubmittedWhenADependencyFails() {
+		EDCGatewayException assetExists = new EDCGatewayException("Asset already exists");
+		when(edcGateway.createAsset(any())).thenThrow(assetExists);
+
+		EDCGatewayException exception = assertThrows(EDCGatewayException.class,
+				() -> createEDCAssetFacilator.createEDCAsset(assetEntryRequest(), policy));
+
+		assertEquals(assetExists, exception);
+		verify(edcGateway, never()).createContractDefinition(any());
+	}
+
+	@Test
+	void testUpdateUsesTheUpdateCalls() {
+		createEDCAssetFacilator.updateEDCAsset(assetEntryRequest(), policy);
+
+		verify(edcGateway).updateAsset(any());
+		verify(edcGateway).updatePolicyDefinition(eq("access-policy"), any());
+		verify(edcGateway).updatePolicyDefinition(eq("usage-policy"), any());
+		verify(edcGateway).updateContractDefinition(any());
+		verify(edcGateway, never()).createAsset(any());
+	}
+
+	@Test
+	void testIndexedDefinitionsAreUpdatedOrKept() {
+		// left over from an earlier upload of the asset
+		when(edcProviderStateIndex.containsPolicyDefinition("access-policy")).thenReturn(true);
+		when(edcProviderStateIndex.containsPolicyDefinition("usage-policy")).thenReturn(false);
+		when(edcProviderStateIndex.isPolicyDefinitionUpToDate(eq("usage-policy"), any())).thenReturn(true);
+		when(edcProviderStateIndex.containsContractDefinition(any())).thenReturn(false);
+
+		createEDCAssetFacilator.createEDCAsset(assetEntryRequest(), policy);
+
+		verify(edcGateway).updatePolicyDefinition(eq("access-policy"), any());
+		verify(edcGateway, never()).createPolicyDefinition(any());
+		verify(edcGateway).createContractDefinition(any());
+	}
+
+	private static AssetEntryRequest assetEntryRequest() {
+		return AssetEntryRequest.builder().id("asset-1").build();
+	}
+
+	private static Object awaitAll(CountDownLatch started) throws InterruptedException {
+		started.countDown();
+		if (!started.await(2, TimeUnit.SECONDS))
+			throw new EDCGatewayException("Calls were submitted one after the other");
+		return null;
+	}
+}
@@ -0,0 +1,127 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.edc.model.response.DataOfferQueryResult;
+import org.eclipse.tractusx.sde.edc.model.response.PartnerQueryStatus;
+import org.eclipse.tractusx.sde.edc.model.response.PartnerQueryStatus.Status;
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.eclipse.tractusx.sde.edc.services.DataOfferQueryEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DataOfferQueryEngineTest {
+
+	private DataOfferQueryEngine dataOfferQueryEngine;
+
+	@BeforeEach
+	void setUp() {
+		dataOfferQueryEngine = new DataOfferQueryEngine();
+		ReflectionTestUtils.setField(dataOfferQueryEngine, "threads", 8);
+		ReflectionTestUtils.setField(dataOfferQueryEngine, "maxConcurrentPerPartner", 2);
+		ReflectionTestUtils.setField(dataOfferQueryEngine, "partnerTimeoutMillis", 5000L);
+		dataOfferQueryEngine.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		dataOfferQueryEngine.stop();
+	}
+
+	@Test
+	void testPartnersAreQueriedInParallel() {
+		// every look up waits until the look ups of both partners started
+		CountDownLatch started = new CountDownLatch(2);
+
+		DataOfferQueryResult result = dataOfferQueryEngine.query(List.of("BPNL1", "BPNL2"),
+				bpnNumber -> List.of(registry(bpnNumber + "-dtr")), (bpnNumber, registry) -> {
+					started.countDown();
+					if (!awaitQuietly(started))
+						throw new IllegalStateException("Partners were queried one after the other");
+					return List.of(offer(bpnNumber + "-twin"));
+				});
+
+		assertEquals(2, result.getOffers().size());
+		assertTrue(result.getPartners().stream().allMatch(status -> status.getStatus() == Status.SUCCESS));
+	}
+
+	@Test
+	void testSlowRegistryTimesOutWithPartialResult() {
+		ReflectionTestUtils.setField(dataOfferQueryEngine, "partnerTimeoutMillis", 300L);
+
+		DataOfferQueryResult result = dataOfferQueryEngine.query(List.of("BPNL1"),
+				bpnNumber -> List.of(registry("fast"), registry("slow")), (bpnNumber, registry) -> {
+					if ("slow".equals(registry.getConnectorOfferUrl()))
+						awaitQuietly(new CountDownLatch(1));
+					return List.of(offer(registry.getConnectorOfferUrl() + "-twin"));
+				});
+
+		assertEquals(1, result.getOffers().size());
+		assertEquals(Status.SUCCESS, registryStatus(result, "fast").getStatus());
+		assertEquals(Status.TIMEOUT, registryStatus(result, "slow").getStatus());
+	}
+
+	@Test
+	void testFailingLookUpIsReportedAsFailed() {
+		DataOfferQueryResult result = dataOfferQueryEngine.query(List.of("BPNL1"),
+				bpnNumber -> List.of(registry("good"), registry("bad")), (bpnNumber, registry) -> {
+					if ("bad".equals(registry.getConnectorOfferUrl()))
+						throw new IllegalStateException("EDR token is null");
+					return List.of(offer("good-twin"));
+				});
+
+		assertEquals(1, result.getOffers().size());
+		assertEquals(Status.FAILED, registryStatus(result, "bad").getStatus());
+		assertEquals("EDR token is null", registryStatus(result, "bad").getError());
+	}
+
+	private static PartnerQueryStatus registryStatus(DataOfferQueryResult result, String connectorOfferUrl) {
+		return result.getPartners().stream().filter(status -> connectorOfferUrl.equals(status.getConnectorOfferUrl()))
+				.findFirst().orElseThrow();
+	}
+
+	private static QueryDataOfferModel registry(String connectorOfferUrl) {
+		return QueryDataOfferModel.builder().assetId("dtr").connectorOfferUrl(connectorOfferUrl).build();
+	}
+
+	private static QueryDataOfferModel offer(String assetId) {
+		return QueryDataOfferModel.builder().assetId(assetId).build();
+	}
+
+	private static boolean awaitQuietly(CountDownLatch latch) {
+		try {
+			return latch.await(2, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.tractusx.sde.edc.api.EDCFeignClientApi;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCProviderStateIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class EDCProviderStateIndexTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private EDCFeignClientApi edcFeignClientApi;
+
+	private EDCProviderStateIndex edcProviderStateIndex;
+
+	@BeforeEach
+	void setUp() {
+		edcFeignClientApi = mock(EDCFeignClientApi.class);
+		edcProviderStateIndex = new EDCProviderStateIndex(edcFeignClientApi);
+		ReflectionTestUtils.setField(edcProviderStateIndex, "pageSize", 2);
+		ReflectionTestUtils.setField(edcProviderStateIndex, "ttlMillis", 60000L);
+		ReflectionTestUtils.setField(edcProviderStateIndex, "minRows", 10);
+
+		when(edcFeignClientApi.getAssetByType(argThat(query -> query != null && query.get("offset").asInt() == 0)))
+				.thenReturn(page("asset-1", "asset-2"));
+		when(edcFeignClientApi.getAssetByType(argThat(query -> query != null && query.get("offset").asInt() == 2)))
+				.thenReturn(page("asset-3"));
+		when(edcFeignClientApi.getPolicyDefinitions(any())).thenReturn(page("a-1"));
+		when(edcFeignClientApi.getContractDefinitions(any())).thenReturn(page("1"));
+	}
+
+	@Test
+	void testStateIsLoadedPageByPage() {
+		assertNull(edcProviderStateIndex.containsAsset("asset-1"));
+
+		edcProviderStateIndex.refresh();
+
+		verify(edcFeignClientApi, times(2)).getAssetByType(any());
+		assertTrue(edcProviderStateIndex.containsAsset("asset-3"));
+		assertFalse(edcProviderStateIndex.containsAsset("asset-4"));
+		assertTrue(edcProviderStateIndex.containsPolicyDefinition("a-1"));
+		assertTrue(edcProviderStateIndex.containsContractDefinition("1"));
+	}
+
+	@Test
+	void testWrittenContentIsKeptAcrossLoads() {
+		ObjectNode policyDefinition = objectMapper.createObjectNode().put("@id", "a-1");
+		edcProviderStateIndex.refresh();
+
+		// only loaded from the connector, the content is unknown
+		assertFalse(edcProviderStateIndex.isPolicyDefinitionUpToDate("a-1", policyDefinition));
+
+		edcProviderStateIndex.policyDefinitionSaved("a-1", policyDefinition);
+		edcProviderStateIndex.assetSaved("asset-4");
+		edcProviderStateIndex.refresh();
+
+		assertTrue(edcProviderStateIndex.isPolicyDefinitionUpToDate("a-1", policyDefinition));
+		assertFalse(edcProviderStateIndex.isPolicyDefinitionUpToDate("a-1", policyDefinition.deepCopy().put("x", 1)));
+
+		edcProviderStateIndex.assetDeleted("asset-1");
+		assertFalse(edcProviderStateIndex.containsAsset("asset-1"));
+	}
+
+	@Test
+	void testFailedLoadFallsBackToTheConnector() {
+		edcProviderStateIndex.refresh();
+		when(edcFeignClientApi.getPolicyDefinitions(any())).thenThrow(new IllegalStateException("unreachable"));
+
+		edcProviderStateIndex.refresh();
+
+		assertNull(edcProviderStateIndex.containsAsset("asset-1"));
+		assertFalse(edcProviderStateIndex.isPolicyDefinitionUpToDate("a-1", objectMapper.createObjectNode()));
+	}
+
+	@Test
+	void testJobsOnlyLoadTheStateOnceItIsStale() {
+		// a small job looks up the connector per id
+		edcProviderStateIndex.refreshIfStale(1);
+		verify(edcFeignClientApi, never()).getAssetByType(any());
+		assertNull(edcProviderStateIndex.containsAsset("asset-1"));
+
+		edcProviderStateIndex.refreshIfStale(null);
+		edcProviderStateIndex.refreshIfStale(100);
+		edcProviderStateIndex.refreshIfStale(null);
+		verify(edcFeignClientApi, times(2)).getAssetByType(any());
+		assertTrue(edcProviderStateIndex.containsAsset("asset-1"));
+
+		ReflectionTestUtils.setField(edcProviderStateIndex, "ttlMillis", 0L);
+		assertNull(edcProviderStateIndex.containsAsset("asset-1"));
+		edcProviderStateIndex.refreshIfStale(null);
+		verify(edcFeignClientApi, times(4)).getAssetByType(any());
+	}
+
+	private ArrayNode page(String... ids) {
+		ArrayNode page = objectMapper.createArrayNode();
+		for (String id : ids)
+			page.addObject().put("@id", id);
+		return page;
+	}
+}
@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.edc.facilitator.EDRRequestHelper;
+import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedResponse;
+import org.eclipse.tractusx.sde.edc.services.EDRReadinessTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EDRReadinessTrackerTest {
+
+	private EDRRequestHelper edrRequestHelper;
+
+	private EDRReadinessTracker edrReadinessTracker;
+
+	@BeforeEach
+	void setUp() {
+		edrRequestHelper = mock(EDRRequestHelper.class);
+		edrReadinessTracker = new EDRReadinessTracker(edrRequestHelper);
+		ReflectionTestUtils.setField(edrReadinessTracker, "threads", 1);
+		ReflectionTestUtils.setField(edrReadinessTracker, "workerThreads", 2);
+		ReflectionTestUtils.setField(edrReadinessTracker, "intervalMillis", 50L);
+		ReflectionTestUtils.setField(edrReadinessTracker, "initialDelayMillis", 10L);
+		ReflectionTestUtils.setField(edrReadinessTracker, "backoffMultiplier", 2.0);
+		ReflectionTestUtils.setField(edrReadinessTracker, "maxDelayMillis", 40L);
+		ReflectionTestUtils.setField(edrReadinessTracker, "timeoutMillis", 300L);
+		ReflectionTestUtils.setField(edrReadinessTracker, "batchSize", 50);
+	}
+
+	@AfterEach
+	void tearDown() {
+		edrReadinessTracker.stop();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testPendingAssetsArePolledWithOneQuery() throws Exception {
+		when(edrRequestHelper.getEDRCachedByAssets(anyCollection())).thenReturn(List.of(edr("asset-1", "tp-1"),
+				edr("asset-2", "tp-2"), edr("asset-2", "tp-3")));
+
+		CompletableFuture<EDRCachedResponse> first = edrReadinessTracker.awaitEDR("asset-1", edrs -> edrs.get(0));
+		CompletableFuture<EDRCachedResponse> second = edrReadinessTracker.awaitEDR("asset-2",
+				edrs -> edrs.size() == 2 ? edrs.get(1) : null);
+		edrReadinessTracker.start();
+
+		assertEquals("tp-1", first.get(5, TimeUnit.SECONDS).getTransferProcessId());
+		assertEquals("tp-3", second.get(5, TimeUnit.SECONDS).getTransferProcessId());
+
+		ArgumentCaptor<Collection<String>> assetIds = ArgumentCaptor.forClass(Collection.class);
+		verify(edrRequestHelper, atLeastOnce()).getEDRCachedByAssets(assetIds.capture());
+		assertEquals(List.of("asset-1", "asset-2"), List.copyOf(assetIds.getAllValues().get(0)));
+	}
+
+	@Test
+	void testWaitEndsWithoutEDRAfterTimeout() throws Exception {
+		when(edrRequestHelper.getEDRCachedByAssets(anyCollection())).thenReturn(List.of());
+		edrReadinessTracker.start();
+
+		assertNull(edrReadinessTracker.awaitEDR("asset-1", edrs -> null).get(5, TimeUnit.SECONDS));
+
+		AtomicInteger attempts = new AtomicInteger();
+		assertEquals(3, edrReadinessTracker.poll(attempts::incrementAndGet, attempt -> attempt == 3).get(5,
+				TimeUnit.SECONDS));
+	}
+
+	@Test
+	void testVerificationAndPolledActionsRunOnTheWorkerThreads() throws Exception {
+		when(edrRequestHelper.getEDRCachedByAssets(anyCollection())).thenReturn(List.of(edr("asset-1", "tp-1")));
+		edrReadinessTracker.start();
+
+		assertEquals("sde-edr-worker", edrReadinessTracker
+				.awaitEDR("asset-1", edrs -> edr("asset-1", threadName())).get(5, TimeUnit.SECONDS)
+				.getTransferProcessId());
+		assertEquals("sde-edr-worker",
+				edrReadinessTracker.poll(this::threadName, Objects::nonNull).get(5, TimeUnit.SECONDS));
+	}
+
+	private String threadName() {
+		return Thread.currentThread().getName().replaceAll("-\\d+$", "");
+	}
+
+	private EDRCachedResponse edr(String assetId, String transferProcessId) {
+		return EDRCachedResponse.builder().assetId(assetId).transferProcessId(transferProcessId).build();
+	}
+}
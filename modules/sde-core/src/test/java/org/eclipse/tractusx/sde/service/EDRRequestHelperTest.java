@@ -0,0 +1,82 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.sde.edc.api.EDRApiProxy;
+import org.eclipse.tractusx.sde.edc.facilitator.EDRRequestHelper;
+import org.eclipse.tractusx.sde.edc.mapper.ContractMapper;
+import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class EDRRequestHelperTest {
+
+	private EDRApiProxy edrApiProxy;
+
+	private EDRRequestHelper edrRequestHelper;
+
+	@BeforeEach
+	void setUp() {
+		edrApiProxy = mock(EDRApiProxy.class);
+		edrRequestHelper = new EDRRequestHelper(edrApiProxy, mock(ContractMapper.class));
+		ReflectionTestUtils.setField(edrRequestHelper, "consumerHostWithDataPath", "http://consumer/data");
+	}
+
+	@Test
+	void testAssetWithManyEntriesDoesNotCrowdOutTheOthers() {
+		List<EDRCachedResponse> edrs = new ArrayList<>();
+		IntStream.range(0, 25).forEach(i -> edrs.add(edr("asset-9", "tp-9-" + i)));
+		edrs.add(edr("asset-1", "tp-1-0"));
+		edrs.add(edr("asset-1", "tp-1-1"));
+		when(edrApiProxy.getEDRCachedByAsset(any(), any(), anyMap())).thenAnswer(invocation -> {
+			JsonNode requestBody = invocation.getArgument(1);
+			int offset = requestBody.get("offset").asInt();
+			int limit = requestBody.get("limit").asInt();
+			return List.copyOf(edrs.subList(Math.min(offset, edrs.size()), Math.min(offset + limit, edrs.size())));
+		});
+
+		List<EDRCachedResponse> result = edrRequestHelper.getEDRCachedByAssets(List.of("asset-9", "asset-1"));
+
+		assertEquals(10, result.stream().filter(edr -> "asset-9".equals(edr.getAssetId())).count());
+		assertEquals(List.of("tp-1-0", "tp-1-1"), result.stream().filter(edr -> "asset-1".equals(edr.getAssetId()))
+				.map(EDRCachedResponse::getTransferProcessId).toList());
+		verify(edrApiProxy, times(2)).getEDRCachedByAsset(any(), any(), anyMap());
+	}
+
+	private EDRCachedResponse edr(String assetId, String transferProcessId) {
+		return EDRCachedResponse.builder().assetId(assetId).transferProcessId(transferProcessId).build();
+	}
+}
@@ -0,0 +1,137 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedByIdResponse;
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.eclipse.tractusx.sde.edc.util.EDRTokenCache;
+import org.eclipse.tractusx.sde.edc.util.EDRTokenCache.CachedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import feign.FeignException;
+
+class EDRTokenCacheTest {
+
+	private final QueryDataOfferModel offer = QueryDataOfferModel.builder().connectorOfferUrl("https://provider/api")
+			.assetId("asset-1").policyId("policy-1").build();
+
+	private final AtomicInteger negotiations = new AtomicInteger();
+
+	private EDRTokenCache edrTokenCache;
+
+	@BeforeEach
+	void setUp() {
+		edrTokenCache = new EDRTokenCache();
+		ReflectionTestUtils.setField(edrTokenCache, "enabled", true);
+		ReflectionTestUtils.setField(edrTokenCache, "refreshBeforeExpiryMillis", 30000L);
+		ReflectionTestUtils.setField(edrTokenCache, "defaultTtlMillis", 300000L);
+		ReflectionTestUtils.setField(edrTokenCache, "maxEntries", 100);
+	}
+
+	@Test
+	void testValidTokenIsReusedWithoutNegotiation() {
+		long exp = System.currentTimeMillis() / 1000 + 600;
+
+		for (int i = 0; i < 3; i++)
+			assertEquals("Bearer " + jwt(exp), edrTokenCache.get(offer, cached -> {
+				throw new IllegalStateException("must not refresh");
+			}, () -> negotiate(exp)).getAuthorization());
+
+		assertEquals(1, negotiations.get());
+	}
+
+	@Test
+	void testExpiringTokenIsRefreshedBeforeItIsHandedOut() {
+		long expiringSoon = System.currentTimeMillis() / 1000 + 10;
+		long refreshedExp = expiringSoon + 600;
+		edrTokenCache.get(offer, cached -> null, () -> negotiate(expiringSoon));
+
+		EDRCachedByIdResponse token = edrTokenCache.get(offer,
+				cached -> edrTokenCache.toCachedToken(cached.transferProcessId(), token(refreshedExp)),
+				() -> negotiate(refreshedExp));
+
+		assertEquals("Bearer " + jwt(refreshedExp), token.getAuthorization());
+		assertEquals(1, negotiations.get());
+	}
+
+	@Test
+	void testConcurrentLookupsNegotiateOnceAndReleaseTheirLocks() throws Exception {
+		long exp = System.currentTimeMillis() / 1000 + 600;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<EDRCachedByIdResponse>> lookups = executor
+					.invokeAll(Collections.nCopies(32, () -> edrTokenCache.get(offer, cached -> null, () -> negotiate(exp))));
+			for (Future<EDRCachedByIdResponse> lookup : lookups)
+				assertEquals("Bearer " + jwt(exp), lookup.get().getAuthorization());
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(1, negotiations.get());
+		assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(edrTokenCache, "locks")).isEmpty());
+	}
+
+	@Test
+	void testRejectedTokenIsNegotiatedAgain() {
+		long exp = System.currentTimeMillis() / 1000 + 600;
+		EDRCachedByIdResponse token = edrTokenCache.get(offer, cached -> null, () -> negotiate(exp));
+
+		FeignException forbidden = mock(FeignException.class);
+		when(forbidden.status()).thenReturn(403);
+		assertTrue(edrTokenCache.invalidateIfRejected(forbidden, token.getAuthorization()));
+
+		edrTokenCache.get(offer, cached -> null, () -> negotiate(exp));
+		assertEquals(2, negotiations.get());
+	}
+
+	private CachedToken negotiate(long exp) {
+		negotiations.incrementAndGet();
+		return edrTokenCache.toCachedToken("tp-1", token(exp));
+	}
+
+	private static EDRCachedByIdResponse token(long exp) {
+		return EDRCachedByIdResponse.builder().endpoint("https://provider/public")
+				.authorization("Bearer " + jwt(exp)).build();
+	}
+
+	private static String jwt(long exp) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(("{\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8)) + ".";
+	}
+}
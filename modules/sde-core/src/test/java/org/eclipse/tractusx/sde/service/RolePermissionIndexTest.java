@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.role.entity.RolePermissionEntity;
+import org.eclipse.tractusx.sde.core.role.repository.RolePermissionRepository;
+import org.eclipse.tractusx.sde.core.service.RolePermissionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RolePermissionIndexTest {
+
+	private RolePermissionRepository rolePermissionRepository;
+
+	private RolePermissionIndex rolePermissionIndex;
+
+	@BeforeEach
+	void setUp() {
+		rolePermissionRepository = mock(RolePermissionRepository.class);
+		when(rolePermissionRepository.findAll()).thenReturn(List.of(mapping("Admin", "provider_view_history"),
+				mapping("Admin", "provider_create_contract_offer"), mapping("User", "consumer_view_download_history")));
+
+		rolePermissionIndex = new RolePermissionIndex(rolePermissionRepository);
+		ReflectionTestUtils.setField(rolePermissionIndex, "cacheTtlMillis", 60000L);
+	}
+
+	@Test
+	void testPermissionChecksAreServedFromOneLoad() {
+		assertTrue(rolePermissionIndex.hasAnyPermission(List.of("User", "Admin"), List.of("provider_view_history")));
+		assertFalse(rolePermissionIndex.hasAnyPermission(List.of("User"), List.of("provider_view_history")));
+		assertFalse(rolePermissionIndex.hasAnyPermission(List.of("Unknown"), List.of("provider_view_history")));
+
+		verify(rolePermissionRepository, times(1)).findAll();
+	}
+
+	@Test
+	void testMappingsAreLoadedAgainAfterTtl() {
+		ReflectionTestUtils.setField(rolePermissionIndex, "cacheTtlMillis", 0L);
+
+		rolePermissionIndex.hasAnyPermission(List.of("Admin"), List.of("provider_view_history"));
+		rolePermissionIndex.hasAnyPermission(List.of("Admin"), List.of("provider_view_history"));
+
+		verify(rolePermissionRepository, times(2)).findAll();
+	}
+
+	@Test
+	void testRefreshPicksUpSavedMappings() {
+		assertFalse(rolePermissionIndex.hasAnyPermission(List.of("User"), List.of("provider_view_history")));
+
+		when(rolePermissionRepository.findAll()).thenReturn(List.of(mapping("User", "provider_view_history")));
+		rolePermissionIndex.refreshAfterCommit();
+
+		assertTrue(rolePermissionIndex.hasAnyPermission(List.of("User"), List.of("provider_view_history")));
+	}
+
+	private static RolePermissionEntity mapping(String role, String permission) {
+		return RolePermissionEntity.builder().sdeRole(role).sdePermission(permission).build();
+	}
+}
@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.common.utils.AccessTokenManager;
+import org.eclipse.tractusx.sde.common.utils.TokenUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AccessTokenManagerTest {
+
+	private static final int CALLERS = 200;
+
+	private final AtomicInteger fetches = new AtomicInteger();
+
+	private AccessTokenManager accessTokenManager;
+
+	@BeforeEach
+	void setUp() {
+		accessTokenManager = new AccessTokenManager(new TokenUtility(null));
+		ReflectionTestUtils.setField(accessTokenManager, "refreshAheadMillis", 60000L);
+		ReflectionTestUtils.setField(accessTokenManager, "minValidityMillis", 40000L);
+	}
+
+	@Test
+	void testConcurrentCallersShareOneFetch() throws Exception {
+		long exp = System.currentTimeMillis() / 1000 + 300;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			List<Future<String>> tokens = new ArrayList<>();
+			for (int i = 0; i < CALLERS; i++)
+				tokens.add(executor.submit(() -> {
+					start.await();
+					return accessTokenManager.getToken("portal", () -> slowFetch(exp));
+				}));
+			start.countDown();
+
+			Set<String> distinctTokens = ConcurrentHashMap.newKeySet();
+			for (Future<String> token : tokens)
+				distinctTokens.add(token.get());
+
+			assertEquals(1, fetches.get());
+			assertEquals(Set.of(jwt(exp)), distinctTokens);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testTokenIsRefreshedAheadOfItsExpiry() {
+		long expiringSoon = System.currentTimeMillis() / 1000 + 50;
+		accessTokenManager.getToken("portal", () -> slowFetch(expiringSoon));
+
+		long refreshedExp = expiringSoon + 300;
+		String token = accessTokenManager.getToken("portal", () -> slowFetch(refreshedExp));
+		assertEquals(jwt(refreshedExp), token);
+
+		assertEquals(jwt(refreshedExp), accessTokenManager.getToken("portal", () -> slowFetch(0)));
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	void testCurrentTokenIsUsedWhenRefreshAheadFails() {
+		long expiringSoon = System.currentTimeMillis() / 1000 + 50;
+		accessTokenManager.getToken("portal", () -> slowFetch(expiringSoon));
+
+		String token = accessTokenManager.getToken("portal", () -> {
+			throw new IllegalStateException("token endpoint unavailable");
+		});
+		assertEquals(jwt(expiringSoon), token);
+		assertEquals(1, fetches.get());
+	}
+
+	private String slowFetch(long exp) {
+		fetches.incrementAndGet();
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return jwt(exp);
+	}
+
+	private static String jwt(long exp) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(("{\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8)) + ".sig";
+	}
+}
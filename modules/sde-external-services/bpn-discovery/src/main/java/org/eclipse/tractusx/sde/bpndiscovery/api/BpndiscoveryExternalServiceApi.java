@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.bpndiscovery.api;
 
 import java.net.URI;
 
+import org.eclipse.tractusx.sde.common.utils.AccessTokenManager;
 import org.eclipse.tractusx.sde.common.utils.TokenUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -58,7 +59,8 @@ class BpndiscoveryExternalServiceApiInterceptor implements RequestInterceptor {
 	@Autowired
 	private TokenUtility tokenUtilityforBpn;
 
-	private String bpnAccessToken;
+	@Autowired
+	private AccessTokenManager accessTokenManager;
 
 	@Override
 	public void apply(RequestTemplate template) {
@@ -68,11 +70,8 @@ class BpndiscoveryExternalServiceApiInterceptor implements RequestInterceptor {
 
 	@SneakyThrows
 	public String getTokenForBPN() {
-		if (bpnAccessToken != null && tokenUtilityforBpn.isTokenValid(bpnAccessToken)) {
-			return "Bearer " + bpnAccessToken;
-		}
-		bpnAccessToken = tokenUtilityforBpn.getToken(bpnAppTokenURI, bpnGrantType, bpnAppClientId, bpnAppClientSecret);
-		return "Bearer " + bpnAccessToken;
+		return "Bearer " + accessTokenManager.getToken("bpn-discovery",
+				() -> tokenUtilityforBpn.getToken(bpnAppTokenURI, bpnGrantType, bpnAppClientId, bpnAppClientSecret));
 	}
 
 }
\ No newline at end of file
@@ -19,10 +19,10 @@
  ********************************************************************************/
 package org.eclipse.tractusx.sde.bpndiscovery.handler;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -48,16 +48,12 @@ public class BPNDiscoveryUseCaseHandler extends Step implements BPNDiscoveryUsec
 
 	private final BpnDiscoveryProxyService bpnDiscoveryProxyService;
 
+	private final BpnDiscoveryBatchWriter bpnDiscoveryBatchWriter;
+
 	public void run(Map<String, String> input) throws ServiceException {
 		try {
-			BpnDiscoveryRequest bpnDiscoveryRequest = new BpnDiscoveryRequest();
-			List<BpnDiscoveryRequest> bpnDiscoveryKeyList = new ArrayList<>();
-
-			input.entrySet().stream().forEach(e -> {
-				bpnDiscoveryRequest.setType(e.getKey());
-				bpnDiscoveryRequest.setKey(e.getValue());
-				bpnDiscoveryKeyList.add(bpnDiscoveryRequest);
-			});
+			List<BpnDiscoveryRequest> bpnDiscoveryKeyList = input.entrySet().stream()
+					.map(e -> new BpnDiscoveryRequest(e.getKey(), e.getValue())).toList();
 
 			bpnDiscoveryProxyService.bpnDiscoveryBatchData(bpnDiscoveryKeyList);
 		} catch (Exception e) {
@@ -71,16 +67,9 @@ public class BPNDiscoveryUseCaseHandler extends Step implements BPNDiscoveryUsec
 		if (StringUtils.isBlank(
 				JsonObjectUtility.getValueFromJsonObjectAsString(jsonObject, SubmoduleCommonColumnsConstant.UPDATED))) {
 			try {
-				BpnDiscoveryRequest bpnDiscoveryRequest = new BpnDiscoveryRequest();
-				List<BpnDiscoveryRequest> bpnDiscoveryKeyList = new ArrayList<>();
-				Map<String, String> input = generateBPNDiscoveryIdentifiersIds(jsonObject);
-				input.entrySet().stream().forEach(e -> {
-					bpnDiscoveryRequest.setType(e.getKey());
-					bpnDiscoveryRequest.setKey(e.getValue());
-					bpnDiscoveryKeyList.add(bpnDiscoveryRequest);
-				});
-				bpnDiscoveryProxyService.bpnDiscoveryBatchData(bpnDiscoveryKeyList);
-
+				// registered together with the entries of other rows, a failed
+				// registration is reported by finish
+				bpnDiscoveryBatchWriter.register(processId, rowIndex, generateBPNDiscoveryIdentifiersIds(jsonObject));
 			} catch (Exception e) {
 				throw new ServiceException("Exception in BPN Discovery creation : " + e.getMessage());
 			}
@@ -88,6 +77,14 @@ public class BPNDiscoveryUseCaseHandler extends Step implements BPNDiscoveryUsec
 		return jsonObject;
 	}
 
+	@Override
+	public Map<Integer, String> finish(String processId) {
+		Map<Integer, String> failedRows = new TreeMap<>();
+		bpnDiscoveryBatchWriter.finish(processId).forEach((rowIndex, error) -> failedRows.put(rowIndex,
+				"Exception in BPN Discovery creation : " + error));
+		return failedRows;
+	}
+
 	@Override
 	public void delete(Integer rowIndex, JsonObject jsonObject, String delProcessId, String refProcessId) {
 		// Nothing to do with bpn discovery for delete
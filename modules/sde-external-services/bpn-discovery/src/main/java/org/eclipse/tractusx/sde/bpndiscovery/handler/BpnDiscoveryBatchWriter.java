@@ -0,0 +1,216 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.bpndiscovery.handler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects the BPN discovery entries of the rows of all running processes and
+ * registers them with one batch request once {@code bpndiscovery.batch.size}
+ * distinct entries are pending or the oldest pending entry waited
+ * {@code bpndiscovery.batch.linger-ms}. An entry which a process already
+ * registered, or which is pending, is not sent again for that process, rows
+ * sharing the entry wait for the same registration.
+ *
+ * Rows do not wait for their registration, so a batch collects the entries of
+ * many more rows than run at the same time. {@link #finish(String)} sends what
+ * is still pending and returns the rows of the process whose registration
+ * failed.
+ *
+ * The scheduled check for lingering entries only drains them, their batch is
+ * sent by one of the {@code bpndiscovery.batch.sender-threads} sender threads,
+ * so that a slow discovery service does not hold up the other scheduled tasks
+ * of the application.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BpnDiscoveryBatchWriter {
+
+	private final BpnDiscoveryProxyService bpnDiscoveryProxyService;
+
+	@Value("${bpndiscovery.batch.size:100}")
+	private int batchSize;
+
+	@Value("${bpndiscovery.batch.linger-ms:50}")
+	private long lingerMillis;
+
+	@Value("${bpndiscovery.batch.sender-threads:2}")
+	private int senderThreads;
+
+	private ExecutorService sender;
+
+	// registrations of the running processes, by process id
+	private final Map<String, ProcessRegistrations> registrations = new ConcurrentHashMap<>();
+
+	private Map<BpnDiscoveryRequest, CompletableFuture<Void>> pendingEntries = new LinkedHashMap<>();
+
+	private long firstPendingTime;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadCount = new AtomicInteger();
+		sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+			Thread thread = new Thread(runnable, "sde-bpn-discovery-sender-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void stop() {
+		sender.shutdown();
+	}
+
+	/**
+	 * Completes once all entries of the row are registered, or exceptionally
+	 * with the error of the batch request of one of its entries.
+	 */
+	public CompletableFuture<Void> register(String processId, Integer rowIndex, Map<String, String> identifiers) {
+		ProcessRegistrations process = registrations.computeIfAbsent(processId, id -> new ProcessRegistrations());
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		Map<BpnDiscoveryRequest, CompletableFuture<Void>> batch = null;
+		synchronized (this) {
+			for (Map.Entry<String, String> identifier : identifiers.entrySet()) {
+				BpnDiscoveryRequest entry = new BpnDiscoveryRequest(identifier.getKey(), identifier.getValue());
+				futures.add(process.registered.computeIfAbsent(entry, this::addPendingEntry));
+			}
+			if (pendingEntries.size() >= batchSize)
+				batch = drain();
+		}
+
+		CompletableFuture<Void> row = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+		process.pendingRows.add(row);
+		row.whenComplete((result, error) -> {
+			if (error != null)
+				process.failedRows.put(rowIndex, getCause(error).getMessage());
+			process.pendingRows.remove(row);
+		});
+
+		if (batch != null)
+			send(batch);
+		return row;
+	}
+
+	/**
+	 * Sends the pending entries, waits for the registrations of the rows of the
+	 * process and forgets the entries which the process registered. Returns the
+	 * error of every row whose registration failed, by row position.
+	 */
+	public Map<Integer, String> finish(String processId) {
+		ProcessRegistrations process = registrations.get(processId);
+		if (process == null)
+			return Map.of();
+
+		Map<BpnDiscoveryRequest, CompletableFuture<Void>> batch;
+		synchronized (this) {
+			batch = drain();
+		}
+		if (!batch.isEmpty())
+			send(batch);
+
+		for (CompletableFuture<Void> row : new ArrayList<>(process.pendingRows)) {
+			try {
+				row.join();
+			} catch (CompletionException e) {
+				// recorded as failed row
+			}
+		}
+		registrations.remove(processId);
+		return new TreeMap<>(process.failedRows);
+	}
+
+	@Scheduled(fixedDelayString = "${bpndiscovery.batch.linger-ms:50}")
+	public void sendLingeringEntries() {
+		Map<BpnDiscoveryRequest, CompletableFuture<Void>> batch = null;
+		synchronized (this) {
+			if (!pendingEntries.isEmpty() && System.currentTimeMillis() - firstPendingTime >= lingerMillis)
+				batch = drain();
+		}
+		if (batch != null) {
+			Map<BpnDiscoveryRequest, CompletableFuture<Void>> lingering = batch;
+			sender.execute(() -> send(lingering));
+		}
+	}
+
+	private CompletableFuture<Void> addPendingEntry(BpnDiscoveryRequest entry) {
+		if (pendingEntries.isEmpty())
+			firstPendingTime = System.currentTimeMillis();
+		// another process may wait for the same entry
+		return pendingEntries.computeIfAbsent(entry, key -> new CompletableFuture<>());
+	}
+
+	private Map<BpnDiscoveryRequest, CompletableFuture<Void>> drain() {
+		Map<BpnDiscoveryRequest, CompletableFuture<Void>> drained = pendingEntries;
+		pendingEntries = new LinkedHashMap<>();
+		return drained;
+	}
+
+	private void send(Map<BpnDiscoveryRequest, CompletableFuture<Void>> batch) {
+		try {
+			bpnDiscoveryProxyService.bpnDiscoveryBatchData(new ArrayList<>(batch.keySet()));
+			log.debug(String.format("Registered %s BPN discovery entries", batch.size()));
+			batch.values().forEach(future -> future.complete(null));
+		} catch (Exception e) {
+			// the next row with one of these entries tries again
+			batch.forEach((entry, future) -> {
+				registrations.values().forEach(process -> process.registered.remove(entry, future));
+				future.completeExceptionally(e);
+			});
+		}
+	}
+
+	private static Throwable getCause(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	private static class ProcessRegistrations {
+
+		private final Map<BpnDiscoveryRequest, CompletableFuture<Void>> registered = new ConcurrentHashMap<>();
+
+		private final Set<CompletableFuture<Void>> pendingRows = ConcurrentHashMap.newKeySet();
+
+		private final Map<Integer, String> failedRows = new ConcurrentHashMap<>();
+	}
+}
@@ -28,4 +28,5 @@ import lombok.Data;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Paging {
 
+	private String cursor;
 }
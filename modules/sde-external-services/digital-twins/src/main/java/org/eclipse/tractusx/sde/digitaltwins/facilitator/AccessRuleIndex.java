@@ -0,0 +1,112 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.tractusx.sde.digitaltwins.gateways.external.IAccessRuleManagementApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local copy of the access rules of the digital twin registry, the policy of
+ * every rule by its id. It is loaded with one query of all rules when it is
+ * first used and again once it is older than
+ * {@code digital-twins.access-rule-index.ttl-ms}, in between it is kept up to
+ * date by the rules the SDE creates and deletes.
+ *
+ * If the rules can not be loaded the index is not used until the ttl passed,
+ * the existing rules are then treated as unknown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessRuleIndex {
+
+	private final IAccessRuleManagementApi iAccessRuleManagementApi;
+
+	@Value("${digital-twins.access-rule-index.ttl-ms:600000}")
+	private long ttlMillis;
+
+	private Map<String, JsonNode> policies;
+
+	private String loadedEdcBpn;
+
+	private long loadTime;
+
+	/**
+	 * Loads the rules of the registry if that is due and returns whether the
+	 * index can be used.
+	 */
+	public synchronized boolean load(String edcBpn) {
+		long now = System.currentTimeMillis();
+		if (edcBpn.equals(loadedEdcBpn) && now - loadTime < ttlMillis)
+			return policies != null;
+
+		loadedEdcBpn = edcBpn;
+		loadTime = now;
+		policies = null;
+		try {
+			JsonNode response = iAccessRuleManagementApi.getAccessControlsRules(edcBpn);
+			JsonNode rules = response != null && response.has("items") ? response.get("items") : response;
+			Map<String, JsonNode> loaded = new ConcurrentHashMap<>();
+			if (rules != null && rules.isArray()) {
+				rules.forEach(rule -> {
+					if (rule.hasNonNull("id") && rule.hasNonNull("policy"))
+						loaded.put(rule.get("id").asText(), rule.get("policy"));
+				});
+			}
+			policies = loaded;
+			log.info(String.format("Loaded %s digital twin access rules", loaded.size()));
+		} catch (Exception e) {
+			log.warn("Unable to load the digital twin access rules, treating existing rules as unknown: "
+					+ e.getMessage());
+		}
+		return policies != null;
+	}
+
+	public synchronized boolean contains(String ruleId) {
+		return policies != null && policies.containsKey(ruleId);
+	}
+
+	/**
+	 * Returns the policy of the rule, or null if the rule is not known.
+	 */
+	public synchronized JsonNode getPolicy(String ruleId) {
+		return policies == null ? null : policies.get(ruleId);
+	}
+
+	public synchronized void ruleCreated(String ruleId, JsonNode policy) {
+		if (policies != null && ruleId != null && policy != null)
+			policies.put(ruleId, policy);
+	}
+
+	public synchronized void ruleDeleted(String ruleId) {
+		if (policies != null && ruleId != null)
+			policies.remove(ruleId);
+	}
+}
@@ -30,8 +30,10 @@ import org.eclipse.tractusx.sde.digitaltwins.entities.request.CreateSubModelRequ
 import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellDescriptorRequest;
 import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellLookupRequest;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponseList;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellLookupResponse;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelListResponse;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.ShellDescriptorDiff.Change;
 import org.eclipse.tractusx.sde.digitaltwins.gateways.external.DigitalTwinsFeignClient;
 import org.eclipse.tractusx.sde.digitaltwins.gateways.external.IAccessRuleManagementApi;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,6 +42,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
@@ -58,11 +61,84 @@ public class DigitalTwinsFacilitator {
 
 	@Value(value = "${digital-twins.managed.thirdparty:false}")
 	private boolean managedThirdParty;
+
+	@Value(value = "${digital-twins.hostname:default}")
+	private String digitalTwinsHostname;
 	
 	private final DigitalTwinsUtility digitalTwinsUtility;
 	
 	private final IAccessRuleManagementApi iAccessRuleManagementApi;
 	
+	private final ShellDescriptorCache shellDescriptorCache;
+
+	private final ShellUpdateCounters shellUpdateCounters;
+
+	private final ShellDescriptorFetcher shellDescriptorFetcher;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	/**
+	 * Looks up the shell in the shell descriptor cache first, only shells
+	 * which are not cached are looked up in the registry.
+	 */
+	@SneakyThrows
+	public List<String> shellLookup(String processId, ShellLookupRequest request) {
+		if (!shellDescriptorCache.isEnabled(processId))
+			return shellLookup(request);
+
+		prewarmShellDescriptorCache();
+
+		List<String> shellIds = shellDescriptorCache.lookup(request);
+		if (shellIds == null)
+			shellIds = shellLookup(request);
+		return shellIds;
+	}
+
+	public ShellDescriptorResponse getShellDescriptor(String processId, String shellId) {
+		if (!shellDescriptorCache.isEnabled(processId))
+			return getShellDetailsById(shellId);
+
+		ShellDescriptorResponse shellDescriptor = shellDescriptorCache.get(shellId);
+		if (shellDescriptor == null) {
+			shellDescriptor = getShellDetailsById(shellId);
+			if (shellDescriptor != null)
+				shellDescriptorCache.put(processId, shellDescriptor);
+		}
+		return shellDescriptor;
+	}
+
+	/**
+	 * Drops the shell descriptors the process cached and logs the shell updates
+	 * of the process.
+	 */
+	public void releaseProcess(String processId) {
+		shellDescriptorCache.release(processId);
+		shellUpdateCounters.release(processId);
+	}
+
+	private void prewarmShellDescriptorCache() {
+		int pageSize = shellDescriptorCache.claimPrewarm();
+		if (pageSize <= 0)
+			return;
+
+		int count = 0;
+		String cursor = null;
+		try {
+			do {
+				ShellDescriptorResponseList page = digitalTwinsFeignClient
+						.getShellDescriptors(pageSize, cursor, manufacturerId).getBody();
+				if (page == null || page.getResult() == null)
+					break;
+				page.getResult().forEach(shellDescriptor -> shellDescriptorCache.put(null, shellDescriptor));
+				count += page.getResult().size();
+				cursor = page.getPagingMetadata() != null ? page.getPagingMetadata().getCursor() : null;
+			} while (StringUtils.isNotBlank(cursor) && !shellDescriptorCache.isFull());
+			log.info("Shell descriptor cache pre-warmed with " + count + " shell descriptors");
+		} catch (Exception e) {
+			log.warn("Unable to pre-warm shell descriptor cache after " + count + " shell descriptors, "
+					+ e.getMessage());
+		}
+	}
 
 	@SneakyThrows
 	public List<String> shellLookup(ShellLookupRequest request) throws ServiceException {
@@ -100,6 +176,7 @@ public class DigitalTwinsFacilitator {
 			ResponseEntity<Void> response = digitalTwinsFeignClient
 					.deleteShell(digitalTwinsUtility.encodeValueAsBase64Utf8(shellId));
 
+			shellDescriptorCache.evict(shellId);
 			if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
 				deleteResponse = "Asset identifier" + shellId + "deleted successfully";
 			}
@@ -116,14 +193,12 @@ public class DigitalTwinsFacilitator {
 		return deleteResponse;
 	}
 
-	@SneakyThrows
 	public List<ShellDescriptorResponse> getShellDescriptorsWithSubmodelDetails(List<String> shellIds) {
-
-		List<ShellDescriptorResponse> items = new ArrayList<>();
-		for (String shellId : shellIds) {
-			items.add(getShellDetailsById(shellId));
-		}
-		return items;
+		return shellDescriptorFetcher.fetch(digitalTwinsHostname, shellIds,
+				shellId -> digitalTwinsFeignClient
+						.getShellDescriptorByShellId(digitalTwinsUtility.encodeValueAsBase64Utf8(shellId),
+								manufacturerId, shellDescriptorFetcher.getCallOptions())
+						.getBody());
 	}
 
 	public ShellDescriptorResponse getShellDetailsById(String shellId) {
@@ -135,6 +210,7 @@ public class DigitalTwinsFacilitator {
 
 	@SneakyThrows
 	public void deleteSubmodelfromShellById(String shellId, String subModelId) {
+		shellDescriptorCache.evict(shellId);
 		try {
 			digitalTwinsFeignClient.deleteSubmodelfromShellById(digitalTwinsUtility.encodeValueAsBase64Utf8(shellId),
 					digitalTwinsUtility.encodeValueAsBase64Utf8(subModelId));
@@ -143,7 +219,7 @@ public class DigitalTwinsFacilitator {
 		}
 	}
 
-	public ShellDescriptorResponse createShellDescriptor(ShellDescriptorRequest request) {
+	public ShellDescriptorResponse createShellDescriptor(String processId, ShellDescriptorRequest request) {
 		ShellDescriptorResponse responseBody;
 		ResponseEntity<ShellDescriptorResponse> registerSubmodel = digitalTwinsFeignClient
 				.createShellDescriptor(request);
@@ -151,6 +227,8 @@ public class DigitalTwinsFacilitator {
 			responseBody = null;
 		} else {
 			responseBody = registerSubmodel.getBody();
+			if (responseBody != null && shellDescriptorCache.isEnabled(processId))
+				shellDescriptorCache.put(processId, responseBody);
 		}
 		return responseBody;
 	}
@@ -171,14 +249,12 @@ public class DigitalTwinsFacilitator {
 		iAccessRuleManagementApi.deleteAccessControlsRule(ruleId, edcBpn);
 	}
 
-	public void updateShellDetails(String shellId, ShellDescriptorRequest aasDescriptorRequest,
+	public void updateShellDetails(String processId, String shellId, ShellDescriptorRequest aasDescriptorRequest,
 			CreateSubModelRequest createSubModelRequest) {
 
-		ResponseEntity<ShellDescriptorResponse> shellDescriptorByShellId = digitalTwinsFeignClient
-				.getShellDescriptorByShellId(digitalTwinsUtility.encodeValueAsBase64Utf8(shellId), manufacturerId);
+		ShellDescriptorResponse shellDescriptorResponse = getShellDescriptor(processId, shellId);
 		
-		if(shellDescriptorByShellId.getStatusCode().is2xxSuccessful()) {
-			ShellDescriptorResponse shellDescriptorResponse = shellDescriptorByShellId.getBody();
+		if (shellDescriptorResponse != null) {
 			
 			if (aasDescriptorRequest.getSubmodelDescriptors() == null) {
 				List<CreateSubModelRequest> arrayList = new ArrayList<>();
@@ -189,37 +265,50 @@ public class DigitalTwinsFacilitator {
 				aasDescriptorRequest.setSubmodelDescriptors(arrayList);
 			}
 			
-			if (shellDescriptorResponse != null) {
+			if (shellDescriptorResponse.getSubmodelDescriptors() != null) {
 				
 				shellDescriptorResponse.getSubmodelDescriptors()
 				.stream()
 						.filter(ele -> createSubModelRequest == null || (createSubModelRequest != null
 								&& !ele.getIdShort().equals(createSubModelRequest.getIdShort())))
-				.forEach(e -> 
-					aasDescriptorRequest.getSubmodelDescriptors().add(CreateSubModelRequest.builder()
-							.id(e.getId())
-							.idShort(e.getIdShort())
-							.semanticId(e.getSemanticId())
-							.endpoints(e.getEndpoints())
-							.description(e.getDescription())
-							.build())
-				);
+				.forEach(e -> aasDescriptorRequest.getSubmodelDescriptors()
+						.add(ShellDescriptorDiff.toSubModelRequest(e)));
 			}
 			
-			if (StringUtils.isBlank(aasDescriptorRequest.getIdShort()) && (shellDescriptorResponse != null
-					&& StringUtils.isNotBlank(shellDescriptorResponse.getIdShort()))) {
+			if (StringUtils.isBlank(aasDescriptorRequest.getIdShort())
+					&& StringUtils.isNotBlank(shellDescriptorResponse.getIdShort())) {
 				aasDescriptorRequest.setIdShort(shellDescriptorResponse.getIdShort());
 			}
 				
 			aasDescriptorRequest.setId(shellId);
 			log.debug(aasDescriptorRequest.toJsonString());
 			
-			ResponseEntity<Void> updateShellDescriptorByShellId = digitalTwinsFeignClient
-					.updateShellDescriptorByShellId(digitalTwinsUtility.encodeValueAsBase64Utf8(shellId),
-							manufacturerId, aasDescriptorRequest);
-			if (updateShellDescriptorByShellId.getStatusCode().is2xxSuccessful()) {
-				log.debug("Shell update successfully : " + aasDescriptorRequest.toJsonString());
+			// only the part of the descriptor which changed is sent to the registry
+			Change change = ShellDescriptorDiff.compare(shellDescriptorResponse, aasDescriptorRequest,
+					createSubModelRequest);
+			shellUpdateCounters.count(processId, change);
+
+			String encodedShellId = digitalTwinsUtility.encodeValueAsBase64Utf8(shellId);
+			boolean isUpdated = switch (change) {
+			case NONE -> true;
+			case CREATE_SUBMODEL -> digitalTwinsFeignClient
+					.createSubModel(encodedShellId, createSubModelRequest, manufacturerId).getStatusCode()
+					.is2xxSuccessful();
+			case UPDATE_SUBMODEL -> digitalTwinsFeignClient.updateSubModel(encodedShellId,
+					digitalTwinsUtility.encodeValueAsBase64Utf8(createSubModelRequest.getId()),
+					createSubModelRequest, manufacturerId).getStatusCode().is2xxSuccessful();
+			case SHELL -> digitalTwinsFeignClient
+					.updateShellDescriptorByShellId(encodedShellId, manufacturerId, aasDescriptorRequest)
+					.getStatusCode().is2xxSuccessful();
+			};
+
+			if (isUpdated) {
+				log.debug("Shell update successfully (" + change + ") : " + aasDescriptorRequest.toJsonString());
+				if (shellDescriptorCache.isEnabled(processId))
+					shellDescriptorCache.put(processId,
+							mapper.convertValue(aasDescriptorRequest, ShellDescriptorResponse.class));
 			} else {
+				shellDescriptorCache.evict(shellId);
 				log.error("Uanble to update Shell  : " + aasDescriptorRequest.toJsonString());
 			}
 			
@@ -28,7 +28,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
@@ -135,49 +134,6 @@ public class DigitalTwinsUtility {
 				.build());
 		return endpoints;
 	}
-	
-	public String createAccessRuleMandatorySpecificAssetIds(Map<String, String> specificAssetIds) {
-		StringBuilder sb= new StringBuilder();
-		specificAssetIds.entrySet().stream().forEach(ele->{
-			 if(sb.isEmpty()) {
-				 sb.append(extractedMandatorySpecificAssetIds(ele));
-			 } else {
-				 sb.append(","+extractedMandatorySpecificAssetIds(ele) );
-			 }
-		});
-		return sb.toString();
-	}
-
-	private String extractedMandatorySpecificAssetIds(Entry<String, String> ele) {
-		return "{"
-		 		+ "\"attribute\":\""+ele.getKey()+"\","
-		 		+ "\"operator\":\"eq\","
-		 		+ "\"value\":\""+ele.getValue()+"\""
-		 		+ "}";
-	}
-	
-	public String createAccessRuleVisibleSpecificAssetIdNames(Map<String, String> specificAssetIds) {
-		
-		StringBuilder sb= new StringBuilder();
-		specificAssetIds.entrySet().stream().forEach(ele->{
-			 if(sb.isEmpty()) {
-				 sb.append(extractedVisibleSpecificAssetIdNames(ele));
-			 } else {
-				 sb.append(","+extractedVisibleSpecificAssetIdNames(ele));
-			 }
-		});
-		return sb.toString();
-	}
-
-	private String extractedVisibleSpecificAssetIdNames(Entry<String, String> ele) {
-		return "{"
-		 		+ "\"attribute\":\"name\","
-		 		+ "\"operator\":\"eq\","
-		 		+ "\"value\":\""+ele.getKey()+"\""
-		 		+ "}";
-	}
-	
-	
 
 	@SneakyThrows
 	public List<Object> getSpecificAssetIds(Map<String, String> specificAssetIds, PolicyModel policy) {
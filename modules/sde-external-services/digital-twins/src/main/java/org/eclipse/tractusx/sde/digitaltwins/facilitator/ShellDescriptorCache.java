@@ -0,0 +1,185 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.LocalIdentifier;
+import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellLookupRequest;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shell descriptors of the digital twin registry which were read, created or
+ * updated while processing rows, indexed by their specificAssetIds the same
+ * way as the registry lookup matches them. A twin which is found in the cache
+ * is not looked up again, a twin which is not found is still looked up in the
+ * registry.
+ * 
+ * The descriptors a process used are dropped when the process finished,
+ * unless {@code digital-twins.shell-cache.cross-job} keeps them for
+ * {@code digital-twins.shell-cache.ttl-ms} for the following processes. Only
+ * such a shared cache is pre-warmed with all shell descriptors of the
+ * registry, if {@code digital-twins.shell-cache.prewarm-page-size} is set.
+ */
+@Component
+public class ShellDescriptorCache {
+
+	@Value("${digital-twins.shell-cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${digital-twins.shell-cache.cross-job:false}")
+	private boolean crossJob;
+
+	@Value("${digital-twins.shell-cache.ttl-ms:600000}")
+	private long ttlMillis;
+
+	@Value("${digital-twins.shell-cache.max-entries:100000}")
+	private int maxEntries;
+
+	@Value("${digital-twins.shell-cache.prewarm-page-size:0}")
+	private int prewarmPageSize;
+
+	private final Map<String, CachedShell> shells = new ConcurrentHashMap<>();
+
+	private final Map<String, Set<String>> shellIdsByAssetId = new ConcurrentHashMap<>();
+
+	private final Map<String, Set<String>> shellIdsByProcess = new ConcurrentHashMap<>();
+
+	private final AtomicLong prewarmTime = new AtomicLong();
+
+	/**
+	 * Processes without an id, like the single twin lookups of the APIs, do not
+	 * use the cache.
+	 */
+	public boolean isEnabled(String processId) {
+		return enabled && processId != null;
+	}
+
+	/**
+	 * Returns the ids of the cached shells which have all specificAssetIds of
+	 * the request, or null if no cached shell has them.
+	 */
+	public List<String> lookup(ShellLookupRequest request) {
+		Set<String> shellIds = null;
+		for (LocalIdentifier assetId : request.getAssetIds()) {
+			Set<String> candidates = shellIdsByAssetId.get(assetIdKey(assetId.getKey(), assetId.getValue()));
+			if (candidates == null)
+				return null;
+			if (shellIds == null) {
+				shellIds = new HashSet<>(candidates);
+			} else {
+				shellIds.retainAll(candidates);
+			}
+		}
+		if (shellIds == null)
+			return null;
+
+		List<String> found = shellIds.stream().filter(shellId -> get(shellId) != null).toList();
+		return found.isEmpty() ? null : found;
+	}
+
+	public ShellDescriptorResponse get(String shellId) {
+		CachedShell cachedShell = shells.get(shellId);
+		if (cachedShell == null)
+			return null;
+		if (System.currentTimeMillis() - cachedShell.cachedAt() >= ttlMillis) {
+			evict(shellId);
+			return null;
+		}
+		return cachedShell.descriptor();
+	}
+
+	public synchronized void put(String processId, ShellDescriptorResponse descriptor) {
+		String shellId = descriptor.getIdentification();
+		if (shellId == null)
+			return;
+
+		evict(shellId);
+		if (shells.size() >= maxEntries)
+			return;
+
+		Set<String> assetIds = new HashSet<>();
+		if (descriptor.getSpecificAssetIds() != null) {
+			for (KeyValuePair specificAssetId : descriptor.getSpecificAssetIds())
+				assetIds.add(assetIdKey(specificAssetId.getName(), specificAssetId.getValue()));
+		}
+
+		shells.put(shellId, new CachedShell(descriptor, assetIds, System.currentTimeMillis()));
+		assetIds.forEach(assetId -> shellIdsByAssetId
+				.computeIfAbsent(assetId, key -> ConcurrentHashMap.newKeySet()).add(shellId));
+		if (processId != null && !crossJob)
+			shellIdsByProcess.computeIfAbsent(processId, key -> ConcurrentHashMap.newKeySet()).add(shellId);
+	}
+
+	public synchronized void evict(String shellId) {
+		CachedShell cachedShell = shells.remove(shellId);
+		if (cachedShell == null)
+			return;
+		cachedShell.assetIds().forEach(assetId -> shellIdsByAssetId.computeIfPresent(assetId, (key, shellIds) -> {
+			shellIds.remove(shellId);
+			return shellIds.isEmpty() ? null : shellIds;
+		}));
+	}
+
+	/**
+	 * Drops the descriptors the process used, other running processes read
+	 * them from the registry again.
+	 */
+	public void release(String processId) {
+		Set<String> shellIds = shellIdsByProcess.remove(processId);
+		if (shellIds != null)
+			shellIds.forEach(this::evict);
+	}
+
+	/**
+	 * Returns the page size to pre-warm the cache with if the caller should do
+	 * so now, 0 otherwise. The cache is pre-warmed once per ttl.
+	 */
+	public int claimPrewarm() {
+		if (!enabled || !crossJob || prewarmPageSize <= 0)
+			return 0;
+		long now = System.currentTimeMillis();
+		long lastPrewarm = prewarmTime.get();
+		if (now - lastPrewarm < ttlMillis || !prewarmTime.compareAndSet(lastPrewarm, now))
+			return 0;
+		return prewarmPageSize;
+	}
+
+	public boolean isFull() {
+		return shells.size() >= maxEntries;
+	}
+
+	private static String assetIdKey(String name, String value) {
+		return name + "\u0000" + value;
+	}
+
+	private record CachedShell(ShellDescriptorResponse descriptor, Set<String> assetIds, long cachedAt) {
+	}
+}
@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.request.CreateSubModelRequest;
+import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellDescriptorRequest;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compares the shell descriptor which is registered with the one a row
+ * wants, to find the smallest registry call which brings the registry to the
+ * wanted state.
+ */
+public final class ShellDescriptorDiff {
+
+	public enum Change {
+		/** registry is up to date */
+		NONE,
+		/** only the submodel descriptor of the row is new */
+		CREATE_SUBMODEL,
+		/** only the submodel descriptor of the row changed */
+		UPDATE_SUBMODEL,
+		/** attributes of the shell changed, the whole descriptor is replaced */
+		SHELL
+	}
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private ShellDescriptorDiff() {
+	}
+
+	/**
+	 * @param desiredSubmodel the submodel descriptor of the row, null if the
+	 *                        row does not change it
+	 */
+	public static Change compare(ShellDescriptorResponse current, ShellDescriptorRequest desired,
+			CreateSubModelRequest desiredSubmodel) {
+
+		if (!Objects.equals(current.getIdShort(), desired.getIdShort())
+				|| !Objects.equals(current.getGlobalAssetId(), desired.getGlobalAssetId())
+				|| !toJson(current.getDescription()).equals(toJson(desired.getDescription()))
+				|| !toSpecificAssetIds(current.getSpecificAssetIds())
+						.equals(toSpecificAssetIds(desired.getSpecificAssetIds())))
+			return Change.SHELL;
+
+		if (desiredSubmodel == null)
+			return Change.NONE;
+
+		SubModelResponse currentSubmodel = current.getSubmodelDescriptors() == null ? null
+				: current.getSubmodelDescriptors().stream()
+						.filter(submodel -> Objects.equals(submodel.getIdShort(), desiredSubmodel.getIdShort()))
+						.findFirst().orElse(null);
+
+		if (currentSubmodel == null)
+			return Change.CREATE_SUBMODEL;
+
+		// a submodel descriptor with a new id replaces the old one, as before
+		if (!Objects.equals(currentSubmodel.getId(), desiredSubmodel.getId()))
+			return Change.SHELL;
+
+		CreateSubModelRequest registeredSubmodel = toSubModelRequest(currentSubmodel);
+		return toJson(registeredSubmodel).equals(toJson(desiredSubmodel)) ? Change.NONE : Change.UPDATE_SUBMODEL;
+	}
+
+	public static CreateSubModelRequest toSubModelRequest(SubModelResponse submodel) {
+		return CreateSubModelRequest.builder().id(submodel.getId()).idShort(submodel.getIdShort())
+				.semanticId(submodel.getSemanticId()).endpoints(submodel.getEndpoints())
+				.description(submodel.getDescription()).build();
+	}
+
+	private static JsonNode toJson(CreateSubModelRequest submodel) {
+		ObjectNode jsonNode = MAPPER.valueToTree(submodel);
+		// the registry treats a missing description as an empty one
+		jsonNode.set("description", toJson(submodel.getDescription()));
+		return jsonNode;
+	}
+
+	private static Set<JsonNode> toSpecificAssetIds(List<?> specificAssetIds) {
+		Set<JsonNode> assetIds = new HashSet<>();
+		if (specificAssetIds != null) {
+			for (Object specificAssetId : specificAssetIds)
+				assetIds.add(MAPPER.valueToTree(MAPPER.convertValue(specificAssetId, KeyValuePair.class)));
+		}
+		return assetIds;
+	}
+
+	private static JsonNode toJson(List<?> values) {
+		return values == null ? MAPPER.createArrayNode() : MAPPER.valueToTree(values);
+	}
+}
@@ -0,0 +1,239 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponseList;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import feign.Request;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the shell descriptors of a list of shell ids concurrently, at most
+ * {@code digital-twins.descriptor-fetch.max-concurrent-per-registry} calls at
+ * a time against one registry, and returns them in the order of the shell
+ * ids. Each call is limited to {@code digital-twins.descriptor-fetch.timeout-ms}
+ * by the request options of {@link #getCallOptions()}.
+ * 
+ * For many shell ids of a registry which can list its shell descriptors, the
+ * descriptors are read page by page first, following the cursor of the
+ * registry, and only the ones not found on the pages are read one by one.
+ * Reading pages stops once a page lists no descriptor which was not listed
+ * before.
+ */
+@Slf4j
+@Component
+public class ShellDescriptorFetcher {
+
+	@Value("${digital-twins.descriptor-fetch.threads:32}")
+	private int threads;
+
+	@Value("${digital-twins.descriptor-fetch.max-concurrent-per-registry:8}")
+	private int maxConcurrentPerRegistry;
+
+	@Value("${digital-twins.descriptor-fetch.timeout-ms:30000}")
+	private long timeoutMillis;
+
+	@Value("${digital-twins.descriptor-fetch.page-fallback-threshold:100}")
+	private int pageFallbackThreshold;
+
+	@Value("${digital-twins.descriptor-fetch.page-size:100}")
+	private int pageSize;
+
+	@Value("${digital-twins.descriptor-fetch.max-pages:20}")
+	private int maxPages;
+
+	private final Map<String, Semaphore> registryPermits = new ConcurrentHashMap<>();
+
+	private ExecutorService executorService;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadCount = new AtomicInteger();
+		executorService = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "sde-dt-fetch-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void stop() {
+		executorService.shutdownNow();
+	}
+
+	public Request.Options getCallOptions() {
+		return new Request.Options(timeoutMillis, TimeUnit.MILLISECONDS, timeoutMillis, TimeUnit.MILLISECONDS, true);
+	}
+
+	public List<ShellDescriptorResponse> fetch(String registry, List<String> shellIds,
+			Function<String, ShellDescriptorResponse> readShell) {
+		return fetch(registry, shellIds, readShell, null);
+	}
+
+	/**
+	 * @param readPage reads one page of the shell descriptors of the registry,
+	 *                 by cursor, null for the first page, and limit, null if
+	 *                 the registry can not list them
+	 */
+	public List<ShellDescriptorResponse> fetch(String registry, List<String> shellIds,
+			Function<String, ShellDescriptorResponse> readShell,
+			BiFunction<String, Integer, ShellDescriptorResponseList> readPage) {
+
+		Map<String, ShellDescriptorResponse> found = new HashMap<>();
+		if (readPage != null && shellIds.size() >= pageFallbackThreshold)
+			found = readPages(registry, shellIds, readPage);
+
+		List<String> missingShellIds = new ArrayList<>();
+		for (String shellId : shellIds)
+			if (!found.containsKey(shellId))
+				missingShellIds.add(shellId);
+
+		List<ShellDescriptorResponse> fetched = fetchConcurrently(registry, missingShellIds, readShell);
+		if (found.isEmpty())
+			return fetched;
+
+		List<ShellDescriptorResponse> descriptors = new ArrayList<>(shellIds.size());
+		int fetchedIndex = 0;
+		for (String shellId : shellIds)
+			descriptors.add(found.containsKey(shellId) ? found.get(shellId) : fetched.get(fetchedIndex++));
+		return descriptors;
+	}
+
+	private Map<String, ShellDescriptorResponse> readPages(String registry, List<String> shellIds,
+			BiFunction<String, Integer, ShellDescriptorResponseList> readPage) {
+		Set<String> wanted = new HashSet<>(shellIds);
+		Set<String> listed = new HashSet<>();
+		Map<String, ShellDescriptorResponse> found = new HashMap<>();
+		try {
+			String cursor = null;
+			for (int page = 0; page < maxPages && found.size() < wanted.size(); page++) {
+				ShellDescriptorResponseList descriptors = readPage.apply(cursor, pageSize);
+				if (descriptors == null || descriptors.getResult() == null)
+					break;
+				boolean isNewPage = false;
+				for (ShellDescriptorResponse descriptor : descriptors.getResult()) {
+					isNewPage |= listed.add(descriptor.getIdentification());
+					if (wanted.contains(descriptor.getIdentification()))
+						found.put(descriptor.getIdentification(), descriptor);
+				}
+				// a registry which ignores the cursor lists the same page again
+				String nextCursor = descriptors.getPagingMetadata() != null
+						? descriptors.getPagingMetadata().getCursor()
+						: null;
+				if (!isNewPage || StringUtils.isBlank(nextCursor) || nextCursor.equals(cursor))
+					break;
+				cursor = nextCursor;
+			}
+		} catch (Exception e) {
+			log.debug("Unable to list shell descriptors of " + registry + ", reading them one by one, "
+					+ e.getMessage());
+		}
+		return found;
+	}
+
+	private List<ShellDescriptorResponse> fetchConcurrently(String registry, List<String> shellIds,
+			Function<String, ShellDescriptorResponse> readShell) {
+
+		if (shellIds.size() <= 1)
+			return shellIds.stream().map(readShell).toList();
+
+		Semaphore permits = registryPermits.computeIfAbsent(registry,
+				key -> new Semaphore(maxConcurrentPerRegistry));
+		List<CompletableFuture<ShellDescriptorResponse>> results = new ArrayList<>(shellIds.size());
+		for (int i = 0; i < shellIds.size(); i++)
+			results.add(new CompletableFuture<>());
+
+		AtomicInteger nextIndex = new AtomicInteger();
+		List<Future<?>> workers = new ArrayList<>();
+		try {
+			for (int i = 0; i < Math.min(shellIds.size(), maxConcurrentPerRegistry); i++)
+				workers.add(executorService.submit(() -> readShells(shellIds, readShell, permits, nextIndex, results)));
+
+			List<ShellDescriptorResponse> descriptors = new ArrayList<>(shellIds.size());
+			for (CompletableFuture<ShellDescriptorResponse> result : results)
+				descriptors.add(await(result));
+			return descriptors;
+		} finally {
+			workers.forEach(worker -> worker.cancel(true));
+		}
+	}
+
+	private void readShells(List<String> shellIds, Function<String, ShellDescriptorResponse> readShell,
+			Semaphore permits, AtomicInteger nextIndex, List<CompletableFuture<ShellDescriptorResponse>> results) {
+		int index;
+		while ((index = nextIndex.getAndIncrement()) < shellIds.size()) {
+			CompletableFuture<ShellDescriptorResponse> result = results.get(index);
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				// nobody reads the remaining shells any more
+				result.completeExceptionally(e);
+				while ((index = nextIndex.getAndIncrement()) < shellIds.size())
+					results.get(index).completeExceptionally(e);
+				return;
+			}
+			try {
+				result.complete(readShell.apply(shellIds.get(index)));
+			} catch (Exception e) {
+				result.completeExceptionally(e);
+			} finally {
+				permits.release();
+			}
+		}
+	}
+
+	@SneakyThrows
+	private static ShellDescriptorResponse await(CompletableFuture<ShellDescriptorResponse> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			throw e.getCause();
+		}
+	}
+}
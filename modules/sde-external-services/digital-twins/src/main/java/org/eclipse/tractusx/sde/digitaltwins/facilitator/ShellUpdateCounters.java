@@ -0,0 +1,94 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.ShellDescriptorDiff.Change;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the shell descriptor updates by the registry call they needed, in
+ * total and per running process. The totals are published as
+ * {@code sde.digital-twins.shell.updates} by change.
+ */
+@Slf4j
+@Component
+public class ShellUpdateCounters implements MeterBinder {
+
+	private final Map<Change, AtomicLong> totals = newCounters();
+
+	private final Map<String, Map<Change, AtomicLong>> processCounters = new ConcurrentHashMap<>();
+
+	public void count(String processId, Change change) {
+		totals.get(change).incrementAndGet();
+		if (processId != null)
+			processCounters.computeIfAbsent(processId, id -> newCounters()).get(change).incrementAndGet();
+	}
+
+	public long getSkipped() {
+		return totals.get(Change.NONE).get();
+	}
+
+	public long getPartial() {
+		return totals.get(Change.CREATE_SUBMODEL).get() + totals.get(Change.UPDATE_SUBMODEL).get();
+	}
+
+	public long getFull() {
+		return totals.get(Change.SHELL).get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		totals.forEach((change, counter) -> FunctionCounter
+				.builder("sde.digital-twins.shell.updates", counter, AtomicLong::get)
+				.description("Shell descriptor updates by the registry call they needed")
+				.tag("change", change.name().toLowerCase()).register(registry));
+	}
+
+	/**
+	 * Logs and forgets the counts of the process.
+	 */
+	public void release(String processId) {
+		Map<Change, AtomicLong> counters = processCounters.remove(processId);
+		if (counters != null)
+			log.info(String.format("Process %s shell descriptor updates: %s skipped, %s partial, %s full", processId,
+					counters.get(Change.NONE).get(),
+					counters.get(Change.CREATE_SUBMODEL).get() + counters.get(Change.UPDATE_SUBMODEL).get(),
+					counters.get(Change.SHELL).get()));
+	}
+
+	private static Map<Change, AtomicLong> newCounters() {
+		Map<Change, AtomicLong> counters = new EnumMap<>(Change.class);
+		for (Change change : Change.values())
+			counters.put(change, new AtomicLong());
+		return counters;
+	}
+}
@@ -27,6 +27,7 @@ import org.eclipse.tractusx.sde.common.model.KeycloakJWTTokenResponse;
 import org.eclipse.tractusx.sde.digitaltwins.entities.request.CreateSubModelRequest;
 import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellDescriptorRequest;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponseList;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellLookupResponse;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelListResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -41,6 +42,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import feign.Request;
+
 @FeignClient(value = "DigitalTwinsFeignClient", url = "${digital-twins.hostname:default}", configuration = DigitalTwinsFeignClientConfiguration.class)
 public interface DigitalTwinsFeignClient {
 
@@ -50,10 +53,18 @@ public interface DigitalTwinsFeignClient {
 	@PostMapping(path = "${digital-twins.registry.uri:/api/v3}/shell-descriptors")
 	ResponseEntity<ShellDescriptorResponse> createShellDescriptor(@RequestBody ShellDescriptorRequest request);
 
+	@GetMapping(path = "${digital-twins.registry.uri:/api/v3}/shell-descriptors")
+	ResponseEntity<ShellDescriptorResponseList> getShellDescriptors(@RequestParam("limit") Integer limit,
+			@RequestParam(value = "cursor", required = false) String cursor, @RequestHeader("Edc-Bpn") String edcBpn);
+
 	@GetMapping(path = "${digital-twins.registry.uri:/api/v3}/shell-descriptors/{aasIdentifier}")
 	ResponseEntity<ShellDescriptorResponse> getShellDescriptorByShellId(@PathVariable("aasIdentifier") String shellId,
 			@RequestHeader("Edc-Bpn") String edcBpn);
 
+	@GetMapping(path = "${digital-twins.registry.uri:/api/v3}/shell-descriptors/{aasIdentifier}")
+	ResponseEntity<ShellDescriptorResponse> getShellDescriptorByShellId(@PathVariable("aasIdentifier") String shellId,
+			@RequestHeader("Edc-Bpn") String edcBpn, Request.Options options);
+
 	@PutMapping(path = "${digital-twins.registry.uri:/api/v3}/shell-descriptors/{aasIdentifier}")
 	ResponseEntity<Void> updateShellDescriptorByShellId(@PathVariable("aasIdentifier") String shellId,
 			@RequestHeader("Edc-Bpn") String edcBpn, @RequestBody ShellDescriptorRequest request);
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.digitaltwins.gateways.external;
 
 import java.net.URI;
 
+import org.eclipse.tractusx.sde.common.utils.AccessTokenManager;
 import org.eclipse.tractusx.sde.common.utils.TokenUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -63,8 +64,9 @@ class DigitalTwinsFeignClientConfigurationInterceptor implements RequestIntercep
 
 	@Autowired
 	private TokenUtility tokenUtilityForDigital;
-	
-	private String accessTokenForDigital;
+
+	@Autowired
+	private AccessTokenManager accessTokenManager;
 	
 	@Override
 	public void apply(RequestTemplate template) {
@@ -74,16 +76,13 @@ class DigitalTwinsFeignClientConfigurationInterceptor implements RequestIntercep
 
 	@SneakyThrows
 	public String getTokenForDigital() {
-		if (accessTokenForDigital != null && tokenUtilityForDigital.isTokenValid(accessTokenForDigital)) {
-			return "Bearer " + accessTokenForDigital;
-		}
-	
-		if(dDTRManagedThirdparty) {
-			accessTokenForDigital = tokenUtilityForDigital.getToken(digitalAppTokenURI, digitalGrantType, digitalAppClientId, digitalAppClientSecret, digitalTwinsScope);
-		}else {
-			accessTokenForDigital = tokenUtilityForDigital.getToken(digitalAppTokenURI, digitalGrantType, digitalAppClientId, digitalAppClientSecret);
-		}
-		return "Bearer " + accessTokenForDigital;
+		return "Bearer " + accessTokenManager.getToken("digital-twins", () -> {
+			if (dDTRManagedThirdparty)
+				return tokenUtilityForDigital.getToken(digitalAppTokenURI, digitalGrantType, digitalAppClientId,
+						digitalAppClientSecret, digitalTwinsScope);
+			return tokenUtilityForDigital.getToken(digitalAppTokenURI, digitalGrantType, digitalAppClientId,
+					digitalAppClientSecret);
+		});
 	}
 
 }
@@ -31,6 +31,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import feign.Request;
+
 @FeignClient(value = "EDCDigitalTwinProxyForLookUp", url = "placeholder")
 public interface EDCDigitalTwinProxyForLookUp {
 
@@ -38,10 +40,18 @@ public interface EDCDigitalTwinProxyForLookUp {
 	ShellDescriptorResponseList getAllShell(URI url, @RequestParam("page") Integer page,
 			@RequestParam("pageSize") Integer pageSize, @RequestHeader Map<String, String> header);
 
+	@GetMapping(path = "/shell-descriptors")
+	ShellDescriptorResponseList getShellDescriptors(URI url, @RequestParam("limit") Integer limit,
+			@RequestParam(value = "cursor", required = false) String cursor, @RequestHeader Map<String, String> header);
+
 	@GetMapping(path = "/shell-descriptors/{aasIdentifier}")
 	String getShellDescriptorByShellId(URI url, @PathVariable("aasIdentifier") String shellId,
 			@RequestHeader Map<String, String> header);
 
+	@GetMapping(path = "/shell-descriptors/{aasIdentifier}")
+	String getShellDescriptorByShellId(URI url, @PathVariable("aasIdentifier") String shellId,
+			@RequestHeader Map<String, String> header, Request.Options options);
+
 	@GetMapping(path = "/lookup/shells")
 	String shellLookup(URI url, @RequestParam("assetIds") List<String> assetIds,
 			@RequestHeader Map<String, String> header);
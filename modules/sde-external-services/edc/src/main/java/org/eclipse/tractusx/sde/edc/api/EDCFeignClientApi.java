@@ -62,6 +62,9 @@ public interface EDCFeignClientApi {
 	@PutMapping("${edc.managementpath.apiversion:/v2}/policydefinitions/{id}")
 	public void updatePolicy(@PathVariable("id") String policyUUId, @RequestBody JsonNode requestBody);
 
+	@PostMapping("${edc.managementpath.apiversion:/v2}/policydefinitions/request")
+	public JsonNode getPolicyDefinitions(@RequestBody ObjectNode requestBody);
+
 	
 	//Contract defination
 	@PostMapping("${edc.managementpath.apiversion:/v2}/contractdefinitions")
@@ -74,6 +77,9 @@ public interface EDCFeignClientApi {
 	@GetMapping("${edc.managementpath.apiversion:/v2}/contractdefinitions/{id}")
 	public JsonNode getContractDefination(@PathVariable("id") String id);
 
+	@PostMapping("${edc.managementpath.apiversion:/v2}/contractdefinitions/request")
+	public JsonNode getContractDefinitions(@RequestBody ObjectNode requestBody);
+
 
 	@DeleteMapping(path = "${edc.managementpath.apiversion:/v2}/contractdefinitions/{id}")
 	public ResponseEntity<Object> deleteContractDefinition(@PathVariable("id") String contractdefinitionsId);
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.edc.facilitator;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.tractusx.sde.common.constants.SubmoduleCommonColumnsConstant;
 import org.eclipse.tractusx.sde.common.entities.PolicyModel;
@@ -30,6 +31,7 @@ import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.Contract
 import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequestFactory;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyConstraintBuilderService;
 import org.eclipse.tractusx.sde.edc.gateways.external.EDCGateway;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCProviderStateIndex;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -43,61 +45,81 @@ public class CreateEDCAssetFacilator extends AbstractEDCStepsHelper {
 	private final EDCGateway edcGateway;
 	private final ContractDefinitionRequestFactory contractFactory;
 	private final PolicyConstraintBuilderService policyConstraintBuilderService;
+	private final EDCProvisioningPipeline edcProvisioningPipeline;
+	private final EDCProviderStateIndex edcProviderStateIndex;
 
 	public Map<String, String> createEDCAsset(AssetEntryRequest assetEntryRequest, PolicyModel policy) {
+		return provisionEDCAsset(assetEntryRequest, policy, false);
+	}
 
-		Map<String, String> output = new HashMap<>();
+	public Map<String, String> updateEDCAsset(AssetEntryRequest assetEntryRequest, PolicyModel policy) {
+		return provisionEDCAsset(assetEntryRequest, policy, true);
+	}
 
-		edcGateway.createAsset(assetEntryRequest);
+	// the asset and both policy definitions are independent, the contract
+	// definition is submitted once all three are done
+	private Map<String, String> provisionEDCAsset(AssetEntryRequest assetEntryRequest, PolicyModel policy,
+			boolean update) {
+
+		Map<String, String> output = new HashMap<>();
 
 		String assetId = assetEntryRequest.getId();
 
 		JsonNode accessPolicyDefinitionRequest = policyConstraintBuilderService.getAccessPolicy(assetId, policy);
 		String accessPolicyUUId = accessPolicyDefinitionRequest.get("@id").asText();
-		edcGateway.createPolicyDefinition(accessPolicyDefinitionRequest);
 
 		JsonNode usagePolicyDefinitionRequest = policyConstraintBuilderService.getUsagePolicy(assetId, policy);
 		String usagePolicyUUId = usagePolicyDefinitionRequest.get("@id").asText();
-		edcGateway.createPolicyDefinition(usagePolicyDefinitionRequest);
 
 		ContractDefinitionRequest contractDefinitionRequest = contractFactory.getContractDefinitionRequest(assetId,
 				accessPolicyUUId, usagePolicyUUId);
 
-		edcGateway.createContractDefinition(contractDefinitionRequest);
+		CompletableFuture<Void> asset = edcProvisioningPipeline.submit(() -> {
+			if (update)
+				edcGateway.updateAsset(assetEntryRequest);
+			else
+				edcGateway.createAsset(assetEntryRequest);
+		});
+		CompletableFuture<Void> accessPolicy = edcProvisioningPipeline
+				.submit(() -> savePolicyDefinition(accessPolicyUUId, accessPolicyDefinitionRequest, update));
+		CompletableFuture<Void> usagePolicy = edcProvisioningPipeline
+				.submit(() -> savePolicyDefinition(usagePolicyUUId, usagePolicyDefinitionRequest, update));
+
+		CompletableFuture<Void> contractDefinition = CompletableFuture.allOf(asset, accessPolicy, usagePolicy)
+				.thenCompose(dependencies -> edcProvisioningPipeline
+						.submit(() -> saveContractDefinition(contractDefinitionRequest, update)));
+
+		EDCProvisioningPipeline.await(contractDefinition);
 
 		output.put(SubmoduleCommonColumnsConstant.ASSET_ID, assetId);
 		output.put(SubmoduleCommonColumnsConstant.ACCESS_POLICY_ID, accessPolicyUUId);
 		output.put(SubmoduleCommonColumnsConstant.USAGE_POLICY_ID, usagePolicyUUId);
 		output.put(SubmoduleCommonColumnsConstant.CONTRACT_DEFINATION_ID, contractDefinitionRequest.getId());
 		return output;
-
 	}
 
-	public Map<String, String> updateEDCAsset(AssetEntryRequest assetEntryRequest, PolicyModel policy) {
-
-		Map<String, String> output = new HashMap<>();
-
-		edcGateway.updateAsset(assetEntryRequest);
-
-		String assetId = assetEntryRequest.getId();
-
-		JsonNode accessPolicyDefinitionRequest = policyConstraintBuilderService.getAccessPolicy(assetId, policy);
-		String accessPolicyUUId = accessPolicyDefinitionRequest.get("@id").asText();
-		edcGateway.updatePolicyDefinition(accessPolicyUUId, accessPolicyDefinitionRequest);
-
-		JsonNode usagePolicyDefinitionRequest = policyConstraintBuilderService.getUsagePolicy(assetId, policy);
-		String usagePolicyUUId = usagePolicyDefinitionRequest.get("@id").asText();
-		edcGateway.updatePolicyDefinition(usagePolicyUUId, usagePolicyDefinitionRequest);
-
-		ContractDefinitionRequest contractDefinitionRequest = contractFactory.getContractDefinitionRequest(assetId,
-				accessPolicyUUId, usagePolicyUUId);
+	// the index of the provider state decides between create and update, a
+	// definition which the SDE already wrote with the same content is kept
+	private void savePolicyDefinition(String policyUUId, JsonNode policyDefinitionRequest, boolean update) {
+		if (edcProviderStateIndex.isPolicyDefinitionUpToDate(policyUUId, policyDefinitionRequest))
+			return;
+		if (isExisting(edcProviderStateIndex.containsPolicyDefinition(policyUUId), update))
+			edcGateway.updatePolicyDefinition(policyUUId, policyDefinitionRequest);
+		else
+			edcGateway.createPolicyDefinition(policyDefinitionRequest);
+	}
 
-		edcGateway.updateContractDefinition(contractDefinitionRequest);
+	private void saveContractDefinition(ContractDefinitionRequest contractDefinitionRequest, boolean update) {
+		String contractDefinitionId = contractDefinitionRequest.getId();
+		if (edcProviderStateIndex.isContractDefinitionUpToDate(contractDefinitionId, contractDefinitionRequest))
+			return;
+		if (isExisting(edcProviderStateIndex.containsContractDefinition(contractDefinitionId), update))
+			edcGateway.updateContractDefinition(contractDefinitionRequest);
+		else
+			edcGateway.createContractDefinition(contractDefinitionRequest);
+	}
 
-		output.put(SubmoduleCommonColumnsConstant.ASSET_ID, assetId);
-		output.put(SubmoduleCommonColumnsConstant.ACCESS_POLICY_ID, accessPolicyUUId);
-		output.put(SubmoduleCommonColumnsConstant.USAGE_POLICY_ID, usagePolicyUUId);
-		output.put(SubmoduleCommonColumnsConstant.CONTRACT_DEFINATION_ID, contractDefinitionRequest.getId());
-		return output;
+	private static boolean isExisting(Boolean indexed, boolean update) {
+		return indexed != null ? indexed : update;
 	}
 }
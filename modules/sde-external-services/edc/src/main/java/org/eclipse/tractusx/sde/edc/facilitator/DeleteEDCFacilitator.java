@@ -26,6 +26,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
 import org.eclipse.tractusx.sde.edc.api.EDCFeignClientApi;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCProviderStateIndex;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -37,8 +38,11 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 
 	private final EDCFeignClientApi eDCFeignClientApi;
 
-	public DeleteEDCFacilitator(EDCFeignClientApi eDCFeignClientApi) {
+	private final EDCProviderStateIndex edcProviderStateIndex;
+
+	public DeleteEDCFacilitator(EDCFeignClientApi eDCFeignClientApi, EDCProviderStateIndex edcProviderStateIndex) {
 		this.eDCFeignClientApi = eDCFeignClientApi;
+		this.edcProviderStateIndex = edcProviderStateIndex;
 	}
 
 	@SneakyThrows
@@ -64,6 +68,7 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 		} catch (Exception e) {
 			parseExceptionMessage(e);
 		}
+		edcProviderStateIndex.contractDefinitionDeleted(contractDefinationId);
 
 	}
 
@@ -74,6 +79,7 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 		} catch (Exception e) {
 			parseExceptionMessage(e);
 		}
+		edcProviderStateIndex.policyDefinitionDeleted(accessPolicyId);
 
 	}
 
@@ -85,6 +91,7 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 		} catch (Exception e) {
 			parseExceptionMessage(e);
 		}
+		edcProviderStateIndex.policyDefinitionDeleted(usagePolicyId);
 
 	}
 
@@ -95,6 +102,7 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 		} catch (Exception e) {
 			parseExceptionMessage(e);
 		}
+		edcProviderStateIndex.assetDeleted(assetId);
 
 	}
 
@@ -0,0 +1,91 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.edc.facilitator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the management API calls which provision the EDC offer of a row. The
+ * calls of a row which do not depend on each other are submitted together and
+ * the calls of all rows share a pool of {@code edc.provisioning.max-in-flight}
+ * threads, which is the number of calls the connector has to serve at a time.
+ * Further calls wait in the queue of the pool.
+ */
+@Slf4j
+@Component
+public class EDCProvisioningPipeline {
+
+	@Value("${edc.provisioning.max-in-flight:8}")
+	private int maxInFlight;
+
+	private ExecutorService callPool;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadCount = new AtomicInteger();
+		callPool = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+			Thread thread = new Thread(runnable, "sde-edc-provision-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		log.info(String.format("EDC provisioning pipeline started with %s calls in flight", maxInFlight));
+	}
+
+	@PreDestroy
+	public void stop() {
+		callPool.shutdownNow();
+	}
+
+	public <T> CompletableFuture<T> submit(Supplier<T> call) {
+		return CompletableFuture.supplyAsync(call, callPool);
+	}
+
+	public CompletableFuture<Void> submit(Runnable call) {
+		return CompletableFuture.runAsync(call, callPool);
+	}
+
+	/**
+	 * Waits for the call and rethrows the exception of a failed call as it was
+	 * thrown by the gateway or facilitator.
+	 */
+	@SneakyThrows
+	public static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw e.getCause() == null ? e : e.getCause();
+		}
+	}
+}
@@ -21,6 +21,8 @@
 package org.eclipse.tractusx.sde.edc.facilitator;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +41,7 @@ import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
@@ -50,6 +53,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EDRRequestHelper extends AbstractEDCStepsHelper {
 
+	private static final int EDR_ENTRIES_PER_ASSET = 10;
+
 	private final EDRApiProxy edrApiProxy;
 	private final ContractMapper contractMapper;
 	private final ObjectMapper mapper = new ObjectMapper();
@@ -104,6 +109,47 @@ public class EDRRequestHelper extends AbstractEDCStepsHelper {
 		return edrApiProxy.getEDRCachedByAsset(new URI(consumerHostWithDataPath), requestBody, getAuthHeader());
 	}
 
+	/**
+	 * Same query as {@link #getEDRCachedByAsset(String)} for several assets at
+	 * once, the caller groups the EDR entries by their asset id. The result is
+	 * read page by page, so that an asset with many EDR entries does not crowd
+	 * out the others, and like the query of a single asset it keeps at most
+	 * {@value #EDR_ENTRIES_PER_ASSET} entries of every asset.
+	 */
+	@SneakyThrows
+	public List<EDRCachedResponse> getEDRCachedByAssets(Collection<String> assetIds) {
+		ObjectNode filterExpression = mapper.createObjectNode();
+		filterExpression.put("operandLeft", "assetId");
+		filterExpression.put("operator", "in");
+		ArrayNode operandRight = filterExpression.putArray("operandRight");
+		assetIds.forEach(operandRight::add);
+
+		int limit = EDR_ENTRIES_PER_ASSET * assetIds.size();
+		ObjectNode requestBody = mapper.createObjectNode();
+		requestBody.putObject("@context").put("@vocab", "https://w3id.org/edc/v0.0.1/ns/");
+		requestBody.put("@type", "QuerySpec");
+		requestBody.put("limit", limit);
+		requestBody.put("sortOrder", "DESC");
+		requestBody.put("sortField", "assetId");
+		requestBody.putArray("filterExpression").add(filterExpression);
+
+		List<EDRCachedResponse> edrs = new ArrayList<>();
+		Map<String, Integer> entriesPerAsset = new HashMap<>();
+		int offset = 0;
+		List<EDRCachedResponse> page;
+		do {
+			requestBody.put("offset", offset);
+			page = edrApiProxy.getEDRCachedByAsset(new URI(consumerHostWithDataPath), requestBody, getAuthHeader());
+			for (EDRCachedResponse edr : page) {
+				if (entriesPerAsset.merge(String.valueOf(edr.getAssetId()), 1, Integer::sum) <= EDR_ENTRIES_PER_ASSET)
+					edrs.add(edr);
+			}
+			offset += limit;
+		} while (page.size() >= limit && edrs.size() < limit);
+
+		return edrs;
+	}
+
 	@SneakyThrows
 	public EDRCachedByIdResponse getEDRCachedByTransferProcessId(String transferProcessId) {
 		return edrApiProxy.getEDRCachedByTransferProcessId(new URI(consumerHostWithDataPath), transferProcessId, true,
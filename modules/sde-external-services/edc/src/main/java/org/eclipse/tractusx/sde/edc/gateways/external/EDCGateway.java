@@ -41,7 +41,12 @@ public class EDCGateway {
 
 	private final EDCFeignClientApi edcFeignClientApi;
 
+	private final EDCProviderStateIndex edcProviderStateIndex;
+
 	public boolean assetExistsLookup(String id) {
+		Boolean indexed = edcProviderStateIndex.containsAsset(id);
+		if (indexed != null)
+			return indexed;
 		try {
 			edcFeignClientApi.getAsset(id);
 		} catch (FeignException e) {
@@ -80,9 +85,12 @@ public class EDCGateway {
 
 	public String createAsset(AssetEntryRequest request) {
 		try {
-			return edcFeignClientApi.createAsset(request);
+			String response = edcFeignClientApi.createAsset(request);
+			edcProviderStateIndex.assetSaved(request.getId());
+			return response;
 		} catch (FeignException e) {
 			if (e.status() == HttpStatus.CONFLICT.value()) {
+				edcProviderStateIndex.assetSaved(request.getId());
 				throw new EDCGatewayException("Asset already exists");
 			}
 			throw new EDCGatewayException(e.getMessage());
@@ -92,6 +100,7 @@ public class EDCGateway {
 	public void updateAsset(AssetEntryRequest request) {
 		try {
 			edcFeignClientApi.updateAsset(request);
+			edcProviderStateIndex.assetSaved(request.getId());
 		} catch (FeignException e) {
 			if (e.status() == HttpStatus.CONFLICT.value()) {
 				throw new EDCGatewayException("Asset already exists");
@@ -103,7 +112,9 @@ public class EDCGateway {
 	@SneakyThrows
 	public JsonNode createPolicyDefinition(JsonNode request) {
 		try {
-			return edcFeignClientApi.createPolicy(request);
+			JsonNode response = edcFeignClientApi.createPolicy(request);
+			edcProviderStateIndex.policyDefinitionSaved(request.get("@id").asText(), request);
+			return response;
 		} catch (FeignException e) {
 			throw new EDCGatewayException(e.getMessage());
 		}
@@ -113,6 +124,7 @@ public class EDCGateway {
 	public void updatePolicyDefinition(String policyUUId, JsonNode request) {
 		try {
 			edcFeignClientApi.updatePolicy(policyUUId, request);
+			edcProviderStateIndex.policyDefinitionSaved(policyUUId, request);
 		} catch (FeignException e) {
 			throw new EDCGatewayException(e.getMessage());
 		}
@@ -120,7 +132,9 @@ public class EDCGateway {
 
 	public String createContractDefinition(ContractDefinitionRequest request) {
 		try {
-			return edcFeignClientApi.createContractDefination(request);
+			String response = edcFeignClientApi.createContractDefination(request);
+			edcProviderStateIndex.contractDefinitionSaved(request.getId(), request);
+			return response;
 		} catch (FeignException e) {
 			throw new EDCGatewayException(e.getMessage());
 		}
@@ -129,6 +143,7 @@ public class EDCGateway {
 	public void updateContractDefinition(ContractDefinitionRequest request) {
 		try {
 			edcFeignClientApi.updateContractDefination(request);
+			edcProviderStateIndex.contractDefinitionSaved(request.getId(), request);
 		} catch (FeignException e) {
 			throw new EDCGatewayException(e.getMessage());
 		}
@@ -0,0 +1,274 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.edc.gateways.external;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.sde.edc.api.EDCFeignClientApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local copy of the provider side EDC state which the SDE manages: the ids of
+ * the assets, the policy definitions and the contract definitions. It is
+ * loaded with one paged {@code request} query per kind when a job starts and
+ * kept up to date by every create, update and delete of the SDE, so the rows
+ * of the job look up the existence of an offer in memory.
+ *
+ * For the policy and contract definitions which the SDE wrote itself the hash
+ * of their content is kept as well, writing the same content again is
+ * skipped. Definitions which were only loaded from the connector have no
+ * known content and are always written.
+ *
+ * A load pages through the whole state of the connector, so a job only
+ * loads it if it has at least {@code edc.provider.index.min-rows} rows and
+ * the state was not loaded within {@code edc.provider.index.ttl-ms}. Until the
+ * first load succeeded, when the last load failed or once the state is older
+ * than the ttl, the index is not used and the lookups go to the connector.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EDCProviderStateIndex {
+
+	private static final String UNKNOWN_CONTENT = "";
+
+	private final EDCFeignClientApi edcFeignClientApi;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@Value("${edc.provider.index.page-size:500}")
+	private int pageSize;
+
+	@Value("${edc.provider.index.ttl-ms:600000}")
+	private long ttlMillis;
+
+	@Value("${edc.provider.index.min-rows:50}")
+	private int minRows;
+
+	private volatile State state;
+
+	private volatile long loadTime;
+
+	// changes recorded while a load is running, applied to the loaded state
+	private List<Consumer<State>> changesDuringLoad;
+
+	private boolean loading;
+
+	/**
+	 * Loads the state for a job with the number of rows, null if the number is
+	 * not known yet, unless the job is too small or the state is still fresh.
+	 */
+	public void refreshIfStale(Integer numberOfRows) {
+		if (numberOfRows != null && numberOfRows < minRows)
+			return;
+		if (getState() != null)
+			return;
+		refresh();
+	}
+
+	/**
+	 * Loads the state from the connector. A job which starts while another job
+	 * loads the state waits for that load instead of starting its own.
+	 */
+	public void refresh() {
+		synchronized (this) {
+			if (loading) {
+				awaitLoad();
+				return;
+			}
+			loading = true;
+			changesDuringLoad = new ArrayList<>();
+		}
+
+		State loaded = null;
+		long startTime = System.currentTimeMillis();
+		try {
+			// the content written by the SDE is kept for the definitions which still exist
+			State previous = state == null ? new State() : state;
+			State current = new State();
+			loadIds(edcFeignClientApi::getAssetByType, current.assetIds::add);
+			loadIds(edcFeignClientApi::getPolicyDefinitions, id -> current.policyHashes.put(id,
+					previous.policyHashes.getOrDefault(id, UNKNOWN_CONTENT)));
+			loadIds(edcFeignClientApi::getContractDefinitions, id -> current.contractDefinitionHashes.put(id,
+					previous.contractDefinitionHashes.getOrDefault(id, UNKNOWN_CONTENT)));
+			loaded = current;
+			log.info(String.format("Loaded EDC provider state with %s assets, %s policy definitions, %s contract definitions",
+					loaded.assetIds.size(), loaded.policyHashes.size(), loaded.contractDefinitionHashes.size()));
+		} catch (Exception e) {
+			log.warn("Unable to load the EDC provider state, looking up the connector instead: " + e.getMessage());
+			loaded = null;
+		} finally {
+			synchronized (this) {
+				if (loaded != null) {
+					for (Consumer<State> change : changesDuringLoad)
+						change.accept(loaded);
+				}
+				state = loaded;
+				loadTime = startTime;
+				changesDuringLoad = null;
+				loading = false;
+				notifyAll();
+			}
+		}
+	}
+
+	public Boolean containsAsset(String assetId) {
+		State current = getState();
+		return current == null ? null : current.assetIds.contains(assetId);
+	}
+
+	public Boolean containsPolicyDefinition(String policyId) {
+		State current = getState();
+		return current == null ? null : current.policyHashes.containsKey(policyId);
+	}
+
+	public Boolean containsContractDefinition(String contractDefinitionId) {
+		State current = getState();
+		return current == null ? null : current.contractDefinitionHashes.containsKey(contractDefinitionId);
+	}
+
+	public boolean isPolicyDefinitionUpToDate(String policyId, Object policyDefinition) {
+		State current = getState();
+		return current != null && isSameContent(current.policyHashes.get(policyId), policyDefinition);
+	}
+
+	public boolean isContractDefinitionUpToDate(String contractDefinitionId, Object contractDefinition) {
+		State current = getState();
+		return current != null
+				&& isSameContent(current.contractDefinitionHashes.get(contractDefinitionId), contractDefinition);
+	}
+
+	public void assetSaved(String assetId) {
+		record(assetId, current -> current.assetIds.add(assetId));
+	}
+
+	public void assetDeleted(String assetId) {
+		record(assetId, current -> current.assetIds.remove(assetId));
+	}
+
+	public void policyDefinitionSaved(String policyId, Object policyDefinition) {
+		String hash = contentHash(policyDefinition);
+		record(policyId, current -> current.policyHashes.put(policyId, hash));
+	}
+
+	public void policyDefinitionDeleted(String policyId) {
+		record(policyId, current -> current.policyHashes.remove(policyId));
+	}
+
+	public void contractDefinitionSaved(String contractDefinitionId, Object contractDefinition) {
+		String hash = contentHash(contractDefinition);
+		record(contractDefinitionId, current -> current.contractDefinitionHashes.put(contractDefinitionId, hash));
+	}
+
+	public void contractDefinitionDeleted(String contractDefinitionId) {
+		record(contractDefinitionId, current -> current.contractDefinitionHashes.remove(contractDefinitionId));
+	}
+
+	private State getState() {
+		State current = state;
+		return current != null && System.currentTimeMillis() - loadTime < ttlMillis ? current : null;
+	}
+
+	private synchronized void record(String id, Consumer<State> change) {
+		if (id == null)
+			return;
+		if (state != null)
+			change.accept(state);
+		if (changesDuringLoad != null)
+			changesDuringLoad.add(change);
+	}
+
+	private void awaitLoad() {
+		try {
+			while (loading)
+				wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void loadIds(Function<ObjectNode, JsonNode> query, Consumer<String> ids) {
+		int offset = 0;
+		while (true) {
+			JsonNode page = query.apply(querySpec(offset));
+			if (page == null || !page.isArray())
+				return;
+			page.forEach(entry -> {
+				if (entry.hasNonNull("@id"))
+					ids.accept(entry.get("@id").asText());
+			});
+			if (page.size() < pageSize)
+				return;
+			offset += pageSize;
+		}
+	}
+
+	private ObjectNode querySpec(int offset) {
+		ObjectNode requestBody = mapper.createObjectNode();
+		requestBody.putObject("@context").put("@vocab", "https://w3id.org/edc/v0.0.1/ns/");
+		requestBody.put("@type", "QuerySpec");
+		requestBody.put("offset", offset);
+		requestBody.put("limit", pageSize);
+		return requestBody;
+	}
+
+	private boolean isSameContent(String knownHash, Object content) {
+		return knownHash != null && !UNKNOWN_CONTENT.equals(knownHash) && knownHash.equals(contentHash(content));
+	}
+
+	private String contentHash(Object content) {
+		try {
+			byte[] json = mapper.writeValueAsString(content).getBytes(StandardCharsets.UTF_8);
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			return UNKNOWN_CONTENT;
+		}
+	}
+
+	private static class State {
+
+		private final Set<String> assetIds = ConcurrentHashMap.newKeySet();
+
+		private final Map<String, String> policyHashes = new ConcurrentHashMap<>();
+
+		private final Map<String, String> contractDefinitionHashes = new ConcurrentHashMap<>();
+	}
+}
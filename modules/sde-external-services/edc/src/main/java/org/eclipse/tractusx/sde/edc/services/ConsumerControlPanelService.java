@@ -23,15 +23,14 @@ package org.eclipse.tractusx.sde.edc.services;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -54,6 +53,7 @@ import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedResponse;
 import org.eclipse.tractusx.sde.edc.model.request.ConsumerRequest;
 import org.eclipse.tractusx.sde.edc.model.request.Offer;
 import org.eclipse.tractusx.sde.edc.model.request.QueryDataOfferRequest;
+import org.eclipse.tractusx.sde.edc.model.response.DataOfferQueryResult;
 import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
 import org.eclipse.tractusx.sde.edc.util.EDCAssetUrlCacheService;
 import org.eclipse.tractusx.sde.edc.util.UtilityFunctions;
@@ -82,11 +82,17 @@ public class ConsumerControlPanelService {
 	private final EDCAssetUrlCacheService edcAssetUrlCacheService;
 	private final ContractNegotiationService contractNegotiationService;
 	private final LookUpDTTwin lookUpDTTwin;
+	private final EDRReadinessTracker edrReadinessTracker;
+	private final DataOfferQueryEngine dataOfferQueryEngine;
 
 	public Set<QueryDataOfferModel> queryOnDataOffers(String manufacturerPartId, String searchBpnNumber,
 			String submodel, Integer offset, Integer limit) {
+		return queryDataOffers(manufacturerPartId, searchBpnNumber, submodel, offset, limit).getOffers();
+	}
+
+	public DataOfferQueryResult queryDataOffers(String manufacturerPartId, String searchBpnNumber, String submodel,
+			Integer offset, Integer limit) {
 
-		List<QueryDataOfferModel> queryOnDataOffers = new LinkedList<>();
 		List<String> bpnList = null;
 
 		// 1 find bpn if empty using BPN discovery
@@ -105,74 +111,70 @@ public class ConsumerControlPanelService {
 			bpnList = List.of(searchBpnNumber);
 		}
 
-		for (String bpnNumber : bpnList) {
-
-			// 2 fetch EDC connectors and DTR Assets from EDC connectors
-			List<QueryDataOfferModel> ddTROffers = edcAssetUrlCacheService.getDDTRUrl(bpnNumber);
-
-			// 3 lookup shell for PCF sub model
-			for (QueryDataOfferModel dtOffer : ddTROffers) {
-
-				EDRCachedByIdResponse edrToken = edcAssetUrlCacheService.verifyAndGetToken(bpnNumber, dtOffer);
-				if (edrToken != null) {
+		// 2 fetch EDC connectors and DTR Assets from EDC connectors and 3 lookup shell
+		// for PCF sub model, for all bpns and DTR assets at the same time
+		return dataOfferQueryEngine.query(bpnList, edcAssetUrlCacheService::getDDTRUrl,
+				(bpnNumber, dtOffer) -> lookUpTwin(dtOffer, manufacturerPartId, bpnNumber, submodel, offset, limit));
+	}
 
-					queryOnDataOffers.addAll(lookUpDTTwin.lookUpTwin(edrToken, dtOffer, manufacturerPartId, bpnNumber,
-							submodel, offset, limit));
+	@SneakyThrows
+	private List<QueryDataOfferModel> lookUpTwin(QueryDataOfferModel dtOffer, String manufacturerPartId,
+			String bpnNumber, String submodel, Integer offset, Integer limit) {
 
-				} else {
-					log.warn("EDR token is null, unable to look Up Digital Twin for :" + dtOffer.toString());
-				}
-			}
+		EDRCachedByIdResponse edrToken = edcAssetUrlCacheService.verifyAndGetToken(bpnNumber, dtOffer);
+		if (edrToken == null) {
+			log.warn("EDR token is null, unable to look Up Digital Twin for :" + dtOffer.toString());
+			throw new ServiceException("EDR token is null, unable to look up the digital twins");
 		}
-		return new HashSet<>(queryOnDataOffers);
-
+		return lookUpDTTwin.lookUpTwin(edrToken, dtOffer, manufacturerPartId, bpnNumber, submodel, offset, limit);
 	}
 
 	@Async
 	public void subscribeDataOffers(ConsumerRequest consumerRequest, String processId) {
 
 		HashMap<String, String> extensibleProperty = new HashMap<>();
-		AtomicReference<String> negotiateContractId = new AtomicReference<>();
-		AtomicReference<ContractNegotiationDto> checkContractNegotiationStatus = new AtomicReference<>();
 
 		ActionRequest action = policyConstraintBuilderService
 				.getUsagePoliciesConstraints(consumerRequest.getUsagePolicies());
 
-		consumerRequest.getOffers().parallelStream().forEach(offer -> {
-			try {
-				negotiateContractId.set(contractNegotiateManagement.negotiateContract(offer.getConnectorOfferUrl(),
-						offer.getConnectorId(), offer.getOfferId(), offer.getAssetId(), action, extensibleProperty));
-				int retry = 3;
-				int counter = 1;
-
-				do {
-					Thread.sleep(3000);
-					checkContractNegotiationStatus
-							.set(contractNegotiateManagement.checkContractNegotiationStatus(negotiateContractId.get()));
-					counter++;
-				} while (checkContractNegotiationStatus.get() != null
-						&& !checkContractNegotiationStatus.get().getState().equals("FINALIZED")
-						&& !checkContractNegotiationStatus.get().getState().equals("TERMINATED") && counter <= retry);
-
-			} catch (InterruptedException ie) {
-				log.error("Exception in subscribeDataOffers" + ie.getMessage());
-				Thread.currentThread().interrupt();
-			} catch (Exception e) {
-				log.error("Exception in subscribeDataOffers" + e.getMessage());
-			} finally {
-				ContractNegotiationInfoEntity contractNegotiationInfoEntity = ContractNegotiationInfoEntity.builder()
-						.id(UUID.randomUUID().toString()).processId(processId).connectorId(offer.getConnectorId())
-						.offerId(offer.getOfferId())
-						.contractNegotiationId(negotiateContractId != null ? negotiateContractId.get() : null)
-						.status(checkContractNegotiationStatus.get() != null
-								? checkContractNegotiationStatus.get().getState()
-								: "Failed:Exception")
-						.dateTime(LocalDateTime.now()).build();
-
-				contractNegotiationInfoRepository.save(contractNegotiationInfoEntity);
-			}
-		});
+		// the negotiations are initiated in parallel on the bounded worker threads of
+		// the EDR readiness tracker, which polls their states instead of a thread
+		// per offer
+		Executor workers = edrReadinessTracker.getWorkerExecutor();
+		consumerRequest.getOffers().forEach(offer -> CompletableFuture
+				.supplyAsync(() -> contractNegotiateManagement.negotiateContract(offer.getConnectorOfferUrl(),
+						offer.getConnectorId(), offer.getOfferId(), offer.getAssetId(), action, extensibleProperty),
+						workers)
+				.whenComplete((contractNegotiationId, error) -> {
+					if (error != null) {
+						log.error("Exception in subscribeDataOffers" + error.getMessage());
+						saveContractNegotiationInfo(processId, offer, null, null);
+						return;
+					}
+					edrReadinessTracker
+							.poll(() -> contractNegotiateManagement.checkContractNegotiationStatus(contractNegotiationId),
+									status -> status == null || "FINALIZED".equals(status.getState())
+											|| "TERMINATED".equals(status.getState()))
+							.whenCompleteAsync((status, pollError) -> {
+								if (pollError != null)
+									log.error("Exception in subscribeDataOffers" + pollError.getMessage());
+								saveContractNegotiationInfo(processId, offer, contractNegotiationId,
+										pollError == null ? status : null);
+							}, workers);
+				}));
+
+	}
+
+	private void saveContractNegotiationInfo(String processId, Offer offer, String contractNegotiationId,
+			ContractNegotiationDto checkContractNegotiationStatus) {
+		ContractNegotiationInfoEntity contractNegotiationInfoEntity = ContractNegotiationInfoEntity.builder()
+				.id(UUID.randomUUID().toString()).processId(processId).connectorId(offer.getConnectorId())
+				.offerId(offer.getOfferId()).contractNegotiationId(contractNegotiationId)
+				.status(checkContractNegotiationStatus != null ? checkContractNegotiationStatus.getState()
+						: "Failed:Exception")
+				.dateTime(LocalDateTime.now()).build();
 
+		contractNegotiationInfoRepository.save(contractNegotiationInfoEntity);
 	}
 
 	public Map<String, Object> subcribeAndDownloadOffer(Offer offer, ActionRequest action,
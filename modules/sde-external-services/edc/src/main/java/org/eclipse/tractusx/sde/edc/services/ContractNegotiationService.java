@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.edc.services;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
@@ -50,8 +51,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ContractNegotiationService extends AbstractEDCStepsHelper {
 
 	private final EDRRequestHelper edrRequestHelper;
-	private static final Integer RETRY = 5;
-	private static final Integer THRED_SLEEP_TIME = 5000;
+	private final EDRReadinessTracker edrReadinessTracker;
 
 	private final ContractNegotiateManagementHelper contractNegotiateManagement;
 
@@ -121,54 +121,44 @@ public class ContractNegotiationService extends AbstractEDCStepsHelper {
 		return eDRCachedResponse;
 	}
 
+	/**
+	 * Returns once the EDR of the asset is usable, or with the FINALIZED contract
+	 * agreement of the asset if no EDR showed up before the EDR polling timed
+	 * out. That fallback queries the connector, so it runs on the calling thread
+	 * and not on the few threads polling the EDRs of all consumer requests.
+	 */
 	@SneakyThrows
 	public EDRCachedResponse verifyEDRRequestStatus(String assetId) {
-		EDRCachedResponse eDRCachedResponse = null;
-		String edrStatus = "NewToSDE";
-		List<EDRCachedResponse> eDRCachedResponseList = null;
-		int counter = 1;
 		try {
-			do {
-				if (counter > 1)
-					Thread.sleep(THRED_SLEEP_TIME);
-
-				eDRCachedResponseList = edrRequestHelper.getEDRCachedByAsset(assetId);
-				eDRCachedResponse = verifyEDRResponse(eDRCachedResponseList);
-
-				if (eDRCachedResponse != null)
-					edrStatus = "FoundEDR";
-
-				log.info(LogUtil.encode("Verifying EDC EDR status to download data for '" + assetId + "', The current status is '"
-						+ edrStatus + "', Attempt " + counter));
-				counter++;
-			} while (counter <= RETRY && eDRCachedResponse == null);
-
-			if (eDRCachedResponse == null) {
-				String contractAgreementId = checkandGetContractAgreementId(assetId);
-				if (StringUtils.isNoneBlank(contractAgreementId)) {
-					eDRCachedResponse = EDRCachedResponse.builder().agreementId(contractAgreementId).assetId(assetId)
-							.build();
-				} else
-					throw new ServiceException(
-							"Time out!! unable to get Contract negotiation FINALIZED status for " + assetId);
-			}
+			EDRCachedResponse eDRCachedResponse = edrReadinessTracker.awaitEDR(assetId, this::verifyEDRResponse)
+					.join();
+			return eDRCachedResponse != null ? eDRCachedResponse : getContractAgreementAfterTimeout(assetId);
+		} catch (CompletionException e) {
+			throw edrRequestFailed(assetId, e.getCause());
+		} catch (Exception e) {
+			throw edrRequestFailed(assetId, e);
+		}
+	}
 
-		} catch (FeignException e) {
-			log.error("RequestBody: " + e.request());
-			String errorMsg = "FeignExceptionton for asset " + assetId + "," + e.contentUTF8();
+	private ServiceException edrRequestFailed(String assetId, Throwable cause) {
+		String errorMsg;
+		if (cause instanceof FeignException fe) {
+			log.error("RequestBody: " + fe.request());
+			errorMsg = "FeignExceptionton for asset " + assetId + "," + fe.contentUTF8();
 			log.error(LogUtil.encode("Response: " + errorMsg));
-			throw new ServiceException(errorMsg);
-		} catch (InterruptedException ie) {
-			Thread.currentThread().interrupt();
-			String errorMsg = "InterruptedException for asset " + assetId + "," + ie.getMessage();
+		} else {
+			errorMsg = "Exception for asset " + assetId + "," + cause.getMessage();
 			log.error(LogUtil.encode(errorMsg));
-			throw new ServiceException(errorMsg);
-		} catch (Exception e) {
-			String errorMsg = "Exception for asset " + assetId + "," + e.getMessage();
-			log.error(LogUtil.encode(errorMsg));
-			throw new ServiceException(errorMsg);
 		}
-		return eDRCachedResponse;
+		return new ServiceException(errorMsg);
+	}
+
+	@SneakyThrows
+	private EDRCachedResponse getContractAgreementAfterTimeout(String assetId) {
+		String contractAgreementId = checkandGetContractAgreementId(assetId);
+		if (StringUtils.isBlank(contractAgreementId))
+			throw new ServiceException("Time out!! unable to get Contract negotiation FINALIZED status for " + assetId);
+		return EDRCachedResponse.builder().agreementId(contractAgreementId).assetId(assetId).build();
 	}
 
 	@SneakyThrows
@@ -0,0 +1,269 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.edc.services;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.sde.edc.model.response.DataOfferQueryResult;
+import org.eclipse.tractusx.sde.edc.model.response.PartnerQueryStatus;
+import org.eclipse.tractusx.sde.edc.model.response.PartnerQueryStatus.Status;
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queries the data offers of several business partners at the same time. For
+ * every partner its digital twin registry offers are found first, then the
+ * twins of each registry are looked up, at most
+ * {@code edc.consumer.query.max-concurrent-per-partner} registries of one
+ * partner at a time, on a pool of {@code edc.consumer.query.threads} threads.
+ *
+ * A query waits at most {@code edc.consumer.query.partner-timeout-ms}, counted
+ * from its start, for each partner. The offers found until then are returned
+ * together with the status of every partner and registry, so a slow or
+ * unreachable connector only costs its own offers.
+ */
+@Slf4j
+@Component
+public class DataOfferQueryEngine {
+
+	@Value("${edc.consumer.query.threads:16}")
+	private int threads;
+
+	@Value("${edc.consumer.query.max-concurrent-per-partner:4}")
+	private int maxConcurrentPerPartner;
+
+	@Value("${edc.consumer.query.partner-timeout-ms:30000}")
+	private long partnerTimeoutMillis;
+
+	private ExecutorService queryPool;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadCount = new AtomicInteger();
+		queryPool = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "sde-offer-query-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void stop() {
+		queryPool.shutdownNow();
+	}
+
+	/**
+	 * @param findRegistries finds the digital twin registry offers of a partner
+	 * @param lookUpTwins    looks up the data offers in one registry of a
+	 *                       partner, fails if the registry can not be queried
+	 */
+	public DataOfferQueryResult query(List<String> bpnNumbers,
+			Function<String, List<QueryDataOfferModel>> findRegistries,
+			BiFunction<String, QueryDataOfferModel, List<QueryDataOfferModel>> lookUpTwins) {
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(partnerTimeoutMillis);
+
+		List<PartnerQuery> partnerQueries = bpnNumbers.stream().distinct()
+				.map(bpnNumber -> new PartnerQuery(bpnNumber, findRegistries, lookUpTwins)).toList();
+		partnerQueries.forEach(PartnerQuery::start);
+
+		Set<QueryDataOfferModel> offers = new HashSet<>();
+		List<PartnerQueryStatus> statuses = new ArrayList<>();
+		for (PartnerQuery partnerQuery : partnerQueries) {
+			partnerQuery.await(deadline);
+			offers.addAll(partnerQuery.offers);
+			statuses.addAll(partnerQuery.getStatuses());
+		}
+		return new DataOfferQueryResult(offers, statuses);
+	}
+
+	private class PartnerQuery {
+
+		private final String bpnNumber;
+
+		private final Function<String, List<QueryDataOfferModel>> findRegistries;
+
+		private final BiFunction<String, QueryDataOfferModel, List<QueryDataOfferModel>> lookUpTwins;
+
+		private final Queue<QueryDataOfferModel> offers = new ConcurrentLinkedQueue<>();
+
+		// by index of the registry
+		private final Map<Integer, PartnerQueryStatus> registryStatuses = new ConcurrentHashMap<>();
+
+		private final List<Future<?>> tasks = new ArrayList<>();
+
+		// completed when the last task of the partner ended
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		private final AtomicInteger runningTasks = new AtomicInteger();
+
+		private volatile List<QueryDataOfferModel> registries;
+
+		private volatile String error;
+
+		// set once the partner timed out, later results are dropped
+		private boolean closed;
+
+		PartnerQuery(String bpnNumber, Function<String, List<QueryDataOfferModel>> findRegistries,
+				BiFunction<String, QueryDataOfferModel, List<QueryDataOfferModel>> lookUpTwins) {
+			this.bpnNumber = bpnNumber;
+			this.findRegistries = findRegistries;
+			this.lookUpTwins = lookUpTwins;
+		}
+
+		void start() {
+			submit(this::findRegistries);
+		}
+
+		private void findRegistries() {
+			try {
+				List<QueryDataOfferModel> found = findRegistries.apply(bpnNumber);
+				registries = found == null ? List.of() : List.copyOf(found);
+
+				Queue<Integer> pendingRegistries = new ConcurrentLinkedQueue<>();
+				for (int i = 0; i < registries.size(); i++)
+					pendingRegistries.add(i);
+				int workers = Math.min(maxConcurrentPerPartner, pendingRegistries.size());
+				for (int i = 0; i < workers; i++)
+					submit(() -> lookUpTwins(pendingRegistries));
+			} catch (Exception e) {
+				log.error("Unable to find the digital twin registries of " + bpnNumber + ", " + e.getMessage());
+				error = e.getMessage();
+			}
+		}
+
+		private void lookUpTwins(Queue<Integer> pendingRegistries) {
+			Integer index;
+			while (!Thread.currentThread().isInterrupted() && (index = pendingRegistries.poll()) != null) {
+				QueryDataOfferModel registry = registries.get(index);
+				try {
+					List<QueryDataOfferModel> twins = lookUpTwins.apply(bpnNumber, registry);
+					complete(index, status(registry, Status.SUCCESS, null), twins);
+				} catch (Exception e) {
+					log.error("Unable to look up the digital twins of " + bpnNumber + " in "
+							+ registry.getConnectorOfferUrl() + ", " + e.getMessage());
+					complete(index, status(registry, Status.FAILED, e.getMessage()), List.of());
+				}
+			}
+		}
+
+		private synchronized void complete(Integer index, PartnerQueryStatus status, List<QueryDataOfferModel> twins) {
+			if (closed)
+				return;
+			offers.addAll(twins);
+			registryStatuses.put(index, status);
+		}
+
+		private void submit(Runnable task) {
+			runningTasks.incrementAndGet();
+			Runnable counted = () -> {
+				try {
+					task.run();
+				} finally {
+					if (runningTasks.decrementAndGet() == 0)
+						done.complete(null);
+				}
+			};
+			try {
+				synchronized (tasks) {
+					tasks.add(queryPool.submit(counted));
+				}
+			} catch (RejectedExecutionException e) {
+				error = "The data offer query is shut down";
+				if (runningTasks.decrementAndGet() == 0)
+					done.complete(null);
+			}
+		}
+
+		void await(long deadline) {
+			boolean timedOut = false;
+			try {
+				done.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				timedOut = true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				timedOut = true;
+			} catch (ExecutionException e) {
+				error = e.getMessage();
+			}
+
+			if (timedOut) {
+				log.warn("The data offer query of " + bpnNumber + " timed out after " + partnerTimeoutMillis + " ms");
+				synchronized (this) {
+					closed = true;
+				}
+				synchronized (tasks) {
+					tasks.forEach(task -> task.cancel(true));
+				}
+			}
+		}
+
+		List<PartnerQueryStatus> getStatuses() {
+			List<PartnerQueryStatus> statuses = new ArrayList<>();
+			List<QueryDataOfferModel> foundRegistries = registries;
+
+			if (error != null)
+				statuses.add(status(null, Status.FAILED, error));
+			else if (foundRegistries == null)
+				statuses.add(status(null, Status.TIMEOUT, "No digital twin registry found in time"));
+			else
+				statuses.add(status(null, Status.SUCCESS, null));
+
+			if (foundRegistries != null) {
+				for (int i = 0; i < foundRegistries.size(); i++)
+					statuses.add(registryStatuses.getOrDefault(i,
+							status(foundRegistries.get(i), Status.TIMEOUT, "No response in time")));
+			}
+			return statuses;
+		}
+
+		private PartnerQueryStatus status(QueryDataOfferModel registry, Status status, String error) {
+			return PartnerQueryStatus.builder().bpnNumber(bpnNumber)
+					.connectorOfferUrl(registry == null ? null : registry.getConnectorOfferUrl()).status(status)
+					.error(error).build();
+		}
+	}
+}
@@ -0,0 +1,262 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+
+package org.eclipse.tractusx.sde.edc.services;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.sde.common.utils.LogUtil;
+import org.eclipse.tractusx.sde.edc.facilitator.EDRRequestHelper;
+import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Waits for EDC state changes without blocking a thread per asset. Assets
+ * waiting for their EDR are collected and polled on a timer, all assets which
+ * are due at a tick with one EDR query. The delay between two polls of an
+ * asset starts with {@code edc.edr.poll.initial-delay-ms} and grows by
+ * {@code edc.edr.poll.backoff-multiplier} up to
+ * {@code edc.edr.poll.max-delay-ms}, a wait ends after
+ * {@code edc.edr.poll.timeout-ms}.
+ *
+ * The timer threads only collect the due assets and query their EDRs, the
+ * verification of the EDRs and the polled actions, which call the connector,
+ * run on the {@code edc.edr.poll.worker-threads} worker threads.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EDRReadinessTracker {
+
+	private final EDRRequestHelper edrRequestHelper;
+
+	@Value("${edc.edr.poll.threads:2}")
+	private int threads;
+
+	@Value("${edc.edr.poll.worker-threads:8}")
+	private int workerThreads;
+
+	@Value("${edc.edr.poll.interval-ms:500}")
+	private long intervalMillis;
+
+	@Value("${edc.edr.poll.initial-delay-ms:1000}")
+	private long initialDelayMillis;
+
+	@Value("${edc.edr.poll.backoff-multiplier:2}")
+	private double backoffMultiplier;
+
+	@Value("${edc.edr.poll.max-delay-ms:5000}")
+	private long maxDelayMillis;
+
+	@Value("${edc.edr.poll.timeout-ms:25000}")
+	private long timeoutMillis;
+
+	@Value("${edc.edr.poll.batch-size:50}")
+	private int batchSize;
+
+	private final Queue<PendingEDR> pendingEDRs = new ConcurrentLinkedQueue<>();
+
+	private ScheduledExecutorService scheduler;
+
+	private ExecutorService workers;
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadCount = new AtomicInteger();
+		scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "sde-edr-poll-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		AtomicInteger workerCount = new AtomicInteger();
+		workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+			Thread thread = new Thread(runnable, "sde-edr-worker-" + workerCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::pollPendingEDRs, intervalMillis, intervalMillis,
+				TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Executor for the remote calls and database writes which follow an EDR or
+	 * negotiation state change, so that they do not hold up the polling.
+	 */
+	public Executor getWorkerExecutor() {
+		return workers;
+	}
+
+	/**
+	 * Completes with the EDR the verifier picks from the EDR entries of the
+	 * asset, or with null if the verifier did not pick one before the timeout.
+	 * The asset is polled at the next tick, the verifier returns null to keep
+	 * waiting.
+	 */
+	public CompletableFuture<EDRCachedResponse> awaitEDR(String assetId,
+			Function<List<EDRCachedResponse>, EDRCachedResponse> verifier) {
+		PendingEDR pendingEDR = new PendingEDR(assetId, verifier, System.currentTimeMillis());
+		pendingEDRs.add(pendingEDR);
+		return pendingEDR.future;
+	}
+
+	/**
+	 * Calls the action with the backoff of the EDR polling until its result is
+	 * done, completes with the last result once the timeout is reached.
+	 */
+	public <T> CompletableFuture<T> poll(Supplier<T> action, Predicate<T> isDone) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		schedulePoll(action, isDone, future, initialDelayMillis, deadline);
+		return future;
+	}
+
+	private <T> void schedulePoll(Supplier<T> action, Predicate<T> isDone, CompletableFuture<T> future, long delay,
+			long deadline) {
+		scheduler.schedule(() -> workers.execute(() -> {
+			try {
+				T result = action.get();
+				if (isDone.test(result) || System.currentTimeMillis() >= deadline)
+					future.complete(result);
+				else
+					schedulePoll(action, isDone, future, nextDelay(delay), deadline);
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			}
+		}), delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void pollPendingEDRs() {
+		long now = System.currentTimeMillis();
+		List<PendingEDR> due = new ArrayList<>();
+		for (Iterator<PendingEDR> iterator = pendingEDRs.iterator(); iterator.hasNext();) {
+			PendingEDR pendingEDR = iterator.next();
+			if (pendingEDR.nextPollTime <= now) {
+				iterator.remove();
+				due.add(pendingEDR);
+			}
+		}
+
+		for (int from = 0; from < due.size(); from += batchSize) {
+			List<PendingEDR> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+			scheduler.execute(() -> pollBatch(batch));
+		}
+	}
+
+	private void pollBatch(List<PendingEDR> batch) {
+		Map<String, List<EDRCachedResponse>> edrsByAsset;
+		try {
+			List<String> assetIds = batch.stream().map(PendingEDR::getAssetId).distinct().toList();
+			edrsByAsset = edrRequestHelper.getEDRCachedByAssets(assetIds).stream()
+					.filter(edr -> Objects.nonNull(edr.getAssetId()))
+					.collect(Collectors.groupingBy(EDRCachedResponse::getAssetId));
+		} catch (Exception e) {
+			batch.forEach(pendingEDR -> pendingEDR.future.completeExceptionally(e));
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		for (PendingEDR pendingEDR : batch) {
+			List<EDRCachedResponse> edrs = edrsByAsset.getOrDefault(pendingEDR.assetId, List.of());
+			workers.execute(() -> verify(pendingEDR, edrs, now));
+		}
+	}
+
+	private void verify(PendingEDR pendingEDR, List<EDRCachedResponse> edrs, long now) {
+		try {
+			EDRCachedResponse edr = pendingEDR.verifier.apply(edrs);
+			pendingEDR.attempt++;
+			log.info(LogUtil.encode("Verifying EDC EDR status to download data for '" + pendingEDR.assetId
+					+ "', The current status is '" + (edr != null ? "FoundEDR" : "NewToSDE") + "', Attempt "
+					+ pendingEDR.attempt));
+
+			if (edr != null || now >= pendingEDR.deadline) {
+				pendingEDR.future.complete(edr);
+			} else {
+				pendingEDR.nextPollTime = now + pendingEDR.delay;
+				pendingEDR.delay = nextDelay(pendingEDR.delay);
+				pendingEDRs.add(pendingEDR);
+			}
+		} catch (Exception e) {
+			pendingEDR.future.completeExceptionally(e);
+		}
+	}
+
+	private long nextDelay(long delay) {
+		return Math.min(maxDelayMillis, (long) (delay * backoffMultiplier));
+	}
+
+	private class PendingEDR {
+
+		private final String assetId;
+
+		private final Function<List<EDRCachedResponse>, EDRCachedResponse> verifier;
+
+		private final CompletableFuture<EDRCachedResponse> future = new CompletableFuture<>();
+
+		private final long deadline;
+
+		private long nextPollTime;
+
+		private long delay = initialDelayMillis;
+
+		private int attempt;
+
+		PendingEDR(String assetId, Function<List<EDRCachedResponse>, EDRCachedResponse> verifier, long now) {
+			this.assetId = assetId;
+			this.verifier = verifier;
+			this.nextPollTime = now;
+			this.deadline = now + timeoutMillis;
+		}
+
+		String getAssetId() {
+			return assetId;
+		}
+	}
+}
@@ -42,10 +42,12 @@ import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorRe
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellLookupResponse;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelResponse;
 import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsUtility;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.ShellDescriptorFetcher;
 import org.eclipse.tractusx.sde.digitaltwins.gateways.external.EDCDigitalTwinProxyForLookUp;
 import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedByIdResponse;
 import org.eclipse.tractusx.sde.edc.model.request.QueryDataOfferRequest;
 import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.eclipse.tractusx.sde.edc.util.EDRTokenCache;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -67,6 +69,10 @@ public class LookUpDTTwin {
 	private final CatalogResponseBuilder catalogResponseBuilder;
 
 	private final SDEConfigurationProperties sdeConfigurationProperties;
+
+	private final ShellDescriptorFetcher shellDescriptorFetcher;
+
+	private final EDRTokenCache edrTokenCache;
 	
 	private ObjectMapper mapper= new ObjectMapper();
 	
@@ -117,6 +123,7 @@ public class LookUpDTTwin {
 					submodel, bpnNumber);
 
 		} catch (FeignException e) {
+			edrTokenCache.invalidateIfRejected(e, header.get("authorization"));
 			log.error(LogUtil.encode("LookUpTwinBasedOnBPNAndManufacturerPartId RequestBody: " + e.request()));
 			log.error(LogUtil.encode("LookUpTwinBasedOnBPNAndManufacturerPartId Response: " + e.responseBody()));
 			String error = e.contentUTF8();
@@ -143,6 +150,7 @@ public class LookUpDTTwin {
 				preapreSubmodelResult(submodel, queryOnDataOffers, shellDescriptorResponse, searchBPN);
 
 		} catch (FeignException e) {
+			edrTokenCache.invalidateIfRejected(e, header.get("authorization"));
 			log.error(LogUtil.encode("FeignException LookUpAllShellForBPN request : "+e.request()));
 			String error = e.contentUTF8();
 			error = StringUtils.isBlank(error) ? e.getMessage() : error;
@@ -162,19 +170,27 @@ public class LookUpDTTwin {
 	private List<QueryDataOfferModel> getSubmodelDetails(ShellLookupRequest shellLookupRequest, String endpoint,
 			Map<String, String> header, String dtOfferUrl, List<String> shellIds, String submodel, String searchBPN) {
 		List<QueryDataOfferModel> queryOnDataOffers = new ArrayList<>();
+		URI registryUri = new URI(endpoint);
 
-		for (String shellId : shellIds) {
-			String shellDescriptorResponseStr = eDCDigitalTwinProxyForLookUp.getShellDescriptorByShellId(
-					new URI(endpoint), digitalTwinsUtility.encodeValueAsBase64Utf8(shellId), header);
-			log.debug(LogUtil.encode("The sehll information for " + shellLookupRequest.toJsonString() + ", response :"
-					+ shellDescriptorResponseStr));
-			ShellDescriptorResponse shellDescriptorResponse = mapper.readValue(shellDescriptorResponseStr,
-					ShellDescriptorResponse.class); 
+		List<ShellDescriptorResponse> shellDescriptorResponses = shellDescriptorFetcher.fetch(endpoint, shellIds,
+				shellId -> readShellDescriptor(registryUri, shellId, header, shellLookupRequest),
+				(cursor, limit) -> eDCDigitalTwinProxyForLookUp.getShellDescriptors(registryUri, limit, cursor, header));
+
+		for (ShellDescriptorResponse shellDescriptorResponse : shellDescriptorResponses)
 			preapreSubmodelResult(submodel, queryOnDataOffers, shellDescriptorResponse, searchBPN);
-		}
 		return queryOnDataOffers;
 	}
 
+	@SneakyThrows
+	private ShellDescriptorResponse readShellDescriptor(URI registryUri, String shellId, Map<String, String> header,
+			ShellLookupRequest shellLookupRequest) {
+		String shellDescriptorResponseStr = eDCDigitalTwinProxyForLookUp.getShellDescriptorByShellId(registryUri,
+				digitalTwinsUtility.encodeValueAsBase64Utf8(shellId), header, shellDescriptorFetcher.getCallOptions());
+		log.debug(LogUtil.encode("The sehll information for " + shellLookupRequest.toJsonString() + ", response :"
+				+ shellDescriptorResponseStr));
+		return mapper.readValue(shellDescriptorResponseStr, ShellDescriptorResponse.class);
+	}
+
 	private void preapreSubmodelResult(String submodel, List<QueryDataOfferModel> queryOnDataOffers,
 			ShellDescriptorResponse shellDescriptorResponse, String searchBPN) {
 
@@ -67,32 +67,42 @@ public class EDCAssetLookUp {
 		String filterCriteriaList = gson.toJson(filterCriteria);
 		String filterExpression = String.format(filterExpressionTemplate, filterCriteriaList);
 
-		distinctList.stream().forEach(
-				connectorInfo -> connectorInfo.getConnectorEndpoint().parallelStream().distinct().forEach(connector -> {
-					try {
-						if (!connector.contains(consumerHost)) {
+		// the connectors of a partner are queried in parallel, their offers are
+		// collected by the stream instead of being added to a shared list
+		for (ConnectorInfo connectorInfo : distinctList) {
+			offers.addAll(connectorInfo.getConnectorEndpoint().parallelStream().distinct()
+					.flatMap(connector -> queryConnector(connectorInfo.getBpn(), connector, filterCriteria,
+							filterExpression).stream())
+					.toList());
+		}
 
-							List<QueryDataOfferModel> queryDataOfferModel = catalogResponseBuilder
-									.queryOnDataOffers(connector, connectorInfo.getBpn(), 0, 100, filterExpression);
+		return offers;
+	}
 
-							log.info("For Connector " + connector + ", found " + filterCriteria.toString() + " assets :"
-									+ queryDataOfferModel.size());
+	private List<QueryDataOfferModel> queryConnector(String bpnNumber, String connector,
+			List<Criterion> filterCriteria, String filterExpression) {
+		try {
+			if (!connector.contains(consumerHost)) {
 
-							queryDataOfferModel.forEach(each -> each.setConnectorOfferUrl(connector));
+				List<QueryDataOfferModel> queryDataOfferModel = catalogResponseBuilder.queryOnDataOffers(connector,
+						bpnNumber, 0, 100, filterExpression);
 
-							offers.addAll(queryDataOfferModel);
+				log.info("For Connector " + connector + ", found " + filterCriteria.toString() + " assets :"
+						+ queryDataOfferModel.size());
 
-						} else {
-							log.warn("The Consumer and Provider Connector are same so ignoring it for lookup "
-									+ filterCriteria.toString() + " in to " + connector);
-						}
+				queryDataOfferModel.forEach(each -> each.setConnectorOfferUrl(connector));
 
-					} catch (Exception e) {
-						log.error("Error while looking EDC catalog for " + filterCriteria.toString() + ", " + connector
-								+ ", Exception :" + e.getMessage());
-					}
-				}));
+				return queryDataOfferModel;
 
-		return offers;
+			} else {
+				log.warn("The Consumer and Provider Connector are same so ignoring it for lookup "
+						+ filterCriteria.toString() + " in to " + connector);
+			}
+
+		} catch (Exception e) {
+			log.error("Error while looking EDC catalog for " + filterCriteria.toString() + ", " + connector
+					+ ", Exception :" + e.getMessage());
+		}
+		return List.of();
 	}
 }
\ No newline at end of file
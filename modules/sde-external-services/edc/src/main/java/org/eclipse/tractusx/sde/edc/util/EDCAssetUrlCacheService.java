@@ -34,6 +34,7 @@ import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedResponse;
 import org.eclipse.tractusx.sde.edc.model.request.Offer;
 import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
 import org.eclipse.tractusx.sde.edc.services.ContractNegotiationService;
+import org.eclipse.tractusx.sde.edc.util.EDRTokenCache.CachedToken;
 import org.springframework.stereotype.Service;
 
 import feign.FeignException;
@@ -60,8 +61,37 @@ public class EDCAssetUrlCacheService {
 	
 	private final EDCAssetConfigurableConstant edcAssetConfigurableConstant;
 
-	@SneakyThrows
+	private final EDRTokenCache edrTokenCache;
+
+	/**
+	 * Returns the EDR token of the offer, repeated lookups of the same offer are
+	 * served from the EDR token cache without negotiation round-trips.
+	 */
 	public EDRCachedByIdResponse verifyAndGetToken(String bpnNumber, QueryDataOfferModel queryDataOfferModel) {
+		return edrTokenCache.get(queryDataOfferModel, this::refreshToken,
+				() -> negotiateToken(bpnNumber, queryDataOfferModel));
+	}
+
+	/**
+	 * Drops the EDR token from the cache if the provider rejected it, the next
+	 * lookup of its offer negotiates again.
+	 */
+	public void invalidateTokenIfRejected(FeignException e, EDRCachedByIdResponse edrToken) {
+		if (edrToken != null)
+			edrTokenCache.invalidateIfRejected(e, edrToken.getAuthorization());
+	}
+
+	// the EDR is read with auto_refresh, so the EDC renews a token which is about
+	// to expire without a new negotiation
+	private CachedToken refreshToken(CachedToken cached) {
+		if (StringUtils.isBlank(cached.transferProcessId()))
+			return null;
+		return edrTokenCache.toCachedToken(cached.transferProcessId(),
+				contractNegotiationService.getAuthorizationTokenForDataDownload(cached.transferProcessId()));
+	}
+
+	@SneakyThrows
+	private CachedToken negotiateToken(String bpnNumber, QueryDataOfferModel queryDataOfferModel) {
 
 		ActionRequest action = policyConstraintBuilderService
 				.getUsagePoliciesConstraints(queryDataOfferModel.getPolicy().getUsagePolicies());
@@ -81,8 +111,8 @@ public class EDCAssetUrlCacheService {
 						+ queryDataOfferModel.getConnectorOfferUrl() + ", " + queryDataOfferModel.getAssetId()
 						+ "', The current status is null");
 			} else
-				return contractNegotiationService
-						.getAuthorizationTokenForDataDownload(eDRCachedResponse.getTransferProcessId());
+				return edrTokenCache.toCachedToken(eDRCachedResponse.getTransferProcessId(), contractNegotiationService
+						.getAuthorizationTokenForDataDownload(eDRCachedResponse.getTransferProcessId()));
 
 		} catch (FeignException e) {
 			log.error("FeignException Request : " + e.request());
@@ -0,0 +1,242 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.tractusx.sde.common.utils.LogUtil;
+import org.eclipse.tractusx.sde.edc.model.edr.EDRCachedByIdResponse;
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * EDR tokens of the data offers of remote connectors, keyed by connector URL,
+ * asset id and policy id. A token is valid until the {@code exp} claim of its
+ * JWT, a token without readable {@code exp} until its {@code expiresIn} or
+ * {@code edc.edr.token-cache.default-ttl-ms}. Within
+ * {@code edc.edr.token-cache.refresh-before-expiry-ms} of the expiry a token is
+ * refreshed before it is handed out again.
+ */
+@Slf4j
+@Component
+public class EDRTokenCache {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Value("${edc.edr.token-cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${edc.edr.token-cache.refresh-before-expiry-ms:30000}")
+	private long refreshBeforeExpiryMillis;
+
+	@Value("${edc.edr.token-cache.default-ttl-ms:300000}")
+	private long defaultTtlMillis;
+
+	@Value("${edc.edr.token-cache.max-entries:10000}")
+	private int maxEntries;
+
+	private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+
+	/**
+	 * Lock of every offer whose token is being loaded, removed again once the
+	 * load finished.
+	 */
+	private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+	public record CachedToken(String transferProcessId, EDRCachedByIdResponse token, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+
+	/**
+	 * Returns the cached token of the offer, or the token the supplier loads if
+	 * there is none or the cached one is about to expire. Concurrent calls for
+	 * the same offer wait for one load. The refresher gets the cached token
+	 * which is about to expire and returns null if it can not be refreshed, in
+	 * that case the token is loaded again.
+	 */
+	public EDRCachedByIdResponse get(QueryDataOfferModel offer,
+			Function<CachedToken, CachedToken> refresher, Supplier<CachedToken> loader) {
+
+		if (!enabled) {
+			CachedToken loaded = loader.get();
+			return loaded == null ? null : loaded.token();
+		}
+
+		String key = getKey(offer);
+		CachedToken cached = getValid(key);
+		if (cached != null)
+			return cached.token();
+
+		while (true) {
+			Object lock = locks.computeIfAbsent(key, k -> new Object());
+			synchronized (lock) {
+				// the lock was released by the previous load, wait for the current one
+				if (locks.get(key) != lock)
+					continue;
+				try {
+					return load(key, offer, refresher, loader);
+				} finally {
+					locks.remove(key);
+				}
+			}
+		}
+	}
+
+	private EDRCachedByIdResponse load(String key, QueryDataOfferModel offer,
+			Function<CachedToken, CachedToken> refresher, Supplier<CachedToken> loader) {
+		CachedToken cached = tokens.get(key);
+		long now = System.currentTimeMillis();
+		if (cached != null && !isExpiring(cached, now))
+			return cached.token();
+
+		CachedToken result = cached == null ? null : refreshQuietly(offer, refresher, cached);
+		if (result == null || result.isExpired(System.currentTimeMillis())) {
+			tokens.remove(key);
+			result = loader.get();
+		}
+		if (result == null || result.token() == null)
+			return null;
+		put(key, result);
+		return result.token();
+	}
+
+	/**
+	 * Creates the cache entry of a token, its expiry is read from the token.
+	 */
+	public CachedToken toCachedToken(String transferProcessId, EDRCachedByIdResponse token) {
+		if (token == null)
+			return null;
+		return new CachedToken(transferProcessId, token, getExpiresAt(token));
+	}
+
+	public void invalidate(QueryDataOfferModel offer) {
+		tokens.remove(getKey(offer));
+	}
+
+	/**
+	 * Drops the token with the authorization if the provider rejected it with
+	 * 401 or 403, so that the next lookup of its offer negotiates again instead
+	 * of handing out the rejected token until it expires.
+	 */
+	public boolean invalidateIfRejected(FeignException e, String authorization) {
+		if (!isTokenRejected(e) || StringUtils.isBlank(authorization))
+			return false;
+		boolean removed = tokens.values().removeIf(cached -> authorization.equals(cached.token().getAuthorization()));
+		if (removed)
+			log.info("The EDR token was rejected with status " + e.status() + ", removed it from the EDR token cache");
+		return removed;
+	}
+
+	public static boolean isTokenRejected(FeignException e) {
+		return e.status() == 401 || e.status() == 403;
+	}
+
+	public void clear() {
+		tokens.clear();
+	}
+
+	public int size() {
+		return tokens.size();
+	}
+
+	private CachedToken getValid(String key) {
+		CachedToken cached = tokens.get(key);
+		return cached != null && !isExpiring(cached, System.currentTimeMillis()) ? cached : null;
+	}
+
+	private boolean isExpiring(CachedToken cached, long now) {
+		return now >= cached.expiresAt() - refreshBeforeExpiryMillis;
+	}
+
+	private CachedToken refreshQuietly(QueryDataOfferModel offer,
+			Function<CachedToken, CachedToken> refresher, CachedToken cached) {
+		try {
+			return refresher.apply(cached);
+		} catch (Exception e) {
+			log.warn(LogUtil.encode("Unable to refresh the EDR token of " + offer.getConnectorOfferUrl() + ", "
+					+ offer.getAssetId() + ", negotiating again because: " + e.getMessage()));
+			return null;
+		}
+	}
+
+	private void put(String key, CachedToken cached) {
+		if (tokens.size() >= maxEntries) {
+			long now = System.currentTimeMillis();
+			tokens.values().removeIf(token -> token.isExpired(now));
+			if (tokens.size() >= maxEntries && !tokens.containsKey(key))
+				return;
+		}
+		tokens.put(key, cached);
+	}
+
+	private long getExpiresAt(EDRCachedByIdResponse token) {
+		long now = System.currentTimeMillis();
+		Long exp = getJwtExpiry(token.getAuthorization());
+		if (exp != null)
+			return exp * 1000;
+
+		if (StringUtils.isNumeric(token.getExpiresIn()))
+			return now + Long.parseLong(token.getExpiresIn()) * 1000;
+
+		return now + defaultTtlMillis;
+	}
+
+	private Long getJwtExpiry(String authorization) {
+		if (StringUtils.isBlank(authorization))
+			return null;
+		String jwt = authorization.startsWith(BEARER_PREFIX) ? authorization.substring(BEARER_PREFIX.length())
+				: authorization;
+		String[] parts = jwt.split("\\.");
+		if (parts.length < 2)
+			return null;
+		try {
+			JsonNode claims = objectMapper
+					.readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+			JsonNode exp = claims.get("exp");
+			return exp != null && exp.canConvertToLong() ? exp.asLong() : null;
+		} catch (Exception e) {
+			log.debug("Unable to read the exp claim of the EDR token: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private static String getKey(QueryDataOfferModel offer) {
+		return offer.getConnectorOfferUrl() + "\u0000" + offer.getAssetId() + "\u0000" + offer.getPolicyId();
+	}
+}
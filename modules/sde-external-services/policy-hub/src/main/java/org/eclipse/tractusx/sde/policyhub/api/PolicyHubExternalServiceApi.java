@@ -21,6 +21,7 @@ package org.eclipse.tractusx.sde.policyhub.api;
 
 import java.net.URI;
 
+import org.eclipse.tractusx.sde.common.utils.AccessTokenManager;
 import org.eclipse.tractusx.sde.common.utils.TokenUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -57,7 +58,8 @@ class PolicyHubExternalServiceApiInterceptor implements RequestInterceptor {
 	@Autowired
 	private TokenUtility tokenUtilityforBpn;
 
-	private String policyHubAccessToken;
+	@Autowired
+	private AccessTokenManager accessTokenManager;
 
 	@Override
 	public void apply(RequestTemplate template) {
@@ -67,11 +69,8 @@ class PolicyHubExternalServiceApiInterceptor implements RequestInterceptor {
 
 	@SneakyThrows
 	public String getTokenForBPN() {
-		if (policyHubAccessToken != null && tokenUtilityforBpn.isTokenValid(policyHubAccessToken)) {
-			return "Bearer " + policyHubAccessToken;
-		}
-		policyHubAccessToken = tokenUtilityforBpn.getToken(policyHubTokenURI, policyHubGrantType, policyHubClientId, policyHubClientSecret);
-		return "Bearer " + policyHubAccessToken;
+		return "Bearer " + accessTokenManager.getToken("policy-hub", () -> tokenUtilityforBpn
+				.getToken(policyHubTokenURI, policyHubGrantType, policyHubClientId, policyHubClientSecret));
 	}
 	
 }
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.portal.api;
 
 import java.net.URI;
 
+import org.eclipse.tractusx.sde.common.utils.AccessTokenManager;
 import org.eclipse.tractusx.sde.common.utils.TokenUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -58,7 +59,8 @@ class PartnerPoolExternalServiceApiInterceptor implements RequestInterceptor {
 	@Autowired
 	private TokenUtility tokenUtilityForPartner;
 
-	private String accessTokenForPartner;
+	@Autowired
+	private AccessTokenManager accessTokenManager;
 
 	@Override
 	public void apply(RequestTemplate template) {
@@ -68,12 +70,8 @@ class PartnerPoolExternalServiceApiInterceptor implements RequestInterceptor {
 
 	@SneakyThrows
 	public String getTokenForPartner() {
-		if (accessTokenForPartner != null && tokenUtilityForPartner.isTokenValid(accessTokenForPartner)) {
-			return "Bearer " + accessTokenForPartner;
-		}
-		accessTokenForPartner = tokenUtilityForPartner.getToken(partnerAppTokenURI, partnerGrantType,
-				partnerAppClientId, partnerAppClientSecret);
-		return "Bearer " + accessTokenForPartner;
+		return "Bearer " + accessTokenManager.getToken("partner-pool", () -> tokenUtilityForPartner
+				.getToken(partnerAppTokenURI, partnerGrantType, partnerAppClientId, partnerAppClientSecret));
 	}
 
 }
\ No newline at end of file
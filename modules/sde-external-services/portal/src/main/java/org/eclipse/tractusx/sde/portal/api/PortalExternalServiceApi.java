@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.portal.api;
 
 import java.net.URI;
 
+import org.eclipse.tractusx.sde.common.utils.AccessTokenManager;
 import org.eclipse.tractusx.sde.common.utils.TokenUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -58,7 +59,8 @@ class PortalExternalServiceApiInterceptor implements RequestInterceptor {
 	@Autowired
 	private TokenUtility tokenUtilityForPortal;
 
-	private String portalAaccessToken;
+	@Autowired
+	private AccessTokenManager accessTokenManager;
 
 	@Override
 	public void apply(RequestTemplate template) {
@@ -68,11 +70,8 @@ class PortalExternalServiceApiInterceptor implements RequestInterceptor {
 
 	@SneakyThrows
 	public String getTokenForPortal() {
-		if (portalAaccessToken != null && tokenUtilityForPortal.isTokenValid(portalAaccessToken)) {
-			return "Bearer " + portalAaccessToken;
-		}
-		portalAaccessToken = tokenUtilityForPortal.getToken(portalAppTokenURI, portalGrantType, portalAppClientId, portalAppClientSecret);
-		return "Bearer " + portalAaccessToken;
+		return "Bearer " + accessTokenManager.getToken("portal", () -> tokenUtilityForPortal
+				.getToken(portalAppTokenURI, portalGrantType, portalAppClientId, portalAppClientSecret));
 	}
 
 }